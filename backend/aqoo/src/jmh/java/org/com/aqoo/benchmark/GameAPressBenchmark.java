@@ -0,0 +1,97 @@
+package org.com.aqoo.benchmark;
+
+import org.com.aqoo.domain.gameA.dto.PressMessage;
+import org.com.aqoo.domain.gameA.model.GameARoomState;
+import org.com.aqoo.domain.gameA.service.GameAService;
+import org.com.aqoo.domain.gamecore.engine.InputSender;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.ThreadParams;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GameAService.handleInput 처리량 벤치마크 (항상 정답 방향 입력)
+ * 실행 예: java -jar aqoo-jmh.jar GameAPressBenchmark -t 4 -prof gc
+ *  (-t 로 스레드 수, -prof gc 로 입력당 할당량(gc.alloc.rate.norm) 확인)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GameAPressBenchmark {
+
+    /** 한 판이 벤치마크 반복 중에 끝나지 않도록 충분히 긴 시퀀스 */
+    private static final int SEQUENCE_LENGTH = 1 << 20;
+
+    @Param({"2", "4", "8"})
+    public int roomSize;
+
+    @Param({"1", "16", "256"})
+    public int rooms;
+
+    @Param({"false", "true"})
+    public boolean deltaEnabled;
+
+    GameBenchmarkFixture fixture;
+    GameAService service;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        fixture = new GameBenchmarkFixture(rooms, roomSize, deltaEnabled);
+        service = new GameAService(fixture.engineSupport);
+        ReflectionTestUtils.setField(service, "sequenceLength", SEQUENCE_LENGTH);
+        ReflectionTestUtils.setField(service, "includeDirectionList", false);
+        ReflectionTestUtils.setField(service, "durationSeconds", 3600L);
+        for (String roomId : fixture.roomIds) {
+            service.startGame(roomId);
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        fixture.close();
+    }
+
+    @State(Scope.Thread)
+    public static class Player {
+        int[][] targets;
+        int cursor;
+        PressMessage[] messages;
+        InputSender[] senders;
+        GameARoomState[] states;
+        int[] slots;
+
+        @Setup(Level.Iteration)
+        public void setUp(GameAPressBenchmark benchmark, ThreadParams threadParams) {
+            targets = benchmark.fixture.targetsFor(threadParams.getThreadIndex(), threadParams.getThreadCount());
+            messages = new PressMessage[targets.length];
+            senders = new InputSender[targets.length];
+            states = new GameARoomState[targets.length];
+            slots = new int[targets.length];
+            for (int i = 0; i < targets.length; i++) {
+                String roomId = benchmark.fixture.roomIds.get(targets[i][0]);
+                String userName = benchmark.fixture.members.get(targets[i][0]).get(targets[i][1]);
+                messages[i] = new PressMessage();
+                messages[i].setRoomId(roomId);
+                messages[i].setUserName(userName);
+                states[i] = benchmark.fixture.gameRoomRegistry.get(roomId, GameARoomState.class);
+                slots[i] = states[i].slotOf(userName);
+                senders[i] = new InputSender(roomId, userName, slots[i]);
+            }
+        }
+    }
+
+    @Benchmark
+    public void processPress(Player player) {
+        int i = player.cursor;
+        player.cursor = (i + 1) % player.messages.length;
+        GameARoomState state = player.states[i];
+        PressMessage message = player.messages[i];
+        // 현재 점수 = 다음에 입력할 시퀀스 위치
+        message.setDirection(state.getDirectionSequence().directionAt(state.scoreOf(player.slots[i])));
+        service.handleInput(player.senders[i], message);
+    }
+}
@@ -0,0 +1,76 @@
+package org.com.aqoo.benchmark;
+
+import org.com.aqoo.domain.gameB.dto.EatMessage;
+import org.com.aqoo.domain.gameB.service.GameBService;
+import org.com.aqoo.domain.gamecore.engine.InputSender;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.ThreadParams;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GameBService.handleInput 처리량 벤치마크 (FEED 입력, 점수 증가 경로)
+ * 실행 예: java -jar aqoo-jmh.jar GameBEatBenchmark -t 4 -prof gc
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GameBEatBenchmark {
+
+    @Param({"2", "4", "8"})
+    public int roomSize;
+
+    @Param({"1", "16", "256"})
+    public int rooms;
+
+    @Param({"false", "true"})
+    public boolean deltaEnabled;
+
+    GameBenchmarkFixture fixture;
+    GameBService service;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        fixture = new GameBenchmarkFixture(rooms, roomSize, deltaEnabled);
+        service = new GameBService(fixture.engineSupport);
+        ReflectionTestUtils.setField(service, "durationSeconds", 3600L);
+        for (String roomId : fixture.roomIds) {
+            service.startGame(roomId);
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        fixture.close();
+    }
+
+    @State(Scope.Thread)
+    public static class Player {
+        EatMessage[] messages;
+        InputSender[] senders;
+        int cursor;
+
+        @Setup(Level.Iteration)
+        public void setUp(GameBEatBenchmark benchmark, ThreadParams threadParams) {
+            int[][] targets = benchmark.fixture.targetsFor(threadParams.getThreadIndex(), threadParams.getThreadCount());
+            messages = new EatMessage[targets.length];
+            senders = new InputSender[targets.length];
+            for (int i = 0; i < targets.length; i++) {
+                messages[i] = new EatMessage(benchmark.fixture.roomIds.get(targets[i][0]),
+                        benchmark.fixture.members.get(targets[i][0]).get(targets[i][1]), "FEED");
+                senders[i] = benchmark.fixture.senderOf(messages[i].getRoomId(), messages[i].getUserName());
+            }
+        }
+    }
+
+    @Benchmark
+    public void processEat(Player player) {
+        int i = player.cursor;
+        player.cursor = (i + 1) % player.messages.length;
+        service.handleInput(player.senders[i], player.messages[i]);
+    }
+}
@@ -0,0 +1,156 @@
+package org.com.aqoo.benchmark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.com.aqoo.domain.chat.model.ChatRoom;
+import org.com.aqoo.domain.chat.service.ChatRoomService;
+import org.com.aqoo.domain.gamecore.engine.GameEngineSupport;
+import org.com.aqoo.domain.gamecore.engine.GameRoom;
+import org.com.aqoo.domain.gamecore.engine.GameRoomRegistry;
+import org.com.aqoo.domain.gamecore.engine.InputSender;
+import org.com.aqoo.domain.gamecore.journal.GameJournal;
+import org.com.aqoo.domain.gamecore.metrics.GameMetrics;
+import org.com.aqoo.domain.gamecore.service.BinarySubscriptionTracker;
+import org.com.aqoo.domain.gamecore.service.GameBroadcaster;
+import org.com.aqoo.domain.gamecore.service.GameEventLogger;
+import org.com.aqoo.domain.gamecore.service.GameTickScheduler;
+import org.com.aqoo.domain.gamecore.service.GameTimerWheel;
+import org.com.aqoo.domain.gamecore.service.PlayerProfileService;
+import org.com.aqoo.domain.gamecore.service.RoomShardExecutor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 벤치마크용 게임 서비스 의존성 묶음
+ * 측정 경로에 mock 프레임워크의 호출 기록/인자 매칭 비용이 섞이지 않도록 모두 직접 만든 stub 을 사용합니다.
+ *  - 메시지 전송은 변환/전송 없이 건수만 세는 템플릿 (브로드캐스트 비용 제외)
+ *  - UserService 없이 프로필 서비스를 만들어 조회는 기본 프로필로 처리 (startGame 에서만 호출, 측정 구간 밖)
+ *  - 샤드 실행기는 벤치마크 스레드에서 바로 실행, 타이머 바퀴/틱은 시작하지 않은 실제 객체
+ *  - rooms 개의 채팅방에 roomSize 명씩 입장시킨 상태를 만들어 둡니다.
+ */
+final class GameBenchmarkFixture {
+
+    final CountingMessagingTemplate messagingTemplate = new CountingMessagingTemplate();
+    final StubChatRoomService chatRoomService = new StubChatRoomService();
+    /** start() 를 호출하지 않으므로 예약만 쌓이고 실행되지 않음 (판당 한 번, 측정 구간 밖) */
+    final GameTimerWheel gameTimerWheel = new GameTimerWheel();
+    final RoomShardExecutor roomShardExecutor = new InlineShardExecutor();
+    /** game.tick.enabled 기본값(false): 입력마다 바로 브로드캐스트 */
+    final GameTickScheduler gameTickScheduler = new GameTickScheduler();
+    final GameBroadcaster gameBroadcaster;
+    final PlayerProfileService playerProfileService;
+    final GameMetrics gameMetrics = new GameMetrics(new SimpleMeterRegistry());
+    final GameEventLogger gameEventLogger = new GameEventLogger();
+    /** 기본값(비활성) 저널: 기록 비용 제외 */
+    final GameJournal gameJournal = new GameJournal();
+    final GameRoomRegistry gameRoomRegistry = new GameRoomRegistry();
+    final GameEngineSupport engineSupport;
+
+    final List<String> roomIds = new ArrayList<>();
+    /** roomIds 와 같은 순서의 방 멤버 목록 */
+    final List<List<String>> members = new ArrayList<>();
+
+    GameBenchmarkFixture(int rooms, int roomSize, boolean deltaEnabled) {
+        gameBroadcaster = new GameBroadcaster(messagingTemplate, new BinarySubscriptionTracker());
+        ReflectionTestUtils.setField(gameBroadcaster, "deltaEnabled", deltaEnabled);
+        playerProfileService = new PlayerProfileService(null);
+        ReflectionTestUtils.setField(playerProfileService, "maxSize", 10000);
+        ReflectionTestUtils.setField(playerProfileService, "ttlSeconds", 300L);
+        ReflectionTestUtils.setField(gameEventLogger, "bufferSize", 65536);
+        ReflectionTestUtils.setField(gameEventLogger, "sampleEvery", 64);
+        ReflectionTestUtils.setField(gameEventLogger, "flushIntervalMillis", 100L);
+        gameEventLogger.start();
+        engineSupport = new GameEngineSupport(gameRoomRegistry, gameBroadcaster, chatRoomService, playerProfileService,
+                gameTimerWheel, roomShardExecutor, gameMetrics, gameEventLogger, gameJournal);
+
+        for (int r = 0; r < rooms; r++) {
+            String roomId = UUID.randomUUID().toString();
+            List<String> roomMembers = new ArrayList<>(roomSize);
+            ChatRoom room = new ChatRoom(roomId, "user-" + r + "-0");
+            for (int p = 0; p < roomSize; p++) {
+                String userName = "user-" + r + "-" + p;
+                room.addMember(userName);
+                roomMembers.add(userName);
+            }
+            chatRoomService.rooms.put(roomId, room);
+            roomIds.add(roomId);
+            members.add(roomMembers);
+        }
+    }
+
+    /** 전송 요청을 세기만 하는 템플릿 (GameBroadcaster 가 쓰는 두 가지 convertAndSend 만 재정의) */
+    static final class CountingMessagingTemplate extends SimpMessagingTemplate {
+        long sent;
+
+        CountingMessagingTemplate() {
+            super((message, timeout) -> true);
+        }
+
+        @Override
+        public void convertAndSend(String destination, Object payload) {
+            sent++;
+        }
+
+        @Override
+        public void convertAndSend(String destination, Object payload, Map<String, Object> headers) {
+            sent++;
+        }
+    }
+
+    /** 게임 엔진이 쓰는 getRoom 만 미리 만든 방으로 응답 */
+    static final class StubChatRoomService extends ChatRoomService {
+        final Map<String, ChatRoom> rooms = new HashMap<>();
+
+        StubChatRoomService() {
+            super(null, null, null, null, null, null, null);
+        }
+
+        @Override
+        public ChatRoom getRoom(String roomId) {
+            return rooms.get(roomId);
+        }
+    }
+
+    /** 방 작업을 호출한 스레드에서 바로 실행 */
+    static final class InlineShardExecutor extends RoomShardExecutor {
+        @Override
+        public void execute(String roomId, Runnable task) {
+            task.run();
+        }
+    }
+
+    void close() {
+        gameEventLogger.stop();
+    }
+
+    /** 시작된 판의 슬롯을 힌트로 담은 입력자 (세션에서 슬롯을 받는 실제 경로와 같게) */
+    InputSender senderOf(String roomId, String userName) {
+        return new InputSender(roomId, userName, gameRoomRegistry.get(roomId, GameRoom.class).slotOf(userName));
+    }
+
+    /**
+     * 스레드별 입력 대상 (방, 플레이어) 목록
+     * 같은 플레이어를 여러 스레드가 동시에 누르지 않도록 threadIndex 로 나눠 갖습니다.
+     */
+    int[][] targetsFor(int threadIndex, int threadCount) {
+        List<int[]> targets = new ArrayList<>();
+        int pair = 0;
+        for (int r = 0; r < roomIds.size(); r++) {
+            for (int p = 0; p < members.get(r).size(); p++, pair++) {
+                if (pair % threadCount == threadIndex) {
+                    targets.add(new int[]{r, p});
+                }
+            }
+        }
+        if (targets.isEmpty()) {
+            int r = threadIndex % roomIds.size();
+            targets.add(new int[]{r, threadIndex % members.get(r).size()});
+        }
+        return targets.toArray(new int[0][]);
+    }
+}
@@ -0,0 +1,79 @@
+package org.com.aqoo.benchmark;
+
+import org.com.aqoo.domain.game.dto.PressMessage;
+import org.com.aqoo.domain.game.service.GameService;
+import org.com.aqoo.domain.gamecore.engine.InputSender;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.ThreadParams;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GameService.handleInput (스페이스바 탭) 처리량 벤치마크
+ * pressCount 0 으로 입력하여 반복 중 100점 도달로 게임이 끝나지 않게 하고, 점수 갱신/브로드캐스트 경로만 측정합니다.
+ * 실행 예: java -jar aqoo-jmh.jar GameTapPressBenchmark -t 4 -prof gc
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GameTapPressBenchmark {
+
+    @Param({"2", "4", "8"})
+    public int roomSize;
+
+    @Param({"1", "16", "256"})
+    public int rooms;
+
+    @Param({"false", "true"})
+    public boolean deltaEnabled;
+
+    GameBenchmarkFixture fixture;
+    GameService service;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        fixture = new GameBenchmarkFixture(rooms, roomSize, deltaEnabled);
+        service = new GameService(fixture.engineSupport, fixture.gameTickScheduler);
+        ReflectionTestUtils.setField(service, "durationSeconds", 3600L);
+        for (String roomId : fixture.roomIds) {
+            service.startGame(roomId);
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        fixture.close();
+    }
+
+    @State(Scope.Thread)
+    public static class Player {
+        PressMessage[] messages;
+        InputSender[] senders;
+        int cursor;
+
+        @Setup(Level.Iteration)
+        public void setUp(GameTapPressBenchmark benchmark, ThreadParams threadParams) {
+            int[][] targets = benchmark.fixture.targetsFor(threadParams.getThreadIndex(), threadParams.getThreadCount());
+            messages = new PressMessage[targets.length];
+            senders = new InputSender[targets.length];
+            for (int i = 0; i < targets.length; i++) {
+                messages[i] = new PressMessage();
+                messages[i].setRoomId(benchmark.fixture.roomIds.get(targets[i][0]));
+                messages[i].setUserName(benchmark.fixture.members.get(targets[i][0]).get(targets[i][1]));
+                messages[i].setPressCount(0);
+                senders[i] = benchmark.fixture.senderOf(messages[i].getRoomId(), messages[i].getUserName());
+            }
+        }
+    }
+
+    @Benchmark
+    public void processPress(Player player) {
+        int i = player.cursor;
+        player.cursor = (i + 1) % player.messages.length;
+        service.handleInput(player.senders[i], player.messages[i]);
+    }
+}
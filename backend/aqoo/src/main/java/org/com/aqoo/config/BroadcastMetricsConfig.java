@@ -0,0 +1,22 @@
+package org.com.aqoo.config;
+
+import lombok.RequiredArgsConstructor;
+import org.com.aqoo.domain.gamecore.metrics.BroadcastMetricsInterceptor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+
+/**
+ * 서버 → 클라이언트 STOMP 채널에 전송 계측 인터셉터를 등록합니다.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class BroadcastMetricsConfig implements WebSocketMessageBrokerConfigurer {
+
+    private final BroadcastMetricsInterceptor broadcastMetricsInterceptor;
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.interceptors(broadcastMetricsInterceptor);
+    }
+}
@@ -0,0 +1,22 @@
+package org.com.aqoo.config;
+
+import org.com.aqoo.domain.gamecore.codec.GameBinaryMessageConverter;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.converter.MessageConverter;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+
+import java.util.List;
+
+/**
+ * 게임 메시지용 바이너리 변환기를 STOMP 변환기 목록 앞에 등록합니다.
+ * 기본(JSON 등) 변환기는 그대로 유지되므로 채팅/로스터 메시지는 영향이 없습니다.
+ */
+@Configuration
+public class GameWireFormatConfig implements WebSocketMessageBrokerConfigurer {
+
+    @Override
+    public boolean configureMessageConverters(List<MessageConverter> messageConverters) {
+        messageConverters.add(new GameBinaryMessageConverter());
+        return true;
+    }
+}
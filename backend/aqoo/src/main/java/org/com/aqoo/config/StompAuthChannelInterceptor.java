@@ -0,0 +1,64 @@
+package org.com.aqoo.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.com.aqoo.domain.gamecore.service.PlayerSessionRegistry;
+import org.com.aqoo.util.JwtUtil;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+/**
+ * STOMP CONNECT 프레임의 Authorization 헤더(Bearer 액세스 토큰)를 한 번만 검증하고
+ * 인증된 사용자를 세션에 바인딩합니다. 이후 메시지는 토큰 검증 없이 세션 정보로 사용자를 결정합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StompAuthChannelInterceptor implements ChannelInterceptor {
+
+    private static final String AUTHORIZATION_HEADER = "Authorization";
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtUtil jwtUtil;
+    private final PlayerSessionRegistry playerSessionRegistry;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() != StompCommand.CONNECT) {
+            return message;
+        }
+
+        String token = extractToken(accessor.getFirstNativeHeader(AUTHORIZATION_HEADER));
+        if (token != null && jwtUtil.validateToken(token)) {
+            try {
+                String userId = jwtUtil.extractUsername(token);
+                playerSessionRegistry.bind(accessor.getSessionId(), userId);
+                if (accessor.getSessionAttributes() != null) {
+                    accessor.getSessionAttributes().put("userId", userId);
+                }
+                return message;
+            } catch (Exception e) {
+                log.warn("STOMP CONNECT token rejected: {}", e.getMessage());
+            }
+        }
+
+        if (playerSessionRegistry.isAuthRequired()) {
+            throw new MessageDeliveryException("유효한 액세스 토큰이 필요합니다.");
+        }
+        return message;
+    }
+
+    private static String extractToken(String header) {
+        if (header == null || header.isBlank()) {
+            return null;
+        }
+        return header.startsWith(BEARER_PREFIX) ? header.substring(BEARER_PREFIX.length()).trim() : header.trim();
+    }
+}
@@ -0,0 +1,27 @@
+package org.com.aqoo.domain.chat.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.com.aqoo.domain.chat.dto.ChatHistoryResponse;
+import org.com.aqoo.domain.chat.service.ChatHistoryService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/chat")
+public class ChatHistoryController {
+
+    private final ChatHistoryService chatHistoryService;
+
+    // 마지막으로 받은 seq/epoch(헤더 "seq", "epoch") 이후의 채팅 메시지 조회 (늦은 입장/재연결 시 복구용)
+    @GetMapping("/rooms/{roomId}/history")
+    public ResponseEntity<ChatHistoryResponse> history(@PathVariable String roomId,
+                                                       @RequestParam(defaultValue = "0") long after,
+                                                       @RequestParam(required = false) Long epoch) {
+        return ResponseEntity.ok(chatHistoryService.resume(roomId, after, epoch));
+    }
+}
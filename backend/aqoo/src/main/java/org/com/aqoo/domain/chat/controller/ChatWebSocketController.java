@@ -4,7 +4,17 @@ import lombok.AllArgsConstructor;
 import org.com.aqoo.domain.chat.dto.ChatMessageDto;
 import org.com.aqoo.domain.chat.dto.DropdownStateUpdate;
 import org.com.aqoo.domain.chat.dto.DropdownUpdateMessage;
+import org.com.aqoo.domain.chat.model.ChatRoom;
+import org.com.aqoo.domain.chat.service.ChatHistoryService;
 import org.com.aqoo.domain.chat.service.ChatRoomService;
+import org.com.aqoo.domain.gamecore.cluster.RoomHandoffListener;
+import org.com.aqoo.domain.gamecore.dto.ResyncRequest;
+import org.com.aqoo.domain.gamecore.metrics.GameMetrics;
+import org.com.aqoo.domain.gamecore.model.PresenceExpiredEvent;
+import org.com.aqoo.domain.gamecore.service.PlayerSessionRegistry;
+import org.com.aqoo.domain.gamecore.service.PresenceRegistry;
+import org.com.aqoo.domain.gamecore.service.RoomLifecycleManager;
+import org.springframework.context.event.EventListener;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
@@ -17,122 +27,272 @@ public class ChatWebSocketController {
 
     private final SimpMessagingTemplate messagingTemplate;
     private final ChatRoomService chatRoomService;
+    // /topic/{roomId} 채팅/시스템 메시지는 seq 를 붙여 최근 기록에 남긴 뒤 전송
+    private final ChatHistoryService chatHistoryService;
+    private final RoomLifecycleManager roomLifecycleManager;
+    private final PlayerSessionRegistry playerSessionRegistry;
+    // 새로고침 등으로 잠깐 끊긴 사용자는 재연결 유예 동안 방에 남겨둠
+    private final PresenceRegistry presenceRegistry;
+    // 핸들러별 처리 시간 (aqoo.chat.handle)
+    private final GameMetrics gameMetrics;
+    private final RoomHandoffListener roomHandoffListener;
 
     /** 사용자가 보낸 채팅 메시지 전송 */
     @MessageMapping("/chat.sendMessage")
-    public void sendMessage(ChatMessageDto chatMessage) {
-        // 클라이언트에서 sender는 사용자 id로 전송하더라도, 서비스에서 해당 닉네임으로 변환
-        String nickname = chatRoomService.getUserNickname(chatMessage.getSender());
-        chatMessage.setSender(nickname);
-        messagingTemplate.convertAndSend("/topic/" + chatMessage.getRoomId(), chatMessage);
+    public void sendMessage(ChatMessageDto chatMessage, SimpMessageHeaderAccessor headerAccessor) {
+        long startedAt = System.nanoTime();
+        try {
+            // 세션의 사용자로 입장한 방에만 전송 (다른 사용자/방을 사칭할 수 없음)
+            if (!resolveSender(chatMessage, headerAccessor)) {
+                return;
+            }
+            // 클라이언트에서 sender는 사용자 id로 전송하더라도, 서비스에서 해당 닉네임으로 변환
+            String nickname = chatRoomService.getUserNickname(chatMessage.getSender());
+            chatMessage.setSender(nickname);
+            roomLifecycleManager.touch(chatMessage.getRoomId());
+            chatHistoryService.publish(chatMessage.getRoomId(), chatMessage);
+        } finally {
+            gameMetrics.recordChat(GameMetrics.ChatHandler.SEND_MESSAGE, startedAt);
+        }
     }
 
     /** 채팅방 참가 */
     @MessageMapping("/chat.joinRoom")
     public void joinRoom(ChatMessageDto chatMessage, SimpMessageHeaderAccessor headerAccessor) {
-        String originalSender = chatMessage.getSender();
-        chatRoomService.addMember(chatMessage.getRoomId(), originalSender);
+        long startedAt = System.nanoTime();
+        try {
+            // 인증된 세션이면 세션의 사용자로 입장
+            String originalSender = playerSessionRegistry.resolveUserName(headerAccessor.getSessionId(), chatMessage.getSender());
+            // 클러스터 모드에서 다른 노드가 담당하는 방이면 ROOM_MOVED 로 담당 노드 안내
+            if (originalSender == null || roomHandoffListener.redirectIfRemote(chatMessage.getRoomId())) {
+                return;
+            }
+            chatRoomService.addMember(chatMessage.getRoomId(), originalSender);
+            boolean reconnected = presenceRegistry.enterRoom(headerAccessor.getSessionId(), originalSender,
+                    chatMessage.getRoomId());
 
-        // id 대신 nickname 조회
-        String nickname = chatRoomService.getUserNickname(originalSender);
+            // id 대신 nickname 조회
+            String nickname = chatRoomService.getUserNickname(originalSender);
 
-        // 시스템 메시지로 변환하여 참가 알림 전송
-        chatMessage.setType(ChatMessageDto.MessageType.JOIN);
-        chatMessage.setSender("SYSTEM");
-        chatMessage.setContent(nickname + "님이 참가했습니다.");
+            // 시스템 메시지로 변환하여 참가 알림 전송
+            chatMessage.setType(ChatMessageDto.MessageType.JOIN);
+            chatMessage.setSender("SYSTEM");
+            chatMessage.setContent(nickname + "님이 참가했습니다.");
 
-        headerAccessor.getSessionAttributes().put("userId", originalSender);
-        headerAccessor.getSessionAttributes().put("roomId", chatMessage.getRoomId());
+            headerAccessor.getSessionAttributes().put("userId", originalSender);
+            headerAccessor.getSessionAttributes().put("roomId", chatMessage.getRoomId());
+            // 세션이 모두 끊긴 방을 정리할 수 있도록 방-세션 연결 기록
+            roomLifecycleManager.onJoin(chatMessage.getRoomId(), headerAccessor.getSessionId());
+            playerSessionRegistry.enterRoom(headerAccessor.getSessionId(), chatMessage.getRoomId());
 
-        messagingTemplate.convertAndSend("/topic/" + chatMessage.getRoomId(), chatMessage);
-        chatRoomService.broadcastUserList(chatMessage.getRoomId());
+            // 재연결이면 퇴장한 적이 없으므로 참가 알림 생략
+            if (!reconnected) {
+                chatHistoryService.publish(chatMessage.getRoomId(), chatMessage);
+            }
+            chatRoomService.broadcastUserList(chatMessage.getRoomId());
+        } finally {
+            gameMetrics.recordChat(GameMetrics.ChatHandler.JOIN_ROOM, startedAt);
+        }
     }
 
     /** 채팅방 준비 */
     @MessageMapping("/chat.ready")
     public void ready(ChatMessageDto chatMessage, SimpMessageHeaderAccessor headerAccessor) {
-        String originalSender = chatMessage.getSender();
-        chatRoomService.markReady(chatMessage.getRoomId(), originalSender);
+        long startedAt = System.nanoTime();
+        try {
+            if (!resolveSender(chatMessage, headerAccessor)) {
+                return;
+            }
+            String originalSender = chatMessage.getSender();
+            chatRoomService.markReady(chatMessage.getRoomId(), originalSender);
 
-        String nickname = chatRoomService.getUserNickname(originalSender);
+            String nickname = chatRoomService.getUserNickname(originalSender);
 
-        // 시스템 메시지로 준비 완료 알림 전송
-        chatMessage.setType(ChatMessageDto.MessageType.READY);
-        chatMessage.setSender("SYSTEM");
-        chatMessage.setContent(nickname + "님이 준비되셨습니다.");
+            // 시스템 메시지로 준비 완료 알림 전송
+            chatMessage.setType(ChatMessageDto.MessageType.READY);
+            chatMessage.setSender("SYSTEM");
+            chatMessage.setContent(nickname + "님이 준비되셨습니다.");
 
-        messagingTemplate.convertAndSend("/topic/" + chatMessage.getRoomId(), chatMessage);
+            chatHistoryService.publish(chatMessage.getRoomId(), chatMessage);
+        } finally {
+            gameMetrics.recordChat(GameMetrics.ChatHandler.READY, startedAt);
+        }
     }
 
     /** 준비 해제 처리 */
     @MessageMapping("/chat.unready")
     public void unready(ChatMessageDto chatMessage, SimpMessageHeaderAccessor headerAccessor) {
-        String originalSender = chatMessage.getSender();
-        chatRoomService.unmarkReady(chatMessage.getRoomId(), originalSender);
+        long startedAt = System.nanoTime();
+        try {
+            if (!resolveSender(chatMessage, headerAccessor)) {
+                return;
+            }
+            String originalSender = chatMessage.getSender();
+            chatRoomService.unmarkReady(chatMessage.getRoomId(), originalSender);
 
-        String nickname = chatRoomService.getUserNickname(originalSender);
+            String nickname = chatRoomService.getUserNickname(originalSender);
 
-        // 시스템 메시지로 준비 해제 알림 전송
-        chatMessage.setType(ChatMessageDto.MessageType.READY); // 필요 시 UNREADY 타입 별도 정의 가능
-        chatMessage.setSender("SYSTEM");
-        chatMessage.setContent(nickname + "님이 준비해제 되셨습니다.");
+            // 시스템 메시지로 준비 해제 알림 전송
+            chatMessage.setType(ChatMessageDto.MessageType.READY); // 필요 시 UNREADY 타입 별도 정의 가능
+            chatMessage.setSender("SYSTEM");
+            chatMessage.setContent(nickname + "님이 준비해제 되셨습니다.");
 
-        messagingTemplate.convertAndSend("/topic/" + chatMessage.getRoomId(), chatMessage);
+            chatHistoryService.publish(chatMessage.getRoomId(), chatMessage);
+        } finally {
+            gameMetrics.recordChat(GameMetrics.ChatHandler.UNREADY, startedAt);
+        }
     }
 
     /** 채팅방 퇴장 */
     @MessageMapping("/chat.leaveRoom")
-    public void leaveRoom(ChatMessageDto chatMessage) {
-        String originalSender = chatMessage.getSender();
-        chatRoomService.removeMember(chatMessage.getRoomId(), originalSender);
+    public void leaveRoom(ChatMessageDto chatMessage, SimpMessageHeaderAccessor headerAccessor) {
+        long startedAt = System.nanoTime();
+        try {
+            if (!resolveSender(chatMessage, headerAccessor)) {
+                return;
+            }
+            String originalSender = chatMessage.getSender();
+            roomLifecycleManager.onLeave(chatMessage.getRoomId(), headerAccessor.getSessionId());
+            playerSessionRegistry.exitRoom(headerAccessor.getSessionId());
+            presenceRegistry.exitRoom(originalSender, chatMessage.getRoomId());
+            leave(chatMessage, originalSender);
+        } finally {
+            gameMetrics.recordChat(GameMetrics.ChatHandler.LEAVE_ROOM, startedAt);
+        }
+    }
 
-        String nickname = chatRoomService.getUserNickname(originalSender);
+    /** 연결이 끊긴 사용자가 재연결 유예 안에 돌아오지 않으면 퇴장 처리 */
+    @EventListener
+    public void handlePresenceExpired(PresenceExpiredEvent event) {
+        ChatRoom room = chatRoomService.getRoom(event.getRoomId());
+        if (room == null || !room.getMembers().contains(event.getUserName())) {
+            return;
+        }
+        ChatMessageDto chatMessage = new ChatMessageDto();
+        chatMessage.setRoomId(event.getRoomId());
+        leave(chatMessage, event.getUserName());
+    }
+
+    /**
+     * 인증된 세션이면 메시지의 sender, roomId 를 세션의 사용자와 입장한 방으로 교체
+     * 확인되지 않으면(인증 필수인데 토큰 없음, 입장하지 않은 방) false
+     */
+    private boolean resolveSender(ChatMessageDto chatMessage, SimpMessageHeaderAccessor headerAccessor) {
+        String sessionId = headerAccessor.getSessionId();
+        String userName = playerSessionRegistry.resolveUserName(sessionId, chatMessage.getSender());
+        String roomId = playerSessionRegistry.resolveRoomId(sessionId, chatMessage.getRoomId());
+        if (userName == null || roomId == null) {
+            return false;
+        }
+        chatMessage.setSender(userName);
+        chatMessage.setRoomId(roomId);
+        return true;
+    }
+
+    private void leave(ChatMessageDto chatMessage, String userName) {
+        chatRoomService.removeMember(chatMessage.getRoomId(), userName);
+
+        String nickname = chatRoomService.getUserNickname(userName);
 
         // 시스템 메시지로 퇴장 알림 전송
         chatMessage.setType(ChatMessageDto.MessageType.LEAVE);
         chatMessage.setSender("SYSTEM");
         chatMessage.setContent(nickname + "님이 퇴장했습니다.");
-        messagingTemplate.convertAndSend("/topic/" + chatMessage.getRoomId(), chatMessage);
+        chatHistoryService.publish(chatMessage.getRoomId(), chatMessage);
 
-        // 채팅방 인원이 0명이면 삭제
+        // 채팅방 인원이 0명이면 채팅방과 게임 상태 모두 삭제
         if (chatRoomService.isRoomEmpty(chatMessage.getRoomId())) {
-            chatRoomService.deleteRoom(chatMessage.getRoomId());
+            roomLifecycleManager.evict(chatMessage.getRoomId());
         }
     }
 
     /** 게임 종료 후 모든 참가자의 Ready 상태 초기화를 위한 처리 */
     @MessageMapping("/chat.clearReady")
-    public void clearReady(ChatMessageDto chatMessage) {
-        chatRoomService.clearReadyStatus(chatMessage.getRoomId());
+    public void clearReady(ChatMessageDto chatMessage, SimpMessageHeaderAccessor headerAccessor) {
+        long startedAt = System.nanoTime();
+        try {
+            // 방장만 전원의 준비 상태를 해제할 수 있음
+            if (!resolveSender(chatMessage, headerAccessor)
+                    || !chatRoomService.isOwner(chatMessage.getRoomId(), chatMessage.getSender())) {
+                return;
+            }
+            chatRoomService.clearReadyStatus(chatMessage.getRoomId());
+        } finally {
+            gameMetrics.recordChat(GameMetrics.ChatHandler.CLEAR_READY, startedAt);
+        }
+    }
+
+    /** roster delta 버전이 건너뛰었을 때 전체 USER_LIST 재전송 요청 */
+    @MessageMapping("/chat.rosterSync")
+    public void rosterSync(@Payload ResyncRequest message, SimpMessageHeaderAccessor headerAccessor) {
+        long startedAt = System.nanoTime();
+        try {
+            // 입장한 방의 목록만 다시 요청할 수 있음
+            String roomId = playerSessionRegistry.resolveRoomId(headerAccessor.getSessionId(), message.getRoomId());
+            if (roomId == null) {
+                return;
+            }
+            chatRoomService.resendUserList(roomId);
+        } finally {
+            gameMetrics.recordChat(GameMetrics.ChatHandler.ROSTER_SYNC, startedAt);
+        }
     }
 
     /** 채팅방에서 사용자 추방 처리 */
     @MessageMapping("/chat.kickUser")
     public void kickUser(ChatMessageDto chatMessage, SimpMessageHeaderAccessor headerAccessor) {
-        String requester = chatMessage.getSender();
-        String targetUser = chatMessage.getTargetUser();
-
-        // 추방 처리 (요청자가 방장인지 등 검증 후 대상 사용자 제거)
-        chatRoomService.kickUser(chatMessage.getRoomId(), targetUser, requester);
-
-        // 대상 사용자의 nickname 조회
-        String targetNickname = chatRoomService.getUserNickname(targetUser);
-
-        // 시스템 메시지로 추방 알림 전송
-        ChatMessageDto kickMessage = new ChatMessageDto();
-        kickMessage.setRoomId(chatMessage.getRoomId());
-        kickMessage.setType(ChatMessageDto.MessageType.USER_KICKED);
-        kickMessage.setSender("SYSTEM");
-        kickMessage.setContent(targetNickname + "님이 추방되셨습니다.");
-        messagingTemplate.convertAndSend("/topic/" + chatMessage.getRoomId(), kickMessage);
+        long startedAt = System.nanoTime();
+        try {
+            // 요청자는 세션의 사용자 (메시지의 sender 로 방장을 사칭할 수 없음)
+            if (!resolveSender(chatMessage, headerAccessor)) {
+                return;
+            }
+            String requester = chatMessage.getSender();
+            String targetUser = chatMessage.getTargetUser();
+
+            // 추방 처리 (요청자가 방장인지 등 검증 후 대상 사용자 제거)
+            if (!chatRoomService.kickUser(chatMessage.getRoomId(), targetUser, requester)) {
+                return;
+            }
+            // 추방된 사용자의 세션이 더 이상 이 방에 입력/명령을 보내지 못하도록 방 바인딩 해제
+            for (String sessionId : playerSessionRegistry.exitRoom(chatMessage.getRoomId(), targetUser)) {
+                roomLifecycleManager.onLeave(chatMessage.getRoomId(), sessionId);
+            }
+
+            // 대상 사용자의 nickname 조회
+            String targetNickname = chatRoomService.getUserNickname(targetUser);
+
+            // 시스템 메시지로 추방 알림 전송
+            ChatMessageDto kickMessage = new ChatMessageDto();
+            kickMessage.setRoomId(chatMessage.getRoomId());
+            kickMessage.setType(ChatMessageDto.MessageType.USER_KICKED);
+            kickMessage.setSender("SYSTEM");
+            kickMessage.setContent(targetNickname + "님이 추방되셨습니다.");
+            chatHistoryService.publish(chatMessage.getRoomId(), kickMessage);
+        } finally {
+            gameMetrics.recordChat(GameMetrics.ChatHandler.KICK_USER, startedAt);
+        }
     }
 
     @MessageMapping("/chat.dropdown")
-    public void updateDropdownState(@Payload DropdownUpdateMessage message) {
-        DropdownStateUpdate update = new DropdownStateUpdate();
-        update.setMessage("GAME_DROPDOWN_UPDATED");
-        update.setGameType(message.getGameType());
-        update.setUpdatedBy(message.getSender());
-        messagingTemplate.convertAndSend("/topic/room/" + message.getRoomId(), update);
+    public void updateDropdownState(@Payload DropdownUpdateMessage message, SimpMessageHeaderAccessor headerAccessor) {
+        long startedAt = System.nanoTime();
+        try {
+            // 게임 종류는 세션의 사용자가 방장인 방에서만 변경
+            String sessionId = headerAccessor.getSessionId();
+            String userName = playerSessionRegistry.resolveUserName(sessionId, message.getSender());
+            String roomId = playerSessionRegistry.resolveRoomId(sessionId, message.getRoomId());
+            if (userName == null || roomId == null || !chatRoomService.isOwner(roomId, userName)) {
+                return;
+            }
+            DropdownStateUpdate update = new DropdownStateUpdate();
+            update.setMessage("GAME_DROPDOWN_UPDATED");
+            update.setGameType(message.getGameType());
+            update.setUpdatedBy(userName);
+            chatRoomService.selectGameType(roomId, message.getGameType());
+            messagingTemplate.convertAndSend("/topic/room/" + roomId, update);
+        } finally {
+            gameMetrics.recordChat(GameMetrics.ChatHandler.DROPDOWN, startedAt);
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,28 @@
+package org.com.aqoo.domain.chat.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.com.aqoo.domain.chat.dto.LobbyPage;
+import org.com.aqoo.domain.chat.service.LobbyIndex;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/chat")
+public class LobbyController {
+
+    private final LobbyIndex lobbyIndex;
+
+    // 로비 방 목록 (생성 순서, 다음 페이지는 응답의 nextCursor 를 cursor 로 전달)
+    @GetMapping("/rooms")
+    public ResponseEntity<LobbyPage> rooms(@RequestParam(required = false) Long cursor,
+                                           @RequestParam(defaultValue = "20") int size,
+                                           @RequestParam(defaultValue = "false") boolean openSlots,
+                                           @RequestParam(defaultValue = "false") boolean notInGame,
+                                           @RequestParam(required = false) String gameType) {
+        return ResponseEntity.ok(lobbyIndex.page(cursor, size, openSlots, notInGame, gameType));
+    }
+}
@@ -0,0 +1,14 @@
+package org.com.aqoo.domain.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 방별 채팅 기록의 한 항목 (seq 는 방마다 1부터 1씩 증가)
+ */
+@Getter
+@AllArgsConstructor
+public class ChatHistoryEntry {
+    private final long seq;
+    private final ChatMessageDto message;
+}
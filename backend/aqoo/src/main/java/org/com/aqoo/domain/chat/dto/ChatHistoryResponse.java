@@ -0,0 +1,23 @@
+package org.com.aqoo.domain.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 채팅 기록 재개(resume) 응답
+ * truncated 가 true 이면 요청한 seq 이후 일부 메시지가 이미 버퍼에서 밀려났거나, 기록이 해제된 뒤 새로 시작되어
+ * (epoch 가 바뀜) 전달되지 못한 것입니다. 이때 클라이언트는 이후 seq 를 응답의 epoch/latestSeq 기준으로 이어 받습니다.
+ */
+@Getter
+@AllArgsConstructor
+public class ChatHistoryResponse {
+    private final String roomId;
+    /** 기록 세대 (헤더 "epoch" 와 같은 값, 기록이 없으면 0) */
+    private final long epoch;
+    /** 현재까지 발급된 마지막 seq (메시지가 없으면 0) */
+    private final long latestSeq;
+    private final boolean truncated;
+    private final List<ChatHistoryEntry> messages;
+}
@@ -0,0 +1,38 @@
+package org.com.aqoo.domain.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * /topic/lobby 로 전송하는 로비 목록 변경 한 건
+ * ROOM_DELETED 인 경우 roomId 외 값은 의미가 없습니다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LobbyEvent {
+
+    public static final String ROOM_CREATED = "ROOM_CREATED";
+    public static final String ROOM_UPDATED = "ROOM_UPDATED";
+    public static final String ROOM_DELETED = "ROOM_DELETED";
+
+    /** ROOM_CREATED, ROOM_UPDATED, ROOM_DELETED */
+    private String message;
+    private String roomId;
+    /** 로비 목록 정렬 순서 (LobbyRoomDto.seq 와 동일) */
+    private long seq;
+    private int memberCount;
+    private int capacity;
+    private boolean inGame;
+    private String gameType;
+
+    public static LobbyEvent of(String message, LobbyRoomDto room) {
+        return new LobbyEvent(message, room.getRoomId(), room.getSeq(), room.getMemberCount(), room.getCapacity(),
+                room.isInGame(), room.getGameType());
+    }
+
+    public static LobbyEvent deleted(String roomId) {
+        return new LobbyEvent(ROOM_DELETED, roomId, 0L, 0, 0, false, null);
+    }
+}
@@ -0,0 +1,17 @@
+package org.com.aqoo.domain.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 로비 목록 한 페이지
+ * nextCursor 가 null 이면 마지막 페이지입니다.
+ */
+@Getter
+@AllArgsConstructor
+public class LobbyPage {
+    private final List<LobbyRoomDto> rooms;
+    private final Long nextCursor;
+}
@@ -0,0 +1,22 @@
+package org.com.aqoo.domain.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 로비 목록의 방 한 개 (목록 표시에 필요한 값만 포함)
+ */
+@Getter
+@AllArgsConstructor
+public class LobbyRoomDto {
+    private final String roomId;
+    /** 생성 순서 (다음 페이지 cursor 로 사용) */
+    private final long seq;
+    private final long createdAt;
+    private final String ownerId;
+    private final int memberCount;
+    private final int capacity;
+    private final boolean inGame;
+    /** 방장이 선택한 게임 종류 (선택 전이면 null) */
+    private final String gameType;
+}
@@ -0,0 +1,58 @@
+package org.com.aqoo.domain.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.com.aqoo.domain.gamecore.model.PlayerProfile;
+
+/**
+ * 방 인원 목록의 변경분 한 건
+ * version 은 방마다 USER_LIST 와 같은 roster 버전을 1씩 이어서 사용하므로,
+ * 클라이언트는 버전이 건너뛰면 /app/chat.rosterSync 로 전체 USER_LIST 를 다시 요청합니다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RosterDelta {
+
+    public static final String MEMBER_JOINED = "MEMBER_JOINED";
+    public static final String MEMBER_LEFT = "MEMBER_LEFT";
+    public static final String READY_CHANGED = "READY_CHANGED";
+    public static final String HOST_CHANGED = "HOST_CHANGED";
+    public static final String PROFILE_CHANGED = "PROFILE_CHANGED";
+
+    /** MEMBER_JOINED, MEMBER_LEFT, READY_CHANGED, HOST_CHANGED, PROFILE_CHANGED */
+    private String message;
+    private String roomId;
+    private long version;
+    /** 대상 사용자 (HOST_CHANGED 인 경우 새 방장) */
+    private String userId;
+    /** MEMBER_JOINED / PROFILE_CHANGED 인 경우 프로필 */
+    private String nickname;
+    private String mainFishImage;
+    private int level;
+    /** MEMBER_JOINED / READY_CHANGED 인 경우 준비 상태 */
+    private boolean ready;
+
+    public static RosterDelta joined(String roomId, long version, PlayerProfile profile, boolean ready) {
+        return new RosterDelta(MEMBER_JOINED, roomId, version, profile.getUserName(), profile.getNickname(),
+                profile.getMainFishImage(), profile.getLevel(), ready);
+    }
+
+    public static RosterDelta left(String roomId, long version, String userId) {
+        return new RosterDelta(MEMBER_LEFT, roomId, version, userId, null, null, 0, false);
+    }
+
+    public static RosterDelta ready(String roomId, long version, String userId, boolean ready) {
+        return new RosterDelta(READY_CHANGED, roomId, version, userId, null, null, 0, ready);
+    }
+
+    public static RosterDelta profile(String roomId, long version, PlayerProfile profile, boolean ready) {
+        return new RosterDelta(PROFILE_CHANGED, roomId, version, profile.getUserName(), profile.getNickname(),
+                profile.getMainFishImage(), profile.getLevel(), ready);
+    }
+
+    public static RosterDelta host(String roomId, long version, String userId) {
+        return new RosterDelta(HOST_CHANGED, roomId, version, userId, null, null, 0, false);
+    }
+}
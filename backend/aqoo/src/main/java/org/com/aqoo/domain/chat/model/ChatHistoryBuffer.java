@@ -0,0 +1,77 @@
+package org.com.aqoo.domain.chat.model;
+
+import org.com.aqoo.domain.chat.dto.ChatHistoryEntry;
+import org.com.aqoo.domain.chat.dto.ChatMessageDto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 한 방의 최근 채팅 메시지를 고정 크기 링 버퍼로 보관합니다.
+ * 메시지마다 방 단위 seq 를 발급하며, 버퍼가 가득 차면 가장 오래된 메시지부터 덮어씁니다.
+ * 버퍼가 해제된 뒤 같은 방에 새로 만들어지면 seq 가 1 부터 다시 시작하므로, 버퍼마다 다른 epoch 로 구분합니다.
+ * 배열은 실제 메시지 수만큼만 늘리므로 조용한 방은 capacity 만큼 메모리를 차지하지 않습니다.
+ */
+public class ChatHistoryBuffer {
+
+    private static final int INITIAL_SIZE = 8;
+
+    private final int capacity;
+    private final long epoch;
+    private ChatMessageDto[] messages;
+    /** 다음에 발급할 seq - 1 (= 마지막 seq) */
+    private long lastSeq;
+    private volatile long lastAppendedAt;
+
+    public ChatHistoryBuffer(int capacity, long epoch) {
+        this.capacity = capacity;
+        this.epoch = epoch;
+        this.messages = new ChatMessageDto[Math.min(INITIAL_SIZE, capacity)];
+    }
+
+    /** 메시지를 추가하고 발급한 seq 반환 */
+    public synchronized long append(ChatMessageDto message) {
+        long seq = ++lastSeq;
+        if (seq > messages.length && messages.length < capacity) {
+            grow();
+        }
+        messages[(int) ((seq - 1) % messages.length)] = message;
+        lastAppendedAt = System.currentTimeMillis();
+        return seq;
+    }
+
+    public long getEpoch() {
+        return epoch;
+    }
+
+    public synchronized long getLastSeq() {
+        return lastSeq;
+    }
+
+    /** 버퍼에 남아 있는 가장 오래된 seq (비어 있으면 lastSeq + 1) */
+    public synchronized long getFirstSeq() {
+        return Math.max(1, lastSeq - messages.length + 1);
+    }
+
+    public long getLastAppendedAt() {
+        return lastAppendedAt;
+    }
+
+    /** afterSeq 보다 큰 seq 의 메시지를 오래된 순으로 최대 limit 개 반환 */
+    public synchronized List<ChatHistoryEntry> after(long afterSeq, int limit) {
+        long from = Math.max(afterSeq + 1, getFirstSeq());
+        long to = Math.min(lastSeq, from + limit - 1);
+        List<ChatHistoryEntry> entries = new ArrayList<>((int) Math.max(0, to - from + 1));
+        for (long seq = from; seq <= to; seq++) {
+            entries.add(new ChatHistoryEntry(seq, messages[(int) ((seq - 1) % messages.length)]));
+        }
+        return entries;
+    }
+
+    /** 배열이 아직 한 바퀴 돌기 전(seq <= length)에만 호출되므로 순서 그대로 복사 */
+    private void grow() {
+        ChatMessageDto[] grown = new ChatMessageDto[Math.min(capacity, messages.length * 2)];
+        System.arraycopy(messages, 0, grown, 0, messages.length);
+        messages = grown;
+    }
+}
@@ -0,0 +1,39 @@
+package org.com.aqoo.domain.chat.model;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 한 시점의 채팅방 인원(방장/멤버/준비 상태) 불변 복사본
+ * ChatRoom 의 멤버/준비 Set 은 동기화되지 않으므로 ChatRoomService 는 방을 모니터로 잡고 변경하고,
+ * 다른 스레드(roster 전송, 스냅샷 저장, 게임 시작)는 of() 로 같은 모니터 안에서 복사해 읽습니다.
+ */
+@Getter
+public final class RoomMembers {
+
+    private final String roomId;
+    private final String ownerId;
+    /** 입장 순서의 멤버 */
+    private final List<String> members;
+    private final Set<String> ready;
+
+    private RoomMembers(String roomId, String ownerId, List<String> members, Set<String> ready) {
+        this.roomId = roomId;
+        this.ownerId = ownerId;
+        this.members = members;
+        this.ready = ready;
+    }
+
+    public static RoomMembers of(ChatRoom room) {
+        synchronized (room) {
+            return new RoomMembers(room.getRoomId(), room.getOwnerId(),
+                    List.copyOf(room.getMembers()), Set.copyOf(room.getReadyMembers()));
+        }
+    }
+
+    public boolean isReady(String userId) {
+        return ready.contains(userId);
+    }
+}
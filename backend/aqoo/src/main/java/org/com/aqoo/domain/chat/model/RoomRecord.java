@@ -0,0 +1,17 @@
+package org.com.aqoo.domain.chat.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 스냅샷 저장/복원에 쓰는 채팅방 한 개
+ * 인원(ChatRoom)과 로비 인덱스에만 있는 생성 시각/선택한 게임 종류를 함께 보관합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class RoomRecord {
+    private final ChatRoom room;
+    private final long createdAt;
+    /** 방장이 선택한 게임 종류 (선택 전이면 null) */
+    private final String gameType;
+}
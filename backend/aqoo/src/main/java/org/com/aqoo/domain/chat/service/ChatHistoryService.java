@@ -0,0 +1,136 @@
+package org.com.aqoo.domain.chat.service;
+
+import lombok.RequiredArgsConstructor;
+import org.com.aqoo.domain.chat.dto.ChatHistoryEntry;
+import org.com.aqoo.domain.chat.dto.ChatHistoryResponse;
+import org.com.aqoo.domain.chat.dto.ChatMessageDto;
+import org.com.aqoo.domain.chat.model.ChatHistoryBuffer;
+import org.com.aqoo.domain.gamecore.service.RoomStateHolder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 방별 최근 채팅 기록 (늦게 들어온 사용자/재연결한 사용자 복구용)
+ *  - /topic/{roomId} 로 보내는 채팅/시스템 메시지에 방 단위 seq 를 발급하고 STOMP 헤더 "seq" 로 함께 전송
+ *    (발급과 전송은 방마다 한 스레드씩이므로 클라이언트는 seq 가 건너뛰면 누락으로 판단할 수 있음)
+ *  - 기록이 해제된 뒤 같은 방의 seq 가 1 부터 다시 시작해도 구분할 수 있도록 버퍼마다 증가하는 epoch 를
+ *    STOMP 헤더 "epoch" 와 resume 응답에 함께 보냄 (서버 재시작 후에도 이전보다 큰 값)
+ *  - ChatRoomService 에 없는 방에는 기록을 만들지 않음 (임의의 roomId 로 다른 방의 기록이 밀려나지 않도록)
+ *  - 방마다 최근 chat.history.room-capacity 개만 링 버퍼로 보관
+ *  - 전체 보관 메시지 수가 chat.history.max-total-messages 를 넘지 않도록, 버퍼가 꽉 찬 방 수 기준으로
+ *    방 개수를 제한하고 넘치면 가장 오래 조용했던 방의 기록부터 버림
+ *  - 클라이언트는 마지막으로 받은 seq 이후의 메시지를 resume 으로 받아감 (서버가 다시 밀어주지 않음)
+ */
+@Service
+@RequiredArgsConstructor
+public class ChatHistoryService implements RoomStateHolder {
+
+    public static final String SEQ_HEADER = "seq";
+    public static final String EPOCH_HEADER = "epoch";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ChatRoomService chatRoomService;
+
+    @Value("${chat.history.room-capacity:100}")
+    private int roomCapacity;
+
+    @Value("${chat.history.max-total-messages:200000}")
+    private int maxTotalMessages;
+
+    /** resume 한 번에 돌려주는 최대 메시지 수 */
+    @Value("${chat.history.resume-limit:200}")
+    private int resumeLimit;
+
+    private final Map<String, ChatHistoryBuffer> buffers = new ConcurrentHashMap<>();
+    /** 마지막으로 발급한 epoch (시작 시각에서 시작하므로 재시작 전보다 큼) */
+    private final AtomicLong epochs = new AtomicLong(System.currentTimeMillis());
+
+    /**
+     * 채팅 기록에 추가하고 seq 헤더와 함께 방 채팅 토픽으로 전송 (전송 후에는 message 를 변경하지 않아야 함)
+     * seq 발급과 전송을 방 버퍼를 모니터로 한 번에 처리하여, 같은 방의 메시지는 seq 순서대로 전송됩니다.
+     * 존재하지 않는 방이면 기록하지도 전송하지도 않습니다.
+     */
+    public void publish(String roomId, ChatMessageDto message) {
+        if (roomId == null || chatRoomService.getRoom(roomId) == null) {
+            return;
+        }
+        ChatHistoryBuffer buffer = bufferOf(roomId);
+        synchronized (buffer) {
+            long seq = buffer.append(message);
+            messagingTemplate.convertAndSend("/topic/" + roomId, message, Map.<String, Object>of(
+                    SEQ_HEADER, String.valueOf(seq), EPOCH_HEADER, String.valueOf(buffer.getEpoch())));
+        }
+    }
+
+    /**
+     * afterSeq 이후의 메시지 조회 (afterSeq 가 0 이면 남아 있는 기록 전체, 최대 resume-limit 개)
+     * epoch 가 현재 기록과 다르거나(기록이 해제된 뒤 새로 시작됨) afterSeq 가 현재 마지막 seq 보다 크면
+     * 클라이언트가 받은 기록이 사라진 것이므로 처음부터 돌려주고 truncated 로 표시합니다.
+     *
+     * @param epoch 클라이언트가 마지막으로 받은 "epoch" 헤더 값 (모르면 null)
+     */
+    public ChatHistoryResponse resume(String roomId, long afterSeq, Long epoch) {
+        ChatHistoryBuffer buffer = buffers.get(roomId);
+        if (buffer == null) {
+            return new ChatHistoryResponse(roomId, 0L, 0L, afterSeq > 0, List.of());
+        }
+        long lastSeq = buffer.getLastSeq();
+        boolean reset = (epoch != null && epoch != buffer.getEpoch()) || afterSeq > lastSeq;
+        long from = reset ? 0L : afterSeq;
+        List<ChatHistoryEntry> messages = buffer.after(from, Math.max(1, resumeLimit));
+        boolean truncated = (reset && afterSeq > 0)
+                || (!messages.isEmpty() && messages.get(0).getSeq() > from + 1);
+        return new ChatHistoryResponse(roomId, buffer.getEpoch(), buffer.getLastSeq(), truncated, messages);
+    }
+
+    @Override
+    public String holderName() {
+        return "chatHistory";
+    }
+
+    @Override
+    public Collection<String> roomIds() {
+        return buffers.keySet();
+    }
+
+    @Override
+    public boolean evictRoom(String roomId) {
+        return buffers.remove(roomId) != null;
+    }
+
+    private ChatHistoryBuffer bufferOf(String roomId) {
+        ChatHistoryBuffer buffer = buffers.get(roomId);
+        if (buffer != null) {
+            return buffer;
+        }
+        int capacity = Math.max(1, roomCapacity);
+        buffer = buffers.computeIfAbsent(roomId, k -> new ChatHistoryBuffer(capacity, epochs.incrementAndGet()));
+        if (buffers.size() > Math.max(1, maxTotalMessages / capacity)) {
+            evictQuietestExcept(roomId);
+        }
+        return buffer;
+    }
+
+    /** 방 수 제한을 넘으면 마지막 메시지가 가장 오래된 방의 기록을 버림 */
+    private void evictQuietestExcept(String keepRoomId) {
+        String quietest = null;
+        long oldest = Long.MAX_VALUE;
+        for (Map.Entry<String, ChatHistoryBuffer> entry : buffers.entrySet()) {
+            long lastAppendedAt = entry.getValue().getLastAppendedAt();
+            if (!entry.getKey().equals(keepRoomId) && lastAppendedAt < oldest) {
+                oldest = lastAppendedAt;
+                quietest = entry.getKey();
+            }
+        }
+        if (quietest != null) {
+            buffers.remove(quietest);
+        }
+    }
+}
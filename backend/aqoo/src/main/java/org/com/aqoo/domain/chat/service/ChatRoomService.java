@@ -1,16 +1,22 @@
 package org.com.aqoo.domain.chat.service;
 
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
-import org.com.aqoo.domain.auth.dto.UserInfoResponse;
-import org.com.aqoo.domain.auth.entity.User;
-import org.com.aqoo.domain.auth.service.UserService;
 import org.com.aqoo.domain.chat.dto.InviteRequest;
+import org.com.aqoo.domain.chat.dto.LobbyRoomDto;
 import org.com.aqoo.domain.chat.dto.MemberDto;
 import org.com.aqoo.domain.chat.dto.RoomUpdate;
 import org.com.aqoo.domain.chat.model.ChatRoom;
+import org.com.aqoo.domain.chat.model.RoomMembers;
+import org.com.aqoo.domain.chat.model.RoomRecord;
+import org.com.aqoo.domain.gamecore.cluster.RoomOwnershipService;
+import org.com.aqoo.domain.gamecore.model.PlayerProfile;
+import org.com.aqoo.domain.gamecore.service.PlayerProfileListener;
+import org.com.aqoo.domain.gamecore.service.PlayerProfileService;
+import org.com.aqoo.domain.gamecore.service.PresenceRegistry;
+import org.com.aqoo.domain.gamecore.service.RoomStateHolder;
 import org.com.aqoo.domain.push.dto.PushRequest;
 import org.com.aqoo.domain.push.service.PushService;
-import org.com.aqoo.repository.UserRepository;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
@@ -18,36 +24,98 @@ import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
+/**
+ * 채팅방 생성/입장/퇴장/준비 상태 관리
+ * ChatRoom 의 멤버/준비 상태는 방을 모니터로 잡고 변경하며, 다른 스레드는 RoomMembers.of() 로 복사해 읽습니다.
+ */
 @Service
 @RequiredArgsConstructor
-public class ChatRoomService {
+public class ChatRoomService implements RoomStateHolder, PlayerProfileListener {
 
     private final Map<String, ChatRoom> chatRooms = new ConcurrentHashMap<>();
     // messagingTemplate을 이용하여 각종 메시지를 브로드캐스트
     private final SimpMessagingTemplate messagingTemplate;
-    private final UserService userService;
+    // 닉네임/대표 물고기/레벨은 캐시에서 조회 (메시지마다 DB 조회하지 않음)
+    private final PlayerProfileService playerProfileService;
     private final PushService pushService;
-    private final UserRepository userRepository;
+    private final RoomOwnershipService roomOwnershipService;
+    // USER_LIST 는 방마다 모아서 버전과 함께 전송
+    private final RosterPublisher rosterPublisher;
+    // 로비 목록은 인덱스에서 페이지 단위로 조회
+    private final LobbyIndex lobbyIndex;
+    // 사용자 접속 여부 (재연결/초대 판단)
+    private final PresenceRegistry presenceRegistry;
+
+    @PostConstruct
+    public void registerListener() {
+        playerProfileService.addListener(this);
+    }
+
+    /** 임시 프로필로 보냈던 사용자의 프로필이 채워지면 그 사용자가 있는 방의 USER_LIST 재전송 */
+    @Override
+    public void onProfileLoaded(String userName) {
+        String roomId = presenceRegistry.roomOf(userName);
+        if (roomId != null) {
+            broadcastUserList(roomId);
+        }
+    }
 
     /** 모든 채팅방 목록 조회 */
     public List<ChatRoom> getAllRooms() {
         return List.copyOf(chatRooms.values());
     }
 
-    /** 채팅방 생성 */
+    /** 채팅방 생성 (클러스터 모드에서는 이 노드가 담당하는 roomId 로 생성) */
     public ChatRoom createRoom(String ownerId) {
-        String roomId = UUID.randomUUID().toString();
+        String roomId = roomOwnershipService.newLocalRoomId();
         ChatRoom room = new ChatRoom(roomId, ownerId);
         chatRooms.put(roomId, room);
+        lobbyIndex.add(room);
         System.out.println("Created room: " + roomId);
         return room;
     }
 
+    /**
+     * 스냅샷에서 읽은 채팅방 복원 (브로드캐스트 없이 등록, 같은 roomId 가 이미 있으면 유지)
+     * 로비 목록의 순서가 유지되도록 생성 시각 순으로 등록합니다.
+     */
+    public int restoreRooms(Collection<RoomRecord> records) {
+        List<RoomRecord> ordered = new ArrayList<>(records);
+        ordered.sort(Comparator.comparingLong(RoomRecord::getCreatedAt));
+        int restored = 0;
+        for (RoomRecord record : ordered) {
+            ChatRoom room = record.getRoom();
+            if (chatRooms.putIfAbsent(room.getRoomId(), room) == null) {
+                lobbyIndex.restore(record);
+                // 멤버가 돌아왔을 때 USER_LIST 가 임시 프로필로 나가지 않도록 미리 조회 (시작을 기다리게 하지 않음)
+                for (String userId : RoomMembers.of(room).getMembers()) {
+                    playerProfileService.prefetch(userId);
+                }
+                restored++;
+            }
+        }
+        return restored;
+    }
+
+    /** 스냅샷에 저장할 채팅방 정보 (로비 인덱스의 생성 시각/게임 종류 포함) */
+    public RoomRecord recordOf(ChatRoom room) {
+        LobbyRoomDto lobby = lobbyIndex.find(room.getRoomId());
+        return lobby == null
+                ? new RoomRecord(room, System.currentTimeMillis(), null)
+                : new RoomRecord(room, lobby.getCreatedAt(), lobby.getGameType());
+    }
+
     /** 특정 채팅방 조회 */
     public ChatRoom getRoom(String roomId) {
         return chatRooms.get(roomId);
     }
 
+    /** 사용자가 채팅방의 방장인지 확인 (방이 없으면 false) */
+    public boolean isOwner(String roomId, String userId) {
+        ChatRoom room = chatRooms.get(roomId);
+        return room != null && userId != null && userId.equals(room.getOwnerId());
+    }
+
     /** 채팅방 멤버 추가 */
     public void addMember(String roomId, String userId) {
         ChatRoom room = chatRooms.get(roomId);
@@ -55,7 +123,12 @@ public class ChatRoomService {
             // 방이 존재하지 않는 경우, 예외를 던지거나 에러 처리를 수행합니다.
             throw new IllegalStateException("해당 채팅방은 존재하지 않거나 이미 삭제되었습니다.");
         }
-        room.addMember(userId);
+        // USER_LIST 전송이 DB 조회를 기다리지 않도록 입장하는 사용자의 프로필을 미리 캐시
+        playerProfileService.warm(userId);
+        synchronized (room) {
+            room.addMember(userId);
+        }
+        lobbyIndex.updateMembers(room);
         broadcastUserList(roomId);
     }
 
@@ -64,16 +137,19 @@ public class ChatRoomService {
     public void removeMember(String roomId, String userId) {
         ChatRoom room = chatRooms.get(roomId);
         if (room != null) {
-            // 방장이 퇴장한 경우, 남아 있는 멤버 중 한 명을 새 방장으로 지정 (예: 첫 번째 멤버)
-            if (userId.equals(room.getOwnerId())) {
-                room.removeMember(userId);
-                if (!room.getMembers().isEmpty()) {
-                    String newOwner = room.getMembers().iterator().next();
-                    room.setOwnerId(newOwner);
+            synchronized (room) {
+                // 방장이 퇴장한 경우, 남아 있는 멤버 중 한 명을 새 방장으로 지정 (예: 첫 번째 멤버)
+                if (userId.equals(room.getOwnerId())) {
+                    room.removeMember(userId);
+                    if (!room.getMembers().isEmpty()) {
+                        String newOwner = room.getMembers().iterator().next();
+                        room.setOwnerId(newOwner);
+                    }
+                } else {
+                    room.removeMember(userId);
                 }
-            } else {
-                room.removeMember(userId);
             }
+            lobbyIndex.updateMembers(room);
         }
         // 준비 상태에서도 해당 사용자 제거
         unmarkReady(roomId, userId);
@@ -89,14 +165,43 @@ public class ChatRoomService {
     /** 채팅방 삭제 */
     public void deleteRoom(String roomId) {
         chatRooms.remove(roomId);
+        lobbyIndex.remove(roomId);
+        rosterPublisher.forget(roomId);
         System.out.println("채팅방 " + roomId + " 삭제됨");
     }
 
+    @Override
+    public String holderName() {
+        return "chat";
+    }
+
+    @Override
+    public Collection<String> roomIds() {
+        return chatRooms.keySet();
+    }
+
+    /** 방치되었거나 연결이 모두 끊긴 채팅방 삭제 (RoomLifecycleManager 에서 호출) */
+    @Override
+    public boolean evictRoom(String roomId) {
+        rosterPublisher.forget(roomId);
+        lobbyIndex.remove(roomId);
+        return chatRooms.remove(roomId) != null;
+    }
+
+    /** 방장이 선택한 게임 종류를 로비 목록에 반영 */
+    public void selectGameType(String roomId, String gameType) {
+        if (chatRooms.containsKey(roomId)) {
+            lobbyIndex.updateGameType(roomId, gameType);
+        }
+    }
+
     /** 준비 상태 표시: 해당 채팅방에서 사용자가 준비되었다고 표시 */
     public void markReady(String roomId, String userId) {
         ChatRoom room = chatRooms.get(roomId);
         if (room != null) {
-            room.markReady(userId);
+            synchronized (room) {
+                room.markReady(userId);
+            }
             broadcastUserList(roomId);
         }
     }
@@ -105,7 +210,9 @@ public class ChatRoomService {
     public void unmarkReady(String roomId, String userId) {
         ChatRoom room = chatRooms.get(roomId);
         if (room != null) {
-            room.unmarkReady(userId);
+            synchronized (room) {
+                room.unmarkReady(userId);
+            }
             broadcastUserList(roomId);
         }
     }
@@ -113,14 +220,30 @@ public class ChatRoomService {
     /** 모든 멤버가 준비되었는지 확인 */
     public boolean areAllReady(String roomId) {
         ChatRoom room = chatRooms.get(roomId);
-        return room != null && room.areAllReady();
+        if (room == null) {
+            return false;
+        }
+        synchronized (room) {
+            return room.areAllReady();
+        }
     }
 
-    /** USER_LIST 메시지를 생성하고 브로드캐스트 */
+    /**
+     * USER_LIST 브로드캐스트 요청
+     * 짧은 시간 안의 여러 요청은 RosterPublisher 가 방마다 한 번의 전송으로 합칩니다.
+     */
     public void broadcastUserList(String roomId) {
-        RoomUpdate update = createUserListUpdate(roomId);
-        if (update != null) {
-            messagingTemplate.convertAndSend("/topic/room/" + roomId, update);
+        ChatRoom room = chatRooms.get(roomId);
+        if (room != null) {
+            rosterPublisher.markDirty(room);
+        }
+    }
+
+    /** roster delta 누락을 감지한 클라이언트를 위해 마지막 버전의 전체 USER_LIST 재전송 */
+    public void resendUserList(String roomId) {
+        ChatRoom room = chatRooms.get(roomId);
+        if (room != null) {
+            rosterPublisher.sendSnapshot(room);
         }
     }
 
@@ -128,38 +251,25 @@ public class ChatRoomService {
     public void clearReadyStatus(String roomId) {
         ChatRoom room = getRoom(roomId);
         if (room != null) {
-            room.getReadyMembers().clear();
+            synchronized (room) {
+                room.getReadyMembers().clear();
+            }
             // 최신 사용자 목록을 브로드캐스트
             broadcastUserList(roomId);
         }
     }
 
-    // 재연결 여부를 확인하는 예시 메소드 (구현은 상황에 맞게)
+    /** 방 멤버이며 (재연결 유예가 끝나기 전에) 다시 접속한 상태인지 확인 */
     public boolean isUserReconnected(String roomId, String userId) {
-        // 예: 현재 채팅방의 멤버 목록에 userId가 있는지 확인
         ChatRoom room = getRoom(roomId);
-        return room != null && room.getMembers().contains(userId);
+        return room != null && room.getMembers().contains(userId)
+                && presenceRegistry.isOnline(userId) && roomId.equals(presenceRegistry.roomOf(userId));
     }
 
     /** 최신 사용자 목록을 생성하여 RoomUpdate로 반환 */
     public RoomUpdate createUserListUpdate(String roomId) {
         ChatRoom room = getRoom(roomId);
-        if (room != null) {
-            System.out.println("RoomUpdate 실행");
-            List<RoomUpdate.UserInfo> userList = room.getMembers().stream()
-                    .map(userId -> {
-                        boolean isHost = userId.equals(room.getOwnerId());
-                        boolean ready = room.getReadyMembers().contains(userId);
-                        UserInfoResponse tmpUser = userService.getUserInfo(userId);
-                        String mainFishImage = tmpUser.getMainFishImage();
-                        String nickname = tmpUser.getNickname();  // nickname 정보 추가
-                        int level = tmpUser.getLevel();
-                        return new RoomUpdate.UserInfo(userId, nickname, ready, isHost, mainFishImage, level);
-                    })
-                    .collect(Collectors.toList());
-            return new RoomUpdate(roomId, "USER_LIST", userList);
-        }
-        return null;
+        return room != null ? rosterPublisher.userListOf(room) : null;
     }
 
     public Map<String, String> inviteFriend(InviteRequest request) throws Exception {
@@ -173,30 +283,38 @@ public class ChatRoomService {
         // 결과를 Map으로 변환하여 반환
         Map<String, String> response = new HashMap<>();
         response.put("message", request.getGuestId() + "님을 초대했습니다.");
+        // 초대 대상이 지금 접속 중인지 (프론트에서 접속 중 표시용)
+        response.put("online", String.valueOf(presenceRegistry.isOnline(recipient)));
         return response;
     }
 
-    /** 채팅방에서 사용자 추방 (Kick) 처리 */
-    public void kickUser(String roomId, String targetUser, String requester) {
+    /**
+     * 채팅방에서 사용자 추방 (Kick) 처리
+     * @return 추방했으면 true (방이 없거나 요청자가 방장이 아니면 false)
+     */
+    public boolean kickUser(String roomId, String targetUser, String requester) {
         ChatRoom room = getRoom(roomId);
         if (room != null) {
             // 요청자가 방장이 아니라면 추방 불가
             if (!room.getOwnerId().equals(requester)) {
                 System.out.println("추방 요청 실패: 요청자 " + requester + "는 방장이 아님");
-                return;
+                return false;
             }
             // 방장이 자신을 추방하는 경우 방지
             if (targetUser.equals(requester)) {
                 System.out.println("추방 요청 실패: 방장은 자신을 추방할 수 없음");
-                return;
+                return false;
             }
             // 대상 사용자 제거
             removeMember(roomId, targetUser);
+            presenceRegistry.exitRoom(targetUser, roomId);
             // 추방 메시지 브로드캐스트 (RoomUpdate를 이용하여 targetUser 정보를 포함)
             RoomUpdate update = new RoomUpdate(roomId, "USER_KICKED", null);
             update.setTargetUser(targetUser);
             messagingTemplate.convertAndSend("/topic/room/" + roomId, update);
+            return true;
         }
+        return false;
     }
 
     /**
@@ -214,12 +332,12 @@ public class ChatRoomService {
         // room.getMembers()는 Set<String> (사용자 ID 목록)라고 가정합니다.
         List<MemberDto> memberDtos = room.getMembers().stream()
                 .map(userId -> {
-                    // userService를 통해 해당 사용자 정보를 조회 (nickname, mainFishImage 등)
-                    UserInfoResponse userInfo = userService.getUserInfo(userId);
-                    String nickname = userInfo.getNickname();
-                    String mainFishImage = userInfo.getMainFishImage();
+                    // 프로필 캐시에서 해당 사용자 정보를 조회 (nickname, mainFishImage 등)
+                    PlayerProfile profile = playerProfileService.profileOf(userId);
+                    String nickname = profile.getNickname();
+                    String mainFishImage = profile.getMainFishImage();
                     boolean isHost = userId.equals(room.getOwnerId());
-                    int level = userInfo.getLevel();
+                    int level = profile.getLevel();
                     return new MemberDto(userId, nickname, mainFishImage, isHost, level);
                 })
                 .collect(Collectors.toList());
@@ -227,12 +345,11 @@ public class ChatRoomService {
     }
 
     /**
-     * userId로 DB에서 User 엔티티를 조회하여 nickname을 반환합니다.
+     * userId의 nickname을 프로필 캐시에서 조회하여 반환합니다.
      * 만약 사용자를 찾지 못하면 userId를 그대로 반환합니다.
      */
     public String getUserNickname(String userId) {
-        Optional<User> userOpt = userRepository.findById(userId);
-        return userOpt.map(User::getNickname).orElse(userId);
+        return playerProfileService.nicknameOf(userId);
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,229 @@
+package org.com.aqoo.domain.chat.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.com.aqoo.domain.chat.model.ChatRoom;
+import org.com.aqoo.domain.chat.model.RoomMembers;
+import org.com.aqoo.domain.chat.model.RoomRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅방(방장/멤버/준비 상태, 로비의 생성 시각/선택한 게임 종류) 스냅샷 저장 및 복원
+ *  - 시작 시 (@PostConstruct, 웹소켓 엔드포인트가 연결을 받기 전) 스냅샷 파일이 있으면 복원
+ *  - room.snapshot.interval-seconds 마다, 그리고 종료 시 저장
+ *  - 파일은 임시 파일에 쓴 뒤 교체하므로 저장 도중 죽어도 이전 스냅샷이 남습니다.
+ *  - 클러스터 노드 구성이 바뀌면 같은 형식(export/importRooms)으로 방을 새 담당 노드에 넘깁니다.
+ * 진행 중이던 게임은 이 스냅샷에 포함되지 않습니다. game.journal.enabled 일 때만 GameRoomRestorer 가
+ * 저널에서 복구하며, 저널이 꺼져 있으면 채팅방만 돌아오고 진행 중이던 판은 사라집니다.
+ *
+ * 파일 형식: [int magic][int version][long savedAt][int roomCount]
+ *           { [UTF roomId][UTF ownerId][long createdAt][UTF gameType][int memberCount] { [UTF userId][boolean ready] } }
+ * (version 1 파일은 createdAt/gameType 없이 읽고 복원 시각을 생성 시각으로 사용)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatRoomSnapshotService {
+
+    private static final int MAGIC = 0x41514F52; // "AQOR"
+    private static final int FORMAT_VERSION = 2;
+    private static final int FORMAT_VERSION_WITHOUT_LOBBY = 1;
+
+    private final ChatRoomService chatRoomService;
+
+    @Value("${room.snapshot.enabled:false}")
+    private boolean enabled;
+
+    @Value("${room.snapshot.file:./data/rooms.snapshot}")
+    private String file;
+
+    @Value("${room.snapshot.interval-seconds:30}")
+    private long intervalSeconds;
+
+    private ScheduledExecutorService scheduler;
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        restore();
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "room-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::saveQuietly, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (!enabled) {
+            return;
+        }
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        saveQuietly();
+    }
+
+    /** 현재 채팅방 전체를 스냅샷 파일로 저장하고 저장한 방 수 반환 */
+    public synchronized int save() throws IOException {
+        Path target = Paths.get(file);
+        Path parent = target.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+
+        long start = System.nanoTime();
+        List<ChatRoom> rooms = chatRoomService.getAllRooms();
+        int saved = 0;
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(temp), 1 << 16))) {
+            writeRooms(out, rooms);
+            saved = rooms.size();
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        log.debug("Saved {} chat rooms to {} in {} ms", saved, target,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return saved;
+    }
+
+    /** 스냅샷 파일의 채팅방을 ChatRoomService 에 등록하고 복원한 방 수 반환 */
+    public synchronized int restore() {
+        Path source = Paths.get(file);
+        if (!Files.exists(source)) {
+            return 0;
+        }
+        long start = System.nanoTime();
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(source), 1 << 16))) {
+            List<RoomRecord> rooms = readRooms(in);
+            if (rooms == null) {
+                log.warn("Ignoring chat room snapshot with unknown format: {}", source);
+                return 0;
+            }
+            int restored = chatRoomService.restoreRooms(rooms);
+            log.info("Restored {} chat rooms from snapshot in {} ms", restored,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            return restored;
+        } catch (IOException e) {
+            log.error("Failed to restore chat room snapshot from {}", source, e);
+            return 0;
+        }
+    }
+
+    /** 클러스터 노드 구성 변경 시 새 담당 노드로 넘길 채팅방들을 스냅샷 형식으로 직렬화 */
+    public byte[] export(List<ChatRoom> rooms) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            writeRooms(out, rooms);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /** 다른 노드가 export 로 넘긴 채팅방 등록 (형식이 맞지 않으면 IllegalArgumentException) */
+    public int importRooms(byte[] data) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            List<RoomRecord> rooms = readRooms(in);
+            if (rooms == null) {
+                throw new IllegalArgumentException("알 수 없는 채팅방 스냅샷 형식입니다.");
+            }
+            return chatRoomService.restoreRooms(rooms);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("채팅방 스냅샷을 읽을 수 없습니다.", e);
+        }
+    }
+
+    private void writeRooms(DataOutputStream out, List<ChatRoom> rooms) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        out.writeLong(System.currentTimeMillis());
+        out.writeInt(rooms.size());
+        for (ChatRoom room : rooms) {
+            writeRoom(out, chatRoomService.recordOf(room));
+        }
+    }
+
+    /** 형식이 맞지 않으면 null */
+    private static List<RoomRecord> readRooms(DataInputStream in) throws IOException {
+        int version = in.readInt() == MAGIC ? in.readInt() : -1;
+        if (version != FORMAT_VERSION && version != FORMAT_VERSION_WITHOUT_LOBBY) {
+            return null;
+        }
+        in.readLong(); // savedAt
+        int roomCount = in.readInt();
+        List<RoomRecord> rooms = new ArrayList<>(roomCount);
+        for (int r = 0; r < roomCount; r++) {
+            rooms.add(readRoom(in, version, r));
+        }
+        return rooms;
+    }
+
+    private static void writeRoom(DataOutputStream out, RoomRecord record) throws IOException {
+        RoomMembers copy = RoomMembers.of(record.getRoom());
+        out.writeUTF(copy.getRoomId());
+        out.writeUTF(copy.getOwnerId() == null ? "" : copy.getOwnerId());
+        out.writeLong(record.getCreatedAt());
+        out.writeUTF(record.getGameType() == null ? "" : record.getGameType());
+        out.writeInt(copy.getMembers().size());
+        for (String userId : copy.getMembers()) {
+            out.writeUTF(userId);
+            out.writeBoolean(copy.isReady(userId));
+        }
+    }
+
+    /** order 는 생성 시각이 없는 version 1 파일에서 저장 순서를 유지하는 데 사용 */
+    private static RoomRecord readRoom(DataInputStream in, int version, int order) throws IOException {
+        String roomId = in.readUTF();
+        String ownerId = in.readUTF();
+        long createdAt = System.currentTimeMillis() + order;
+        String gameType = "";
+        if (version >= FORMAT_VERSION) {
+            createdAt = in.readLong();
+            gameType = in.readUTF();
+        }
+        ChatRoom room = new ChatRoom(roomId, ownerId.isEmpty() ? null : ownerId);
+        int memberCount = in.readInt();
+        for (int i = 0; i < memberCount; i++) {
+            String userId = in.readUTF();
+            room.addMember(userId);
+            if (in.readBoolean()) {
+                room.markReady(userId);
+            }
+        }
+        return new RoomRecord(room, createdAt, gameType.isEmpty() ? null : gameType);
+    }
+
+    private void saveQuietly() {
+        try {
+            save();
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to save chat room snapshot", e);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package org.com.aqoo.domain.chat.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.com.aqoo.domain.chat.dto.LobbyEvent;
+import org.com.aqoo.domain.chat.dto.LobbyRoomDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로비 목록 변경을 /topic/lobby 로 전송합니다 (로비 화면의 목록 polling 대체).
+ *  - LobbyIndex 가 방 생성/입장/퇴장/삭제/게임 시작·종료를 반영할 때마다 변경을 기록만 하고,
+ *    lobby.feed.coalesce-millis 뒤에 방마다 마지막 상태 한 건만 전송 (생성 후 바로 삭제된 방은 전송하지 않음)
+ *  - 같은 방은 lobby.feed.min-interval-millis 에 한 번만 전송하므로 입장이 몰려도 전송 수는 방 수에 비례
+ * 클라이언트는 구독 직후 GET /api/v1/chat/rooms 로 목록을 받고, 이후 이벤트로 갱신합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LobbyFeedPublisher {
+
+    public static final String DESTINATION = "/topic/lobby";
+
+    /** 방 하나의 전송 대기 상태 (this 로 보호) */
+    private static final class Pending {
+        /** 아직 ROOM_CREATED 를 보내지 않은 방이면 true */
+        private boolean created;
+        private boolean deleted;
+        /** 전송할 마지막 상태 */
+        private LobbyRoomDto room;
+        private boolean scheduled;
+        private long lastSentAt;
+    }
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    @Value("${lobby.feed.enabled:true}")
+    private boolean enabled;
+
+    /** 0 이하면 모으지 않고 바로 전송 */
+    @Value("${lobby.feed.coalesce-millis:200}")
+    private long coalesceMillis;
+
+    /** 같은 방의 이벤트 최소 전송 간격 */
+    @Value("${lobby.feed.min-interval-millis:1000}")
+    private long minIntervalMillis;
+
+    private final Map<String, Pending> pending = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService scheduler;
+
+    @PostConstruct
+    public void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "lobby-feed");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    public void created(LobbyRoomDto room) {
+        if (!enabled) {
+            return;
+        }
+        Pending state = new Pending();
+        synchronized (state) {
+            state.created = true;
+            state.room = room;
+        }
+        // 같은 roomId 의 이전 대기 상태(삭제 대기 등)는 새 방으로 대체
+        pending.put(room.getRoomId(), state);
+        schedule(room.getRoomId(), state);
+    }
+
+    public void updated(LobbyRoomDto room) {
+        if (!enabled) {
+            return;
+        }
+        Pending state = pending.computeIfAbsent(room.getRoomId(), k -> new Pending());
+        synchronized (state) {
+            if (state.deleted) {
+                return;
+            }
+            state.room = room;
+        }
+        schedule(room.getRoomId(), state);
+    }
+
+    public void deleted(String roomId) {
+        if (!enabled) {
+            return;
+        }
+        Pending state = pending.get(roomId);
+        if (state == null) {
+            state = new Pending();
+            Pending previous = pending.putIfAbsent(roomId, state);
+            if (previous != null) {
+                state = previous;
+            }
+        }
+        synchronized (state) {
+            state.deleted = true;
+        }
+        schedule(roomId, state);
+    }
+
+    private void schedule(String roomId, Pending state) {
+        long delay;
+        synchronized (state) {
+            if (state.scheduled) {
+                return;
+            }
+            state.scheduled = true;
+            long sinceLast = System.currentTimeMillis() - state.lastSentAt;
+            delay = Math.max(coalesceMillis, minIntervalMillis - sinceLast);
+        }
+        if (delay <= 0 || scheduler == null) {
+            flush(roomId, state);
+            return;
+        }
+        scheduler.schedule(() -> flush(roomId, state), delay, TimeUnit.MILLISECONDS);
+    }
+
+    private void flush(String roomId, Pending state) {
+        LobbyEvent event;
+        synchronized (state) {
+            state.scheduled = false;
+            if (state.deleted) {
+                pending.remove(roomId, state);
+                // 로비에 알린 적 없는 방이면 삭제도 알릴 필요 없음
+                event = state.created ? null : LobbyEvent.deleted(roomId);
+            } else if (state.room == null) {
+                return;
+            } else {
+                event = LobbyEvent.of(state.created ? LobbyEvent.ROOM_CREATED : LobbyEvent.ROOM_UPDATED, state.room);
+                state.created = false;
+                state.room = null;
+            }
+            state.lastSentAt = System.currentTimeMillis();
+        }
+        if (event == null) {
+            return;
+        }
+        try {
+            messagingTemplate.convertAndSend(DESTINATION, event);
+        } catch (RuntimeException e) {
+            log.warn("Failed to broadcast lobby event for roomId {}: {}", roomId, e.getMessage());
+        }
+    }
+}
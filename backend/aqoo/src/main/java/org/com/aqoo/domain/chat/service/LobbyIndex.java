@@ -0,0 +1,289 @@
+package org.com.aqoo.domain.chat.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.com.aqoo.domain.chat.dto.LobbyPage;
+import org.com.aqoo.domain.chat.dto.LobbyRoomDto;
+import org.com.aqoo.domain.chat.model.ChatRoom;
+import org.com.aqoo.domain.chat.model.RoomRecord;
+import org.com.aqoo.domain.gamecore.engine.GameRoom;
+import org.com.aqoo.domain.gamecore.engine.GameRoomListener;
+import org.com.aqoo.domain.gamecore.engine.GameRoomRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로비 방 목록 인덱스
+ *  - 방 생성 순서(seq) 기준 skip list 로 보관하여 cursor(마지막으로 받은 seq) 이후 한 페이지만 읽음
+ *  - 필터 조합(전체/빈 자리 있음/게임 중 아님/둘 다)마다 전체 인덱스와 게임 종류별 인덱스를 따로 보관하므로,
+ *    어떤 필터의 페이지 조회도 전체 방 수와 무관하게 페이지 크기만큼만 읽음
+ *  - 방 생성/입장/퇴장/삭제, 게임 종류 선택, 게임 시작/종료 때마다 해당 방만 갱신
+ * 변경된 방은 LobbyFeedPublisher 로 넘겨 /topic/lobby 구독자에게도 전송합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LobbyIndex implements GameRoomListener {
+
+    /** 방 하나의 로비 정보 (변경은 this 를 모니터로 하는 synchronized 블록 안에서만) */
+    private static final class Entry {
+        private final String roomId;
+        private final long seq;
+        private final long createdAt;
+        private String ownerId;
+        private int memberCount;
+        private boolean inGame;
+        private String gameType;
+        /** 인덱스에서 제거되었으면 true */
+        private boolean removed;
+
+        private Entry(String roomId, long seq, long createdAt) {
+            this.roomId = roomId;
+            this.seq = seq;
+            this.createdAt = createdAt;
+        }
+    }
+
+    /** 인덱스를 따로 두는 필터 조합 */
+    private enum Filter {
+        ALL, OPEN_SLOTS, NOT_IN_GAME, JOINABLE;
+
+        private static Filter of(boolean openSlots, boolean notInGame) {
+            if (openSlots) {
+                return notInGame ? JOINABLE : OPEN_SLOTS;
+            }
+            return notInGame ? NOT_IN_GAME : ALL;
+        }
+    }
+
+    private final GameRoomRegistry gameRoomRegistry;
+    private final LobbyFeedPublisher lobbyFeedPublisher;
+
+    @Value("${lobby.room-capacity:6}")
+    private int roomCapacity;
+
+    @Value("${lobby.max-page-size:100}")
+    private int maxPageSize;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    /** 필터 -> seq 순 방 목록 */
+    private final Map<Filter, ConcurrentSkipListMap<Long, Entry>> indexes = new EnumMap<>(Filter.class);
+    /** 필터 -> 게임 종류 -> seq 순 방 목록 */
+    private final Map<Filter, Map<String, ConcurrentSkipListMap<Long, Entry>>> indexesByType = new EnumMap<>(Filter.class);
+
+    {
+        for (Filter filter : Filter.values()) {
+            indexes.put(filter, new ConcurrentSkipListMap<>());
+            indexesByType.put(filter, new ConcurrentHashMap<>());
+        }
+    }
+
+    @PostConstruct
+    public void registerListener() {
+        gameRoomRegistry.addListener(this);
+    }
+
+    /** 새 방 등록 (이미 있으면 인원만 갱신) */
+    public void add(ChatRoom room) {
+        add(room, System.currentTimeMillis(), null);
+    }
+
+    /**
+     * 스냅샷에서 복원한 방 등록 (원래 생성 시각과 선택한 게임 종류 유지)
+     * 생성 순서를 유지하려면 createdAt 순으로 호출해야 합니다.
+     */
+    public void restore(RoomRecord record) {
+        add(record.getRoom(), record.getCreatedAt(), normalize(record.getGameType()));
+    }
+
+    /** 방의 현재 로비 정보 (없으면 null) */
+    public LobbyRoomDto find(String roomId) {
+        Entry entry = entries.get(roomId);
+        return entry == null ? null : toDto(entry);
+    }
+
+    private void add(ChatRoom room, long createdAt, String gameType) {
+        Entry created = new Entry(room.getRoomId(), sequence.incrementAndGet(), createdAt);
+        Entry entry = entries.computeIfAbsent(room.getRoomId(), k -> created);
+        synchronized (entry) {
+            if (entry == created) {
+                entry.inGame = gameRoomRegistry.roomIds().contains(room.getRoomId());
+                entry.gameType = gameType;
+            } else {
+                unindex(entry);
+            }
+            entry.ownerId = room.getOwnerId();
+            entry.memberCount = room.getMembers().size();
+            index(entry);
+            if (entry == created) {
+                lobbyFeedPublisher.created(toDto(entry));
+            } else {
+                lobbyFeedPublisher.updated(toDto(entry));
+            }
+        }
+    }
+
+    /** 입장/퇴장/방장 변경 반영 */
+    public void updateMembers(ChatRoom room) {
+        update(room.getRoomId(), entry -> {
+            entry.ownerId = room.getOwnerId();
+            entry.memberCount = room.getMembers().size();
+        });
+    }
+
+    /** 방장이 선택한 게임 종류 반영 */
+    public void updateGameType(String roomId, String gameType) {
+        String normalized = normalize(gameType);
+        update(roomId, entry -> entry.gameType = normalized);
+    }
+
+    public void remove(String roomId) {
+        Entry entry = entries.remove(roomId);
+        if (entry == null) {
+            return;
+        }
+        synchronized (entry) {
+            unindex(entry);
+            entry.removed = true;
+        }
+        lobbyFeedPublisher.deleted(roomId);
+    }
+
+    @Override
+    public void onGameStarted(GameRoom room) {
+        update(room.getRoomId(), entry -> entry.inGame = true);
+    }
+
+    @Override
+    public void onGameEnded(String roomId) {
+        update(roomId, entry -> entry.inGame = false);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * cursor(이전 페이지의 nextCursor, 첫 페이지는 null) 이후 방을 생성 순서대로 최대 size 개 조회
+     *
+     * @param openSlots true 이면 빈 자리가 있는 방만
+     * @param notInGame true 이면 게임 중이 아닌 방만
+     * @param gameType  null 이 아니면 해당 게임 종류를 선택한 방만
+     */
+    public LobbyPage page(Long cursor, int size, boolean openSlots, boolean notInGame, String gameType) {
+        int limit = Math.max(1, Math.min(size, maxPageSize));
+        String type = normalize(gameType);
+        NavigableMap<Long, Entry> index = indexFor(Filter.of(openSlots, notInGame), type);
+        NavigableMap<Long, Entry> tail = cursor == null ? index : index.tailMap(cursor, false);
+
+        List<LobbyRoomDto> rooms = new ArrayList<>(limit);
+        Long nextCursor = null;
+        for (Entry entry : tail.values()) {
+            LobbyRoomDto dto = toDto(entry);
+            // 인덱스를 읽는 사이에 삭제되었거나 조건이 바뀐 방은 제외
+            if (dto == null || !matches(dto, openSlots, notInGame, type)) {
+                continue;
+            }
+            if (rooms.size() == limit) {
+                nextCursor = rooms.get(limit - 1).getSeq();
+                break;
+            }
+            rooms.add(dto);
+        }
+        return new LobbyPage(rooms, nextCursor);
+    }
+
+    private NavigableMap<Long, Entry> indexFor(Filter filter, String type) {
+        if (type == null) {
+            return indexes.get(filter);
+        }
+        NavigableMap<Long, Entry> index = indexesByType.get(filter).get(type);
+        return index != null ? index : Collections.emptyNavigableMap();
+    }
+
+    private boolean matches(LobbyRoomDto dto, boolean openSlots, boolean notInGame, String type) {
+        if (openSlots && dto.getMemberCount() >= dto.getCapacity()) {
+            return false;
+        }
+        if (notInGame && dto.isInGame()) {
+            return false;
+        }
+        return type == null || type.equals(dto.getGameType());
+    }
+
+    private interface Mutation {
+        void apply(Entry entry);
+    }
+
+    private void update(String roomId, Mutation mutation) {
+        Entry entry = entries.get(roomId);
+        if (entry == null) {
+            return;
+        }
+        synchronized (entry) {
+            if (entry.removed) {
+                return;
+            }
+            unindex(entry);
+            mutation.apply(entry);
+            index(entry);
+            lobbyFeedPublisher.updated(toDto(entry));
+        }
+    }
+
+    /** entry 를 모니터로 잡은 상태에서 호출 (조건에 맞는 필터의 인덱스에만 등록) */
+    private void index(Entry entry) {
+        boolean open = entry.memberCount < roomCapacity;
+        for (Filter filter : Filter.values()) {
+            if ((filter == Filter.OPEN_SLOTS || filter == Filter.JOINABLE) && !open) {
+                continue;
+            }
+            if ((filter == Filter.NOT_IN_GAME || filter == Filter.JOINABLE) && entry.inGame) {
+                continue;
+            }
+            indexes.get(filter).put(entry.seq, entry);
+            if (entry.gameType != null) {
+                indexesByType.get(filter).computeIfAbsent(entry.gameType, k -> new ConcurrentSkipListMap<>())
+                        .put(entry.seq, entry);
+            }
+        }
+    }
+
+    /** entry 를 모니터로 잡은 상태에서 호출 */
+    private void unindex(Entry entry) {
+        for (Filter filter : Filter.values()) {
+            indexes.get(filter).remove(entry.seq);
+            if (entry.gameType != null) {
+                ConcurrentSkipListMap<Long, Entry> index = indexesByType.get(filter).get(entry.gameType);
+                if (index != null) {
+                    index.remove(entry.seq);
+                }
+            }
+        }
+    }
+
+    private LobbyRoomDto toDto(Entry entry) {
+        synchronized (entry) {
+            if (entry.removed) {
+                return null;
+            }
+            return new LobbyRoomDto(entry.roomId, entry.seq, entry.createdAt, entry.ownerId, entry.memberCount,
+                    roomCapacity, entry.inGame, entry.gameType);
+        }
+    }
+
+    private static String normalize(String gameType) {
+        return (gameType == null || gameType.isBlank()) ? null : gameType.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,256 @@
+package org.com.aqoo.domain.chat.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.com.aqoo.domain.chat.dto.RosterDelta;
+import org.com.aqoo.domain.chat.dto.RoomUpdate;
+import org.com.aqoo.domain.chat.model.ChatRoom;
+import org.com.aqoo.domain.chat.model.RoomMembers;
+import org.com.aqoo.domain.gamecore.model.PlayerProfile;
+import org.com.aqoo.domain.gamecore.service.GameBroadcaster;
+import org.com.aqoo.domain.gamecore.service.PlayerProfileService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 방 인원 목록(USER_LIST) 브로드캐스트를 방 단위로 모아서 전송합니다.
+ *  - 입장/퇴장/준비/방장 변경은 방을 dirty 로 표시만 하고, chat.roster.coalesce-millis 뒤에 한 번만 전송
+ *    (한 요청 안에서 여러 번 바뀌거나 짧은 시간에 연달아 바뀌어도 USER_LIST 는 방마다 한 번)
+ *  - 전송할 때마다 방 roster 버전을 1 증가시키고 STOMP 헤더 "version" 으로 함께 전송
+ *  - 프로필(닉네임/대표 물고기/레벨)은 전송할 때마다 PlayerProfileService 캐시에서 읽으므로
+ *    무효화/갱신된 프로필이 다음 전송에 반영됨 (캐시에 없으면 DB 를 기다리지 않고 임시 프로필 사용)
+ *  - chat.roster.delta-enabled 가 true 이면 첫 전송 이후에는 전체 USER_LIST 대신 직전 전송과의 차이만
+ *    RosterDelta(MEMBER_JOINED/MEMBER_LEFT/READY_CHANGED/PROFILE_CHANGED/HOST_CHANGED)로 전송
+ *    (변경 한 건마다 버전 +1)
+ *    전체 목록은 클라이언트가 누락을 감지해 요청할 때(sendSnapshot)만 전송
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RosterPublisher {
+
+    /** 한 시점의 방 인원 목록 (불변으로 취급) */
+    private static final class Roster {
+        private final List<String> members;
+        private final Set<String> ready;
+        private final String ownerId;
+        private final Map<String, PlayerProfile> profiles;
+
+        private Roster(List<String> members, Set<String> ready, String ownerId, Map<String, PlayerProfile> profiles) {
+            this.members = members;
+            this.ready = ready;
+            this.ownerId = ownerId;
+            this.profiles = profiles;
+        }
+    }
+
+    /** 방 하나의 roster 전송 상태 */
+    private static final class RosterState {
+        private final ChatRoom room;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        /** 마지막으로 전송한 roster 버전 (this 로 보호) */
+        private long version;
+        /** 마지막으로 전송한 인원 목록, 아직 전송 전이면 null (this 로 보호) */
+        private Roster published;
+
+        private RosterState(ChatRoom room) {
+            this.room = room;
+        }
+    }
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final PlayerProfileService playerProfileService;
+
+    /** 0 이하면 모으지 않고 바로 전송 */
+    @Value("${chat.roster.coalesce-millis:50}")
+    private long coalesceMillis;
+
+    /** true 이면 첫 USER_LIST 이후 변경분만 RosterDelta 로 전송 (기존 클라이언트 호환을 위해 기본 false) */
+    @Value("${chat.roster.delta-enabled:false}")
+    private boolean deltaEnabled;
+
+    private final Map<String, RosterState> states = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService scheduler;
+
+    @PostConstruct
+    public void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "roster-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /** 방 인원 목록이 바뀌었음을 표시 (이미 전송 예약된 방이면 그 전송에 합쳐짐) */
+    public void markDirty(ChatRoom room) {
+        RosterState state = stateOf(room);
+        if (coalesceMillis <= 0 || scheduler == null) {
+            flush(state);
+            return;
+        }
+        if (state.scheduled.compareAndSet(false, true)) {
+            scheduler.schedule(() -> flush(state), coalesceMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /** 현재 인원 목록 (버전은 올리지 않음) */
+    public RoomUpdate userListOf(ChatRoom room) {
+        RosterState state = stateOf(room);
+        synchronized (state) {
+            return new RoomUpdate(room.getRoomId(), "USER_LIST", toUserList(capture(state)));
+        }
+    }
+
+    /**
+     * 마지막으로 전송한 버전의 전체 USER_LIST 를 같은 버전 헤더와 함께 다시 전송 (delta 누락 복구용)
+     * 아직 전송 전인 방이면 지금 목록으로 새 버전을 전송합니다.
+     */
+    public void sendSnapshot(ChatRoom room) {
+        RosterState state = stateOf(room);
+        synchronized (state) {
+            if (state.published == null) {
+                flush(state);
+                return;
+            }
+            send(room.getRoomId(), new RoomUpdate(room.getRoomId(), "USER_LIST", toUserList(state.published)),
+                    state.version);
+        }
+    }
+
+    /** 마지막으로 전송한 roster 버전 (없으면 0) */
+    public long versionOf(String roomId) {
+        RosterState state = states.get(roomId);
+        if (state == null) {
+            return 0L;
+        }
+        synchronized (state) {
+            return state.version;
+        }
+    }
+
+    /** 방 삭제 시 상태 해제 (예약된 전송은 취소된 것처럼 무시됨) */
+    public void forget(String roomId) {
+        states.remove(roomId);
+    }
+
+    private RosterState stateOf(ChatRoom room) {
+        RosterState state = states.get(room.getRoomId());
+        if (state == null || state.room != room) {
+            // 같은 roomId 로 새 방이 만들어졌으면 이전 상태를 버림
+            RosterState created = new RosterState(room);
+            state = states.compute(room.getRoomId(),
+                    (k, current) -> current != null && current.room == room ? current : created);
+        }
+        return state;
+    }
+
+    private void flush(RosterState state) {
+        state.scheduled.set(false);
+        String roomId = state.room.getRoomId();
+        if (states.get(roomId) != state) {
+            return;
+        }
+        try {
+            synchronized (state) {
+                Roster current = capture(state);
+                if (deltaEnabled && state.published != null) {
+                    for (RosterDelta delta : diff(roomId, state, state.published, current)) {
+                        messagingTemplate.convertAndSend(GameBroadcaster.destination(roomId), delta);
+                    }
+                } else {
+                    state.version++;
+                    send(roomId, new RoomUpdate(roomId, "USER_LIST", toUserList(current)), state.version);
+                }
+                state.published = current;
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to broadcast roster for roomId {}: {}", roomId, e.getMessage());
+        }
+    }
+
+    private void send(String roomId, RoomUpdate update, long version) {
+        messagingTemplate.convertAndSend(GameBroadcaster.destination(roomId), update,
+                Map.<String, Object>of(GameBroadcaster.VERSION_HEADER, String.valueOf(version)));
+    }
+
+    /** 직전 전송과 현재 목록의 차이 (퇴장 → 입장/준비 변경/프로필 변경 → 방장 변경 순, 한 건마다 버전 +1) */
+    private static List<RosterDelta> diff(String roomId, RosterState state, Roster previous, Roster current) {
+        List<RosterDelta> deltas = new ArrayList<>();
+        Set<String> currentMembers = new HashSet<>(current.members);
+        for (String userId : previous.members) {
+            if (!currentMembers.contains(userId)) {
+                deltas.add(RosterDelta.left(roomId, ++state.version, userId));
+            }
+        }
+        for (String userId : current.members) {
+            boolean ready = current.ready.contains(userId);
+            PlayerProfile profile = current.profiles.get(userId);
+            PlayerProfile published = previous.profiles.get(userId);
+            if (published == null) {
+                deltas.add(RosterDelta.joined(roomId, ++state.version, profile, ready));
+                continue;
+            }
+            if (ready != previous.ready.contains(userId)) {
+                deltas.add(RosterDelta.ready(roomId, ++state.version, userId, ready));
+            }
+            if (!sameProfile(published, profile)) {
+                deltas.add(RosterDelta.profile(roomId, ++state.version, profile, ready));
+            }
+        }
+        if (current.ownerId != null && !current.ownerId.equals(previous.ownerId)) {
+            deltas.add(RosterDelta.host(roomId, ++state.version, current.ownerId));
+        }
+        return deltas;
+    }
+
+    /** 방의 현재 인원 목록 (state 를 모니터로 잡은 상태에서 호출, 프로필은 캐시에서 매번 다시 읽음) */
+    private Roster capture(RosterState state) {
+        RoomMembers room = RoomMembers.of(state.room);
+        List<String> members = room.getMembers();
+        Map<String, PlayerProfile> profiles = new HashMap<>(members.size() * 2);
+        for (String userId : members) {
+            profiles.put(userId, playerProfileService.cachedProfileOf(userId));
+        }
+        return new Roster(members, room.getReady(), room.getOwnerId(), profiles);
+    }
+
+    private static boolean sameProfile(PlayerProfile a, PlayerProfile b) {
+        return a.getLevel() == b.getLevel()
+                && Objects.equals(a.getNickname(), b.getNickname())
+                && Objects.equals(a.getMainFishImage(), b.getMainFishImage());
+    }
+
+    private static List<RoomUpdate.UserInfo> toUserList(Roster roster) {
+        List<RoomUpdate.UserInfo> userList = new ArrayList<>(roster.members.size());
+        for (String userId : roster.members) {
+            PlayerProfile profile = roster.profiles.get(userId);
+            userList.add(new RoomUpdate.UserInfo(userId, profile.getNickname(), roster.ready.contains(userId),
+                    userId.equals(roster.ownerId), profile.getMainFishImage(), profile.getLevel()));
+        }
+        return userList;
+    }
+}
@@ -6,8 +6,11 @@ import org.com.aqoo.domain.game.dto.PressMessage;
 import org.com.aqoo.domain.game.dto.StartGameMessage;
 import org.com.aqoo.domain.game.dto.RoomResponse;
 import org.com.aqoo.domain.game.service.GameService;
+import org.com.aqoo.domain.gamecore.dto.ResyncRequest;
+import org.com.aqoo.domain.gamecore.engine.GameInputDispatcher;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.stereotype.Controller;
 
 @Controller
@@ -15,34 +18,48 @@ import org.springframework.stereotype.Controller;
 public class GameController {
 
     private final GameService gameService;
+    // 세션 확인, 방 활동 기록, shard 실행, 입력 지표는 공통 dispatcher 에서 처리
+    private final GameInputDispatcher gameInputDispatcher;
 
     /**
      * 게임 시작 요청 처리
      * 클라이언트는 /app/game.start 로 메시지를 전송
      */
     @MessageMapping("/game.start")
-    public void startGame(@Payload StartGameMessage message) {
+    public void startGame(@Payload StartGameMessage message, SimpMessageHeaderAccessor headerAccessor) {
 //        System.out.println("game.start received: " + message);
-        gameService.startGame(message.getRoomId());
+        gameInputDispatcher.dispatchStart(gameService, headerAccessor.getSessionId(), message.getRoomId());
     }
 
     /**
      * 스페이스바 탭 이벤트 처리
      * 클라이언트는 /app/game.press 로 메시지를 전송
+     * CONNECT 때 인증된 세션이면 roomId, userName 은 생략 가능 (세션 정보 사용)
      */
     @MessageMapping("/game.press")
-    public void press(@Payload PressMessage message) {
+    public void press(@Payload PressMessage message, SimpMessageHeaderAccessor headerAccessor) {
 //        System.out.println("game.press received: " + message);
-        gameService.processPress(message);
+        gameInputDispatcher.dispatchInput(gameService, headerAccessor.getSessionId(),
+                message.getRoomId(), message.getUserName(), message);
     }
 
     /**
      * 타임아웃 등으로 게임 종료 요청 처리
      * 클라이언트는 /app/game.end 로 메시지를 전송
+     * 종료 시각은 서버 타이머가 결정하므로 이 요청은 힌트로만 사용
      */
     @MessageMapping("/game.end")
-    public void endGame(@Payload EndGameMessage message) {
+    public void endGame(@Payload EndGameMessage message, SimpMessageHeaderAccessor headerAccessor) {
 //        System.out.println("game.end received: " + message);
-        gameService.endGame(message.getRoomId());
+        gameInputDispatcher.dispatchEnd(gameService, headerAccessor.getSessionId(), message.getRoomId());
     }
-}
\ No newline at end of file
+
+    /**
+     * delta 누락 시 전체 상태 재전송 요청 처리
+     * 클라이언트는 /app/game.resync 로 메시지를 전송
+     */
+    @MessageMapping("/game.resync")
+    public void resync(@Payload ResyncRequest message, SimpMessageHeaderAccessor headerAccessor) {
+        gameInputDispatcher.dispatchResync(gameService, headerAccessor.getSessionId(), message.getRoomId());
+    }
+}
@@ -0,0 +1,40 @@
+package org.com.aqoo.domain.game.model;
+
+import org.com.aqoo.domain.gamecore.engine.GameRoom;
+import org.com.aqoo.domain.gamecore.engine.InputResult;
+import org.com.aqoo.domain.gamecore.metrics.GameMetrics;
+import org.com.aqoo.domain.gamecore.model.RoomProfileSnapshot;
+
+/**
+ * 스페이스바 탭 게임 한 방의 진행 상태
+ * 탭 수만큼 점수가 오르고 TARGET_SCORE 에서 멈추며, 도달 순서대로 순위가 정해집니다.
+ */
+public class TapRoomState extends GameRoom {
+
+    public static final int TARGET_SCORE = 100;
+
+    public TapRoomState(String roomId, RoomProfileSnapshot profiles) {
+        super(GameMetrics.Game.TAP, roomId, profiles);
+    }
+
+    /**
+     * 탭 입력을 반영합니다.
+     * - 이미 목표 점수면 무시
+     * - 점수를 pressCount 만큼 올리되 목표 점수를 넘지 않음, 목표 점수 도달 시 도달 순서 기록
+     */
+    public synchronized InputResult press(int slot, int pressCount) {
+        if (slot < 0) {
+            return InputResult.IGNORED;
+        }
+        if (scores[slot] >= TARGET_SCORE) {
+            return InputResult.ALREADY_FINISHED;
+        }
+        scores[slot] = Math.min(TARGET_SCORE, scores[slot] + pressCount);
+        bumpVersion();
+        if (scores[slot] < TARGET_SCORE) {
+            return InputResult.SCORED;
+        }
+        recordFinish(slot);
+        return InputResult.FINISHED;
+    }
+}
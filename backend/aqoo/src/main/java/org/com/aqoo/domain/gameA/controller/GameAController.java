@@ -5,8 +5,11 @@ import org.com.aqoo.domain.gameA.dto.EndGameMessage;
 import org.com.aqoo.domain.gameA.dto.PressMessage;
 import org.com.aqoo.domain.gameA.dto.StartGameMessage;
 import org.com.aqoo.domain.gameA.service.GameAService;
+import org.com.aqoo.domain.gamecore.dto.ResyncRequest;
+import org.com.aqoo.domain.gamecore.engine.GameInputDispatcher;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.stereotype.Controller;
 
 @Controller
@@ -14,35 +17,46 @@ import org.springframework.stereotype.Controller;
 public class GameAController {
 
     private final GameAService gameAService;
+    // 세션 확인, 방 활동 기록, shard 실행, 입력 지표는 공통 dispatcher 에서 처리
+    private final GameInputDispatcher gameInputDispatcher;
 
     /**
      * 게임 시작 요청 처리  
      * 클라이언트는 /app/gameA.start 로 메시지를 전송
      */
     @MessageMapping("/gameA.start")
-    public void startGame(@Payload StartGameMessage message) {
-        System.out.println("gameA.start received: " + message);
-        gameAService.startGame(message.getRoomId());
+    public void startGame(@Payload StartGameMessage message, SimpMessageHeaderAccessor headerAccessor) {
+        gameInputDispatcher.dispatchStart(gameAService, headerAccessor.getSessionId(), message.getRoomId());
     }
 
     /**
      * 방향키 입력 이벤트 처리  
      * 클라이언트는 /app/gameA.press 로 메시지를 전송  
      * PressMessage에는 roomId, userName, 그리고 direction (입력한 방향: 0, 1, 2, 3)이 포함되어야 함
+     * CONNECT 때 인증된 세션이면 roomId, userName 은 생략 가능 (세션 정보 사용)
      */
     @MessageMapping("/gameA.press")
-    public void press(@Payload PressMessage message) {
-        System.out.println("gameA.press received: " + message);
-        gameAService.processPress(message);
+    public void press(@Payload PressMessage message, SimpMessageHeaderAccessor headerAccessor) {
+        gameInputDispatcher.dispatchInput(gameAService, headerAccessor.getSessionId(),
+                message.getRoomId(), message.getUserName(), message);
     }
 
     /**
      * 타임아웃 등으로 게임 종료 요청 처리  
-     * 클라이언트는 /app/gameA.end 로 메시지를 전송
+     * 클라이언트는 /app/gameA.end 로 메시지를 전송  
+     * 종료 시각은 서버 타이머가 결정하므로 이 요청은 힌트로만 사용
      */
     @MessageMapping("/gameA.end")
-    public void endGame(@Payload EndGameMessage message) {
-        System.out.println("gameA.end received: " + message);
-        gameAService.endGame(message.getRoomId());
+    public void endGame(@Payload EndGameMessage message, SimpMessageHeaderAccessor headerAccessor) {
+        gameInputDispatcher.dispatchEnd(gameAService, headerAccessor.getSessionId(), message.getRoomId());
+    }
+
+    /**
+     * delta 누락 시 전체 상태 재전송 요청 처리
+     * 클라이언트는 /app/gameA.resync 로 메시지를 전송
+     */
+    @MessageMapping("/gameA.resync")
+    public void resync(@Payload ResyncRequest message, SimpMessageHeaderAccessor headerAccessor) {
+        gameInputDispatcher.dispatchResync(gameAService, headerAccessor.getSessionId(), message.getRoomId());
     }
 }
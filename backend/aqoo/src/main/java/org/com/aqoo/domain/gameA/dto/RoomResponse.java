@@ -8,7 +8,9 @@ import java.util.List;
 
 /**
  * 게임 진행 상태를 클라이언트에 전달할 때 사용하는 응답 DTO입니다.
- * directionSequence 필드는 0~3의 정수 100개로 구성된 랜덤 방향 리스트입니다.
+ * directionSequence 필드는 0~3의 정수로 구성된 방향 리스트입니다 (기존 클라이언트 호환용, 설정으로 생략 가능).
+ * directionSeed / directionLength 로 클라이언트가 동일한 시퀀스를 직접 생성할 수 있습니다 (DirectionSequence 참고).
+ * directionSeed 는 JavaScript 정밀도 손실을 피하기 위해 10진수 문자열로 전달합니다.
  */
 @Data
 @NoArgsConstructor
@@ -20,4 +22,6 @@ public class RoomResponse {
     private String winner;
     private List<String> finishOrder;
     private List<Integer> directionSequence;
+    private String directionSeed;
+    private Integer directionLength;
 }
@@ -0,0 +1,63 @@
+package org.com.aqoo.domain.gameA.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * gameA 방향키 시퀀스 (0: UP, 1: RIGHT, 2: DOWN, 3: LEFT)
+ * 방마다 seed 하나로 결정되며, 한 단계당 2비트로 long 배열에 packing 하여 보관합니다.
+ *
+ * 생성 규칙 (클라이언트도 동일하게 구현하면 seed 와 length 만으로 같은 시퀀스를 얻을 수 있습니다):
+ *  - PRNG 는 SplitMix64 를 사용합니다.
+ *    state += 0x9E3779B97F4A7C15;
+ *    z = state;
+ *    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9;
+ *    z = (z ^ (z >>> 27)) * 0x94D049BB133111EB;
+ *    output = z ^ (z >>> 31);
+ *  - 초기 state 는 seed 이고, i 번째 출력 word 가 32개 단계(i*32 ~ i*32+31)를 담습니다.
+ *  - step 의 방향 = (word[step / 32] >>> ((step % 32) * 2)) & 3  (하위 비트부터 사용)
+ */
+public final class DirectionSequence {
+
+    private static final int STEPS_PER_WORD = 32;
+
+    private final long seed;
+    private final int length;
+    private final long[] words;
+
+    public DirectionSequence(long seed, int length) {
+        this.seed = seed;
+        this.length = length;
+        this.words = new long[(length + STEPS_PER_WORD - 1) / STEPS_PER_WORD];
+        long state = seed;
+        for (int i = 0; i < words.length; i++) {
+            state += 0x9E3779B97F4A7C15L;
+            long z = state;
+            z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+            z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+            words[i] = z ^ (z >>> 31);
+        }
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int length() {
+        return length;
+    }
+
+    /** step 번째 정답 방향 (0~3) */
+    public int directionAt(int step) {
+        return (int) (words[step >>> 5] >>> ((step & 31) << 1)) & 3;
+    }
+
+    /** 기존 클라이언트 호환용 int 리스트 (JSON directionSequence) */
+    public List<Integer> toList() {
+        List<Integer> list = new ArrayList<>(length);
+        for (int i = 0; i < length; i++) {
+            list.add(directionAt(i));
+        }
+        return list;
+    }
+}
@@ -0,0 +1,80 @@
+package org.com.aqoo.domain.gameA.model;
+
+import org.com.aqoo.domain.gamecore.engine.GameRoom;
+import org.com.aqoo.domain.gamecore.engine.InputResult;
+import org.com.aqoo.domain.gamecore.metrics.GameMetrics;
+import org.com.aqoo.domain.gamecore.model.RoomProfileSnapshot;
+
+/**
+ * gameA 한 방의 진행 상태
+ * 목표 점수는 방향키 시퀀스 길이와 같습니다 (기본 100).
+ * 점수/스턴/도달 순서/버전/종료 단계는 GameRoom 이 관리하고, 여기서는 플레이어별 시퀀스 단계만 추가로 보관합니다.
+ */
+public class GameARoomState extends GameRoom {
+
+    /** 기본 시퀀스 길이 = 기본 목표 점수 */
+    public static final int DEFAULT_SEQUENCE_LENGTH = 100;
+
+    private final DirectionSequence directionSequence;
+    private final int targetScore;
+
+    /** 슬롯별 다음에 입력할 시퀀스 위치 */
+    private final int[] steps;
+
+    /** 슬롯 순서는 profiles 의 순서와 동일합니다. */
+    public GameARoomState(String roomId, RoomProfileSnapshot profiles, DirectionSequence directionSequence) {
+        super(GameMetrics.Game.GAME_A, roomId, profiles);
+        this.steps = new int[profiles.size()];
+        this.directionSequence = directionSequence;
+        this.targetScore = directionSequence.length();
+    }
+
+    public DirectionSequence getDirectionSequence() {
+        return directionSequence;
+    }
+
+    public int getTargetScore() {
+        return targetScore;
+    }
+
+    /** 정답 한 번마다 점수와 단계가 함께 1씩 오르므로 단계는 점수와 같음 */
+    @Override
+    protected void onRestored() {
+        System.arraycopy(scores, 0, steps, 0, steps.length);
+    }
+
+    /**
+     * 방향키 입력 한 번을 반영합니다.
+     * - 스턴 중이면 무시
+     * - 이미 목표 점수면 무시
+     * - 정답이면 점수/단계 +1, 목표 점수 도달 시 도달 순서 기록
+     * - 오답이면 stunMillis 만큼 스턴
+     * 상태가 바뀐 경우(정답/오답) 방 버전을 1 증가시킵니다.
+     */
+    public synchronized InputResult press(int slot, int pressedDirection, long now, long stunMillis) {
+        if (slot < 0) {
+            return InputResult.IGNORED;
+        }
+        if (isStunned(slot, now)) {
+            return InputResult.STUNNED;
+        }
+        if (scores[slot] >= targetScore) {
+            return InputResult.ALREADY_FINISHED;
+        }
+
+        if (steps[slot] >= directionSequence.length() || directionSequence.directionAt(steps[slot]) != pressedDirection) {
+            stun(slot, now, stunMillis);
+            bumpVersion();
+            return InputResult.STUN_STARTED;
+        }
+
+        steps[slot]++;
+        scores[slot] = Math.min(targetScore, scores[slot] + 1);
+        bumpVersion();
+        if (scores[slot] < targetScore) {
+            return InputResult.SCORED;
+        }
+        recordFinish(slot);
+        return InputResult.FINISHED;
+    }
+}
@@ -5,8 +5,11 @@ import org.com.aqoo.domain.gameB.dto.EndGameMessage;
 import org.com.aqoo.domain.gameB.dto.EatMessage;
 import org.com.aqoo.domain.gameB.dto.StartGameMessage;
 import org.com.aqoo.domain.gameB.service.GameBService;
+import org.com.aqoo.domain.gamecore.dto.ResyncRequest;
+import org.com.aqoo.domain.gamecore.engine.GameInputDispatcher;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.stereotype.Controller;
 
 @Controller
@@ -14,33 +17,47 @@ import org.springframework.stereotype.Controller;
 public class GameBController {
 
     private final GameBService gameBService;
+    // 세션 확인, 방 활동 기록, shard 실행, 입력 지표는 공통 dispatcher 에서 처리
+    private final GameInputDispatcher gameInputDispatcher;
 
     /**
      * 게임 시작 요청 처리
      * 클라이언트는 /app/gameB.start 로 메시지를 전송
      */
     @MessageMapping("/gameB.start")
-    public void startGame(@Payload StartGameMessage message) {
+    public void startGame(@Payload StartGameMessage message, SimpMessageHeaderAccessor headerAccessor) {
         // 게임 시작 처리
-        gameBService.startGame(message.getRoomId());
+        gameInputDispatcher.dispatchStart(gameBService, headerAccessor.getSessionId(), message.getRoomId());
     }
 
     /**
      * 먹이/돌 섭취 이벤트 처리
      * 클라이언트는 /app/gameB.eat 로 메시지를 전송
      * EatMessage에는 roomId, userName, itemType (FEED, STONE) 정보가 포함됨
+     * CONNECT 때 인증된 세션이면 roomId, userName 은 생략 가능 (세션 정보 사용)
      */
     @MessageMapping("/gameB.eat")
-    public void processEat(@Payload EatMessage message) {
-        gameBService.processEat(message);
+    public void processEat(@Payload EatMessage message, SimpMessageHeaderAccessor headerAccessor) {
+        gameInputDispatcher.dispatchInput(gameBService, headerAccessor.getSessionId(),
+                message.getRoomId(), message.getUserName(), message);
     }
 
     /**
      * 타임아웃 등으로 게임 종료 요청 처리
      * 클라이언트는 /app/gameB.end 로 메시지를 전송
+     * 종료 시각은 서버 타이머가 결정하므로 이 요청은 힌트로만 사용
      */
     @MessageMapping("/gameB.end")
-    public void endGame(@Payload EndGameMessage message) {
-        gameBService.endGame(message.getRoomId());
+    public void endGame(@Payload EndGameMessage message, SimpMessageHeaderAccessor headerAccessor) {
+        gameInputDispatcher.dispatchEnd(gameBService, headerAccessor.getSessionId(), message.getRoomId());
+    }
+
+    /**
+     * delta 누락 시 전체 상태 재전송 요청 처리
+     * 클라이언트는 /app/gameB.resync 로 메시지를 전송
+     */
+    @MessageMapping("/gameB.resync")
+    public void resync(@Payload ResyncRequest message, SimpMessageHeaderAccessor headerAccessor) {
+        gameInputDispatcher.dispatchResync(gameBService, headerAccessor.getSessionId(), message.getRoomId());
     }
 }
@@ -0,0 +1,46 @@
+package org.com.aqoo.domain.gameB.model;
+
+import org.com.aqoo.domain.gamecore.engine.GameRoom;
+import org.com.aqoo.domain.gamecore.engine.InputResult;
+import org.com.aqoo.domain.gamecore.metrics.GameMetrics;
+import org.com.aqoo.domain.gamecore.model.RoomProfileSnapshot;
+
+/**
+ * gameB 한 방의 진행 상태
+ * 목표 점수 없이 제한 시간 동안 먹이를 먹은 수로 순위를 정하며, 돌을 먹으면 잠시 스턴됩니다.
+ */
+public class GameBRoomState extends GameRoom {
+
+    public static final String FEED = "FEED";
+    public static final String STONE = "STONE";
+
+    public GameBRoomState(String roomId, RoomProfileSnapshot profiles) {
+        super(GameMetrics.Game.GAME_B, roomId, profiles);
+    }
+
+    /**
+     * 먹이/돌 섭취 한 번을 반영합니다.
+     * - 스턴 중이면 무시
+     * - FEED 이면 점수 +1
+     * - STONE 이면 stunMillis 만큼 스턴
+     */
+    public synchronized InputResult eat(int slot, String itemType, long now, long stunMillis) {
+        if (slot < 0) {
+            return InputResult.IGNORED;
+        }
+        if (isStunned(slot, now)) {
+            return InputResult.STUNNED;
+        }
+        if (FEED.equalsIgnoreCase(itemType)) {
+            scores[slot]++;
+            bumpVersion();
+            return InputResult.SCORED;
+        }
+        if (STONE.equalsIgnoreCase(itemType)) {
+            stun(slot, now, stunMillis);
+            bumpVersion();
+            return InputResult.STUN_STARTED;
+        }
+        return InputResult.IGNORED;
+    }
+}
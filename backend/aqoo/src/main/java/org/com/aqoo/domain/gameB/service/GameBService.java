@@ -1,181 +1,113 @@
 package org.com.aqoo.domain.gameB.service;
 
-import jakarta.transaction.Transactional;
-import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.com.aqoo.domain.auth.dto.UserInfoResponse;
-import org.com.aqoo.domain.auth.service.UserService;
-import org.com.aqoo.domain.chat.model.ChatRoom;
-import org.com.aqoo.domain.chat.service.ChatRoomService;
 import org.com.aqoo.domain.gameB.dto.EatMessage;
 import org.com.aqoo.domain.gameB.dto.GameBPlayerDto;
 import org.com.aqoo.domain.gameB.dto.RoomResponse;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.com.aqoo.domain.gameB.model.GameBRoomState;
+import org.com.aqoo.domain.gamecore.dto.ScoreDelta;
+import org.com.aqoo.domain.gamecore.engine.AbstractGameEngine;
+import org.com.aqoo.domain.gamecore.engine.GameEngineSupport;
+import org.com.aqoo.domain.gamecore.engine.InputResult;
+import org.com.aqoo.domain.gamecore.engine.InputSender;
+import org.com.aqoo.domain.gamecore.metrics.GameMetrics;
+import org.com.aqoo.domain.gamecore.model.RoomProfileSnapshot;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.util.Comparator;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
 
+/**
+ * gameB (먹이 먹기) 규칙
+ *  - FEED 를 먹으면 점수 +1, STONE 을 먹으면 1초 스턴 (해당 시간 동안 추가 입력 무시)
+ *  - 제한 시간이 끝나면 최고 점수자가 승자
+ * 방 상태 관리/종료 예약/브로드캐스트는 AbstractGameEngine 이 처리합니다.
+ */
 @Service
 @Slf4j
-@AllArgsConstructor
-public class GameBService {
+public class GameBService extends AbstractGameEngine<EatMessage, GameBRoomState> {
 
-    private final SimpMessagingTemplate messagingTemplate;
-    private final ChatRoomService chatRoomService;
-    private final UserService userService;
+    /** 돌을 먹었을 때 스턴 시간 (ms) */
+    private static final long STUN_MILLIS = TimeUnit.SECONDS.toMillis(1);
 
     /**
-     * 각 방의 점수를 관리하는 Map: roomId -> (userName -> score)
+     * 서버 기준 게임 시간 (이 시간이 지나면 서버가 endGame 실행)
      */
-    private final Map<String, Map<String, Integer>> scoreMap = new ConcurrentHashMap<>();
+    @Value("${game.b.duration-seconds:60}")
+    private long durationSeconds;
 
-    /**
-     * 각 방의 스턴 상태 관리: roomId -> (userName -> stunEndTime)
-     */
-    private final Map<String, Map<String, Long>> stunMap = new ConcurrentHashMap<>();
+    public GameBService(GameEngineSupport support) {
+        super(support, GameBRoomState.class);
+    }
 
-    /**
-     * 게임 시작: 채팅방 멤버의 점수를 0으로 초기화하고, GAME_B_STARTED 메시지를 브로드캐스트
-     */
-    @Transactional
-    public void startGame(String roomId) {
-        log.info("startGame() called for roomId: {}", roomId);
-        ChatRoom chatRoom = chatRoomService.getRoom(roomId);
-        if (chatRoom != null) {
-            Map<String, Integer> roomScore = new ConcurrentHashMap<>();
-            chatRoom.getMembers().forEach(member -> roomScore.put(member, 0));
-            scoreMap.put(roomId, roomScore);
-            // 스턴 상태 초기화
-            stunMap.put(roomId, new ConcurrentHashMap<>());
+    @Override
+    public GameMetrics.Game game() {
+        return GameMetrics.Game.GAME_B;
+    }
 
-            List<GameBPlayerDto> players = roomScore.entrySet().stream()
-                    .map(e -> {
-                        String userName = e.getKey();
-                        int score = e.getValue();
-                        UserInfoResponse userInfo = userService.getUserInfo(userName);
-                        return new GameBPlayerDto(userName, score, userInfo.getMainFishImage(), userInfo.getNickname());
-                    })
-                    .collect(Collectors.toList());
+    @Override
+    protected long durationSeconds() {
+        return durationSeconds;
+    }
 
-            RoomResponse response = new RoomResponse(roomId, players, "GAME_B_STARTED", null, null);
-            messagingTemplate.convertAndSend("/topic/room/" + roomId, response);
-            log.info("Broadcasted GAME_B_STARTED for roomId: {}", roomId);
-        } else {
-            log.error("ChatRoom not found for roomId: {}", roomId);
-        }
+    @Override
+    protected GameBRoomState createRoom(String roomId, RoomProfileSnapshot profiles) {
+        return new GameBRoomState(roomId, profiles);
     }
 
     /**
      * 먹이/돌 섭취 이벤트 처리
-     * - itemType이 "FEED"이면 점수 +1
-     * - itemType이 "STONE"이면 1초 스턴 처리 (해당 시간 동안 추가 입력 무시)
      * 점수 변경 시 전체 브로드캐스트로 업데이트
+     * (delta 모드에서는 해당 플레이어의 SCORE_DELTA / STUN_STARTED 만 전송)
      */
-    @Transactional
-    public void processEat(EatMessage eatMessage) {
-        String roomId = eatMessage.getRoomId();
-        String user = eatMessage.getUserName();
-        String itemType = eatMessage.getItemType();
-
-        log.info("processEat() called: roomId={}, userName={}, itemType={}", roomId, user, itemType);
-
-        Map<String, Integer> roomScore = scoreMap.get(roomId);
-        Map<String, Long> roomStunMap = stunMap.get(roomId);
-
-        if (roomScore == null || roomStunMap == null) {
-            log.error("No score or stun map found for roomId: {}", roomId);
+    @Override
+    public void handleInput(InputSender sender, EatMessage eatMessage) {
+        String user = sender.getUserName();
+        GameBRoomState room = runningRoomOf(sender.getRoomId(), user);
+        if (room == null) {
             return;
         }
-
-        long currentTime = System.currentTimeMillis();
-
-        // 스턴 상태 체크
-        if (roomStunMap.containsKey(user)) {
-            long stunEnd = roomStunMap.get(user);
-            if (currentTime < stunEnd) {
-                log.info("User {} is stunned until {}. Ignoring eat event.", user, stunEnd);
-                return;
-            } else {
-                roomStunMap.remove(user);
-            }
-        }
-
-        if ("FEED".equalsIgnoreCase(itemType)) {
-            // 먹이를 먹으면 점수 +1
-            roomScore.merge(user, 1, Integer::sum);
-            log.info("User {} score increased to {}", user, roomScore.get(user));
-        } else if ("STONE".equalsIgnoreCase(itemType)) {
-            // 돌을 먹으면 1초 스턴
-            roomStunMap.put(user, currentTime + TimeUnit.SECONDS.toMillis(1));
-            log.info("User {} stunned for 1 second", user);
+        int slot = slotOf(room, sender);
+        InputResult result;
+        ScoreDelta delta;
+        synchronized (room) {
+            result = room.eat(slot, eatMessage.getItemType(), System.currentTimeMillis(), STUN_MILLIS);
+            delta = deltaOf(room, slot, result, STUN_MILLIS);
         }
+        applyResult(room, user, slot, result, delta);
+    }
 
-        // 플레이어 목록 업데이트 및 브로드캐스트
-        List<GameBPlayerDto> players = roomScore.entrySet().stream()
-                .map(e -> {
-                    String userName = e.getKey();
-                    int score = e.getValue();
-                    UserInfoResponse userInfo = userService.getUserInfo(userName);
-                    return new GameBPlayerDto(userName, score, userInfo.getMainFishImage(), userInfo.getNickname());
-                })
-                .collect(Collectors.toList());
+    @Override
+    protected Object startedResponse(GameBRoomState room) {
+        return new RoomResponse(room.getRoomId(), buildPlayers(room), "GAME_B_STARTED", null, null);
+    }
 
-        RoomResponse response = new RoomResponse(roomId, players, "SCORE_UPDATED", null, null);
-        messagingTemplate.convertAndSend("/topic/room/" + roomId, response);
+    @Override
+    protected Object progressResponse(GameBRoomState room) {
+        return new RoomResponse(room.getRoomId(), buildPlayers(room), "SCORE_UPDATED", null, null);
     }
 
     /**
-     * 타임아웃 등으로 게임 종료 요청 처리
-     * 게임 종료 시 최종 점수 및 승자(최고 점수자)를 브로드캐스트
+     * 최종 점수 및 승자(최고 점수자, 여러 명이면 먼저 입장한 순서) 전송
+     * 점수 순서의 각 항목은 "닉네임 - 점수점" 형태의 문자열
      */
-    @Transactional
-    public void endGame(String roomId) {
-        log.info("endGame() called for roomId: {}", roomId);
-        Map<String, Integer> roomScore = scoreMap.get(roomId);
-        if (roomScore == null) {
-            log.error("No score map found for roomId: {}", roomId);
-            return;
+    @Override
+    protected Object endedResponse(GameBRoomState room) {
+        List<String> ranking = room.rankedUserNames();
+        String winnerNickname = ranking.isEmpty() ? null : room.getProfiles().nicknameOf(ranking.get(0));
+        List<String> scoreOrder = new ArrayList<>(ranking.size());
+        for (String userName : ranking) {
+            scoreOrder.add(room.getProfiles().nicknameOf(userName) + " - "
+                    + room.scoreOf(room.slotOf(userName)) + "점");
         }
+        return new RoomResponse(room.getRoomId(), buildPlayers(room), "GAME_B_ENDED", winnerNickname, scoreOrder);
+    }
 
-        // 플레이어 목록 구성
-        List<GameBPlayerDto> players = roomScore.entrySet().stream()
-                .map(e -> {
-                    String userName = e.getKey();
-                    int score = e.getValue();
-                    UserInfoResponse userInfo = userService.getUserInfo(userName);
-                    return new GameBPlayerDto(userName, score, userInfo.getMainFishImage(), userInfo.getNickname());
-                })
-                .collect(Collectors.toList());
-
-        // 최고 점수자 산출 (여러 명이면 최초 등록된 순서)
-        Optional<Map.Entry<String, Integer>> winnerEntry = roomScore.entrySet().stream()
-                .max(Comparator.comparingInt(Map.Entry::getValue));
-
-        // 기존 winner는 userId이므로, players 리스트에서 해당 userId에 해당하는 nickname을 찾아 winnerNickname에 담음.
-        String winnerUserId = winnerEntry.map(Map.Entry::getKey).orElse(null);
-        String winnerNickname = null;
-        if (winnerUserId != null) {
-            winnerNickname = players.stream()
-                    .filter(p -> p.getUserName().equals(winnerUserId))
-                    .findFirst()
-                    .map(GameBPlayerDto::getNickname)
-                    .orElse(winnerUserId);
-        }
-
-        // 최종 점수 순서 구성: 각 항목은 "닉네임 - 점수점" 형태의 문자열
-        List<String> scoreOrder = players.stream()
-                .sorted((p1, p2) -> Integer.compare(p2.getScore(), p1.getScore()))
-                .map(p -> p.getNickname() + " - " + p.getScore() + "점")
-                .collect(Collectors.toList());
-
-        RoomResponse response = new RoomResponse(roomId, players, "GAME_B_ENDED", winnerNickname, scoreOrder);
-        messagingTemplate.convertAndSend("/topic/room/" + roomId, response);
-        log.info("Broadcasted GAME_B_ENDED for roomId: {} with winner: {}", roomId, winnerNickname);
+    /** 스냅샷 슬롯 순서로 플레이어 목록 구성 (순서 = delta 의 slot) */
+    private List<GameBPlayerDto> buildPlayers(GameBRoomState room) {
+        return buildPlayers(room, (profile, score) -> new GameBPlayerDto(profile.getUserName(), score,
+                profile.getMainFishImage(), profile.getNickname()));
     }
 }
@@ -0,0 +1,99 @@
+package org.com.aqoo.domain.gamecore.cluster;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 클러스터 노드 구성 변경 API 인증과 다른 노드로의 전파
+ *  - 변경 요청은 X-Cluster-Token 헤더가 cluster.admin-token 과 같을 때만 허용 (비어 있으면 변경 API 비활성)
+ *  - 한 노드에서 받은 추가/제거는 ring 의 다른 노드에 같은 토큰과 X-Cluster-Propagated 헤더로 비동기 전달
+ *    (전달받은 노드는 다시 전파하지 않음)
+ *  - 담당이 바뀐 채팅방을 새 담당 노드로 넘김 (handOff)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClusterPeerClient {
+
+    public static final String TOKEN_HEADER = "X-Cluster-Token";
+    public static final String PROPAGATED_HEADER = "X-Cluster-Propagated";
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final RoomOwnershipService roomOwnershipService;
+
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(TIMEOUT).build();
+
+    @Value("${cluster.admin-token:}")
+    private String adminToken;
+
+    /** 노드 구성 변경 요청의 토큰 확인 (토큰이 설정되지 않았으면 항상 거부) */
+    public boolean isAuthorized(String token) {
+        if (adminToken.isBlank() || token == null) {
+            return false;
+        }
+        return MessageDigest.isEqual(adminToken.getBytes(StandardCharsets.UTF_8),
+                token.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 채팅방 스냅샷(ChatRoomSnapshotService.export)을 새 담당 노드의 /api/v1/cluster/rooms 로 전송
+     * @return 대상 노드가 등록했으면 true 로 완료
+     */
+    public CompletableFuture<Boolean> handOff(String node, byte[] rooms) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(node + "/api/v1/cluster/rooms"))
+                .timeout(TIMEOUT)
+                .header(TOKEN_HEADER, adminToken)
+                .header("Content-Type", "application/octet-stream")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(rooms))
+                .build();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .handle((response, error) -> {
+                    if (error != null) {
+                        log.warn("Failed to hand off rooms to {}: {}", node, error.getMessage());
+                        return false;
+                    }
+                    if (response.statusCode() >= 300) {
+                        log.warn("Peer {} rejected room handoff with status {}", node, response.statusCode());
+                        return false;
+                    }
+                    return true;
+                });
+    }
+
+    /** 노드 추가/제거를 자신과 대상 노드를 제외한 ring 의 노드에 전달 */
+    public void propagate(String method, String node) {
+        String query = "?node=" + URLEncoder.encode(node, StandardCharsets.UTF_8);
+        for (String peer : roomOwnershipService.getNodes()) {
+            if (peer.equals(roomOwnershipService.getSelfNode()) || peer.equals(node)) {
+                continue;
+            }
+            HttpRequest request = HttpRequest.newBuilder(URI.create(peer + "/api/v1/cluster/nodes" + query))
+                    .timeout(TIMEOUT)
+                    .header(TOKEN_HEADER, adminToken)
+                    .header(PROPAGATED_HEADER, "true")
+                    .method(method, HttpRequest.BodyPublishers.noBody())
+                    .build();
+            httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        if (error != null) {
+                            log.warn("Failed to propagate {} {} to {}: {}", method, node, peer, error.getMessage());
+                        } else if (response.statusCode() >= 300) {
+                            log.warn("Peer {} rejected {} {} with status {}", peer, method, node, response.statusCode());
+                        }
+                    });
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package org.com.aqoo.domain.gamecore.cluster;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * 불변 consistent hash ring
+ * 노드마다 virtualNodes 개의 지점을 ring 에 배치하고, 키는 시계 방향으로 처음 만나는 지점의 노드가 담당합니다.
+ * 노드가 추가/제거되면 그 노드와 인접한 구간의 키만 담당 노드가 바뀝니다.
+ * 조회는 정렬된 long 배열에 대한 이진 탐색이라 할당이 없습니다.
+ */
+public final class ConsistentHashRing {
+
+    private final List<String> nodes;
+    private final long[] points;
+    private final String[] owners;
+
+    public ConsistentHashRing(Collection<String> nodes, int virtualNodes) {
+        this.nodes = List.copyOf(new TreeSet<>(nodes));
+        int size = this.nodes.size() * virtualNodes;
+        long[] hashes = new long[size];
+        String[] hashOwners = new String[size];
+        int i = 0;
+        for (String node : this.nodes) {
+            for (int v = 0; v < virtualNodes; v++) {
+                hashes[i] = hash(node + "#" + v);
+                hashOwners[i] = node;
+                i++;
+            }
+        }
+        // 해시 순으로 정렬 (owners 도 같은 순서로)
+        Integer[] order = new Integer[size];
+        for (int k = 0; k < size; k++) {
+            order[k] = k;
+        }
+        Arrays.sort(order, (a, b) -> Long.compare(hashes[a], hashes[b]));
+        this.points = new long[size];
+        this.owners = new String[size];
+        for (int k = 0; k < size; k++) {
+            points[k] = hashes[order[k]];
+            owners[k] = hashOwners[order[k]];
+        }
+    }
+
+    public List<String> getNodes() {
+        return nodes;
+    }
+
+    public boolean isEmpty() {
+        return points.length == 0;
+    }
+
+    /** key 를 담당하는 노드 (노드가 없으면 null) */
+    public String ownerOf(String key) {
+        if (points.length == 0) {
+            return null;
+        }
+        int index = Arrays.binarySearch(points, hash(key));
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return owners[index == points.length ? 0 : index];
+    }
+
+    /** FNV-1a 64 + murmur3 finalizer */
+    static long hash(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
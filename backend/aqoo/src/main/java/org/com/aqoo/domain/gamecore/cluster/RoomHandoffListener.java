@@ -0,0 +1,102 @@
+package org.com.aqoo.domain.gamecore.cluster;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.com.aqoo.domain.chat.model.ChatRoom;
+import org.com.aqoo.domain.chat.service.ChatRoomService;
+import org.com.aqoo.domain.chat.service.ChatRoomSnapshotService;
+import org.com.aqoo.domain.gamecore.service.GameBroadcaster;
+import org.com.aqoo.domain.gamecore.service.RoomLifecycleManager;
+import org.com.aqoo.domain.gamecore.service.RoomStateHolder;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 노드 구성 변경으로 이 노드가 더 이상 담당하지 않게 된 방 처리
+ *  - 새 담당 노드별로 채팅방(방장/멤버/준비 상태, 게임 종류, 생성 시각)을 스냅샷 형식으로 넘기고 (ClusterPeerClient.handOff)
+ *  - 넘겨받았으면 방 토픽으로 ROOM_MOVED(새 담당 노드)를 알린 뒤 이 노드의 방 상태를 해제합니다.
+ *    클라이언트는 owner 로 다시 접속하여 방에 재입장합니다.
+ *  - 넘기지 못했으면 갈 곳이 없으므로 ROOM_CLOSED 를 알리고 해제합니다.
+ * 진행 중이던 판과 채팅 기록은 넘기지 않으므로 판은 끝나고 새 담당 노드에서 대기실로 돌아갑니다.
+ * 담당하지 않는 방으로 들어온 입장/게임 요청도 같은 ROOM_MOVED 로 돌려보냅니다 (redirectIfRemote).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomHandoffListener {
+
+    private final RoomOwnershipService roomOwnershipService;
+    private final List<RoomStateHolder> holders;
+    private final RoomLifecycleManager roomLifecycleManager;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ChatRoomService chatRoomService;
+    private final ChatRoomSnapshotService chatRoomSnapshotService;
+    private final ClusterPeerClient clusterPeerClient;
+
+    @EventListener
+    public void onOwnershipChanged(RoomOwnershipChangedEvent event) {
+        String self = roomOwnershipService.getSelfNode();
+        Set<String> localRooms = new LinkedHashSet<>();
+        for (RoomStateHolder holder : holders) {
+            localRooms.addAll(holder.roomIds());
+        }
+        // 새 담당 노드 -> 넘길 채팅방
+        Map<String, List<ChatRoom>> moved = new HashMap<>();
+        for (String roomId : localRooms) {
+            String owner = event.getCurrent().ownerOf(roomId);
+            if (self.equals(owner)) {
+                continue;
+            }
+            ChatRoom room = chatRoomService.getRoom(roomId);
+            if (room == null) {
+                // 채팅방 없이 남은 게임 상태는 넘길 것이 없으므로 해제만
+                roomLifecycleManager.evict(roomId);
+                continue;
+            }
+            moved.computeIfAbsent(owner, k -> new ArrayList<>()).add(room);
+        }
+        moved.forEach(this::handOff);
+        log.info("Handing off {} of {} local rooms after ring change",
+                moved.values().stream().mapToInt(List::size).sum(), localRooms.size());
+    }
+
+    private void handOff(String owner, List<ChatRoom> rooms) {
+        clusterPeerClient.handOff(owner, chatRoomSnapshotService.export(rooms))
+                .thenAccept(accepted -> {
+                    for (ChatRoom room : rooms) {
+                        if (accepted) {
+                            sendRoomMoved(room.getRoomId(), owner);
+                        } else {
+                            messagingTemplate.convertAndSend(GameBroadcaster.destination(room.getRoomId()),
+                                    Map.of("message", "ROOM_CLOSED", "roomId", room.getRoomId()));
+                        }
+                        roomLifecycleManager.evict(room.getRoomId());
+                    }
+                    if (!accepted) {
+                        log.error("Closed {} rooms that could not be handed off to {}", rooms.size(), owner);
+                    }
+                });
+    }
+
+    /** 이 노드가 담당하지 않는 방이면 ROOM_MOVED 로 담당 노드를 알리고 true */
+    public boolean redirectIfRemote(String roomId) {
+        if (roomOwnershipService.isLocal(roomId)) {
+            return false;
+        }
+        sendRoomMoved(roomId, roomOwnershipService.ownerOf(roomId));
+        return true;
+    }
+
+    private void sendRoomMoved(String roomId, String owner) {
+        messagingTemplate.convertAndSend(GameBroadcaster.destination(roomId),
+                Map.of("message", "ROOM_MOVED", "roomId", roomId, "owner", owner));
+    }
+}
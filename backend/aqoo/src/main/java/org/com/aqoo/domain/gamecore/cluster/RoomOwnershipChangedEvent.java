@@ -0,0 +1,18 @@
+package org.com.aqoo.domain.gamecore.cluster;
+
+import lombok.Getter;
+
+/**
+ * 클러스터 노드 구성이 바뀌어 방 담당 노드가 다시 계산되었을 때 발행되는 이벤트
+ */
+@Getter
+public class RoomOwnershipChangedEvent {
+
+    private final ConsistentHashRing previous;
+    private final ConsistentHashRing current;
+
+    public RoomOwnershipChangedEvent(ConsistentHashRing previous, ConsistentHashRing current) {
+        this.previous = previous;
+        this.current = current;
+    }
+}
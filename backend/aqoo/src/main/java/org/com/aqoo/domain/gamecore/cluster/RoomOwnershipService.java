@@ -0,0 +1,123 @@
+package org.com.aqoo.domain.gamecore.cluster;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 방 담당 노드 관리 (consistent hashing)
+ *  - cluster.nodes 의 노드들로 ring 을 만들고 roomId 마다 담당 노드를 결정
+ *  - 이 노드에서 만드는 방은 이 노드가 담당하도록 roomId 를 고름
+ *  - 노드 추가/제거 시 ring 을 다시 만들고 RoomOwnershipChangedEvent 발행
+ * 노드 식별자는 클라이언트/프록시가 그대로 접속할 수 있는 base URL (예: http://10.0.0.5:8080) 입니다.
+ * cluster.enabled 가 false(기본)이면 모든 방을 이 노드가 담당합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RoomOwnershipService {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${cluster.enabled:false}")
+    private boolean enabled;
+
+    @Value("${cluster.self-node:http://localhost:8080}")
+    private String selfNode;
+
+    @Value("${cluster.nodes:}")
+    private List<String> initialNodes;
+
+    @Value("${cluster.virtual-nodes:128}")
+    private int virtualNodes;
+
+    private volatile ConsistentHashRing ring;
+
+    @PostConstruct
+    public void start() {
+        Set<String> nodes = new LinkedHashSet<>();
+        for (String node : initialNodes) {
+            if (!node.isBlank()) {
+                nodes.add(node.trim());
+            }
+        }
+        nodes.add(selfNode);
+        ring = new ConsistentHashRing(nodes, virtualNodes);
+        if (enabled) {
+            log.info("Room ownership ring: self={}, nodes={}", selfNode, ring.getNodes());
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public String getSelfNode() {
+        return selfNode;
+    }
+
+    public List<String> getNodes() {
+        return ring.getNodes();
+    }
+
+    /** roomId 담당 노드 */
+    public String ownerOf(String roomId) {
+        if (!enabled) {
+            return selfNode;
+        }
+        return ring.ownerOf(roomId);
+    }
+
+    public boolean isLocal(String roomId) {
+        return !enabled || selfNode.equals(ring.ownerOf(roomId));
+    }
+
+    /** 이 노드가 담당하는 새 roomId (노드 수만큼 평균 시도) */
+    public String newLocalRoomId() {
+        while (true) {
+            String roomId = UUID.randomUUID().toString();
+            if (isLocal(roomId)) {
+                return roomId;
+            }
+        }
+    }
+
+    /** 노드 추가 (이미 있으면 무시) */
+    public synchronized boolean join(String node) {
+        if (ring.getNodes().contains(node)) {
+            return false;
+        }
+        Set<String> nodes = new LinkedHashSet<>(ring.getNodes());
+        nodes.add(node);
+        rebuild(nodes);
+        return true;
+    }
+
+    /** 노드 제거 (자기 자신은 제거하지 않음) */
+    public synchronized boolean leave(String node) {
+        if (node.equals(selfNode) || !ring.getNodes().contains(node)) {
+            return false;
+        }
+        Set<String> nodes = new LinkedHashSet<>(ring.getNodes());
+        nodes.remove(node);
+        rebuild(nodes);
+        return true;
+    }
+
+    private void rebuild(Set<String> nodes) {
+        ConsistentHashRing previous = ring;
+        ring = new ConsistentHashRing(nodes, virtualNodes);
+        log.info("Room ownership ring rebuilt: nodes={}", ring.getNodes());
+        if (enabled) {
+            eventPublisher.publishEvent(new RoomOwnershipChangedEvent(previous, ring));
+        }
+    }
+}
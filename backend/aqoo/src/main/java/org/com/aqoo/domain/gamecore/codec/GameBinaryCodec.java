@@ -0,0 +1,204 @@
+package org.com.aqoo.domain.gamecore.codec;
+
+import org.com.aqoo.domain.gameA.dto.PressMessage;
+import org.com.aqoo.domain.gameB.dto.EatMessage;
+import org.com.aqoo.domain.gamecore.dto.ScoreDelta;
+import org.springframework.util.MimeType;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * 게임 메시지 고정 레이아웃 바이너리 코덱 (big-endian)
+ *
+ * 입력 (클라이언트 → 서버, content-type: application/octet-stream;codec=aqoo-game-v1)
+ *  - gameA press : [u8 type=1][16B roomId(UUID)][u8 direction][u8 n][n B userName(UTF-8)]
+ *  - gameB eat   : [u8 type=2][16B roomId(UUID)][u8 item(0=FEED, 1=STONE)][u8 n][n B userName(UTF-8)]
+ *  - tap press   : [u8 type=3][16B roomId(UUID)][u8 pressCount][u8 n][n B userName(UTF-8)]
+ *  userName 길이가 0 이면 서버가 세션 정보로 사용자를 결정합니다.
+ *
+ * 출력 (서버 → 클라이언트, /topic/room/{roomId}/bin)
+ *  - delta       : [u8 type(1=SCORE_DELTA, 2=STUN_STARTED)][i64 version][u8 slot][i32 score 또는 stunMillis]
+ *
+ * Jackson 리플렉션 바인딩 없이 직접 읽고 쓰므로 가장 빈번한 입력 경로의 디코딩 비용이 작습니다.
+ * 길이가 맞지 않거나 잘린 프레임은 읽기 전에 검사하여 MalformedFrameException 으로 거부합니다.
+ */
+public final class GameBinaryCodec {
+
+    public static final MimeType MIME_TYPE = new MimeType("application", "octet-stream",
+            java.util.Map.of("codec", "aqoo-game-v1"));
+
+    public static final byte TYPE_GAME_A_PRESS = 1;
+    public static final byte TYPE_GAME_B_EAT = 2;
+    public static final byte TYPE_TAP_PRESS = 3;
+
+    public static final byte TYPE_SCORE_DELTA = 1;
+    public static final byte TYPE_STUN_STARTED = 2;
+
+    public static final int DELTA_LENGTH = 1 + 8 + 1 + 4;
+
+    /** 입력 메시지의 userName 앞까지 길이: type + roomId + direction/item + userName 길이 */
+    private static final int INPUT_HEADER_LENGTH = 1 + 16 + 1 + 1;
+
+    private static final byte ITEM_FEED = 0;
+    private static final byte ITEM_STONE = 1;
+
+    private GameBinaryCodec() {
+    }
+
+    public static PressMessage decodePress(byte[] bytes) {
+        ByteBuffer buffer = inputFrame(bytes, TYPE_GAME_A_PRESS);
+        PressMessage message = new PressMessage();
+        message.setRoomId(readUuid(buffer));
+        message.setDirection(buffer.get() & 0xFF);
+        message.setUserName(readShortString(buffer));
+        return message;
+    }
+
+    public static byte[] encodePress(PressMessage message) {
+        byte[] userName = shortStringBytes(message.getUserName());
+        ByteBuffer buffer = ByteBuffer.allocate(1 + 16 + 1 + 1 + userName.length);
+        buffer.put(TYPE_GAME_A_PRESS);
+        writeUuid(buffer, message.getRoomId());
+        buffer.put((byte) message.getDirection());
+        buffer.put((byte) userName.length).put(userName);
+        return buffer.array();
+    }
+
+    public static EatMessage decodeEat(byte[] bytes) {
+        ByteBuffer buffer = inputFrame(bytes, TYPE_GAME_B_EAT);
+        EatMessage message = new EatMessage();
+        message.setRoomId(readUuid(buffer));
+        message.setItemType(itemType(buffer.get()));
+        message.setUserName(readShortString(buffer));
+        return message;
+    }
+
+    public static byte[] encodeEat(EatMessage message) {
+        byte[] userName = shortStringBytes(message.getUserName());
+        ByteBuffer buffer = ByteBuffer.allocate(1 + 16 + 1 + 1 + userName.length);
+        buffer.put(TYPE_GAME_B_EAT);
+        writeUuid(buffer, message.getRoomId());
+        buffer.put("STONE".equalsIgnoreCase(message.getItemType()) ? ITEM_STONE : ITEM_FEED);
+        buffer.put((byte) userName.length).put(userName);
+        return buffer.array();
+    }
+
+    public static org.com.aqoo.domain.game.dto.PressMessage decodeTapPress(byte[] bytes) {
+        ByteBuffer buffer = inputFrame(bytes, TYPE_TAP_PRESS);
+        org.com.aqoo.domain.game.dto.PressMessage message = new org.com.aqoo.domain.game.dto.PressMessage();
+        message.setRoomId(readUuid(buffer));
+        message.setPressCount(buffer.get() & 0xFF);
+        message.setUserName(readShortString(buffer));
+        return message;
+    }
+
+    public static byte[] encodeTapPress(org.com.aqoo.domain.game.dto.PressMessage message) {
+        if (message.getPressCount() < 0 || message.getPressCount() > 255) {
+            throw new IllegalArgumentException("pressCount out of range for binary game message: "
+                    + message.getPressCount());
+        }
+        byte[] userName = shortStringBytes(message.getUserName());
+        ByteBuffer buffer = ByteBuffer.allocate(1 + 16 + 1 + 1 + userName.length);
+        buffer.put(TYPE_TAP_PRESS);
+        writeUuid(buffer, message.getRoomId());
+        buffer.put((byte) message.getPressCount());
+        buffer.put((byte) userName.length).put(userName);
+        return buffer.array();
+    }
+
+    public static byte[] encodeDelta(ScoreDelta delta) {
+        boolean stun = ScoreDelta.STUN_STARTED.equals(delta.getMessage());
+        ByteBuffer buffer = ByteBuffer.allocate(DELTA_LENGTH);
+        buffer.put(stun ? TYPE_STUN_STARTED : TYPE_SCORE_DELTA);
+        buffer.putLong(delta.getVersion());
+        buffer.put((byte) delta.getSlot());
+        buffer.putInt(stun ? (int) delta.getStunMillis() : delta.getScore());
+        return buffer.array();
+    }
+
+    public static ScoreDelta decodeDelta(byte[] bytes) {
+        if (bytes == null || bytes.length != DELTA_LENGTH) {
+            throw new MalformedFrameException("delta frame must be " + DELTA_LENGTH + " bytes but was "
+                    + (bytes == null ? 0 : bytes.length));
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        byte type = buffer.get();
+        if (type != TYPE_SCORE_DELTA && type != TYPE_STUN_STARTED) {
+            throw new MalformedFrameException("unexpected delta type: " + type);
+        }
+        long version = buffer.getLong();
+        int slot = buffer.get() & 0xFF;
+        int value = buffer.getInt();
+        return type == TYPE_STUN_STARTED
+                ? ScoreDelta.stun(version, slot, value)
+                : ScoreDelta.score(version, slot, value);
+    }
+
+    /**
+     * 입력 프레임의 type 과 전체 길이 (고정 헤더 + userName 길이) 검사
+     * @return type 다음 위치를 가리키는 버퍼
+     */
+    private static ByteBuffer inputFrame(byte[] bytes, byte expectedType) {
+        if (bytes == null || bytes.length < INPUT_HEADER_LENGTH) {
+            throw new MalformedFrameException("input frame shorter than " + INPUT_HEADER_LENGTH + " bytes: "
+                    + (bytes == null ? 0 : bytes.length));
+        }
+        if (bytes[0] != expectedType) {
+            throw new MalformedFrameException("unexpected game message type: " + bytes[0]);
+        }
+        int userNameLength = bytes[INPUT_HEADER_LENGTH - 1] & 0xFF;
+        if (bytes.length != INPUT_HEADER_LENGTH + userNameLength) {
+            throw new MalformedFrameException("input frame length " + bytes.length + " does not match userName length "
+                    + userNameLength);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        buffer.position(1);
+        return buffer;
+    }
+
+    private static String itemType(byte item) {
+        if (item == ITEM_FEED) {
+            return "FEED";
+        }
+        if (item == ITEM_STONE) {
+            return "STONE";
+        }
+        throw new MalformedFrameException("unexpected item: " + item);
+    }
+
+    private static String readUuid(ByteBuffer buffer) {
+        return new UUID(buffer.getLong(), buffer.getLong()).toString();
+    }
+
+    private static void writeUuid(ByteBuffer buffer, String roomId) {
+        UUID uuid = UUID.fromString(roomId);
+        buffer.putLong(uuid.getMostSignificantBits());
+        buffer.putLong(uuid.getLeastSignificantBits());
+    }
+
+    private static String readShortString(ByteBuffer buffer) {
+        int length = buffer.get() & 0xFF;
+        if (length == 0) {
+            return null;
+        }
+        if (length > buffer.remaining()) {
+            throw new MalformedFrameException("string of " + length + " bytes exceeds remaining " + buffer.remaining());
+        }
+        String value = new String(buffer.array(), buffer.position(), length, StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+
+    private static byte[] shortStringBytes(String value) {
+        if (value == null) {
+            return new byte[0];
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > 255) {
+            throw new IllegalArgumentException("String too long for binary game message: " + value);
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,63 @@
+package org.com.aqoo.domain.gamecore.codec;
+
+import org.com.aqoo.domain.gameA.dto.PressMessage;
+import org.com.aqoo.domain.gameB.dto.EatMessage;
+import org.com.aqoo.domain.gamecore.dto.ScoreDelta;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.converter.AbstractMessageConverter;
+import org.springframework.messaging.converter.MessageConversionException;
+
+/**
+ * content-type 이 application/octet-stream;codec=aqoo-game-v1 인 게임 메시지만 GameBinaryCodec 으로 변환합니다.
+ * content-type 헤더가 없거나 다른 메시지(채팅, 로스터 등)는 기존 JSON 변환기가 처리합니다.
+ */
+public class GameBinaryMessageConverter extends AbstractMessageConverter {
+
+    public GameBinaryMessageConverter() {
+        super(GameBinaryCodec.MIME_TYPE);
+        setStrictContentTypeMatch(true);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return clazz == PressMessage.class || clazz == EatMessage.class
+                || clazz == org.com.aqoo.domain.game.dto.PressMessage.class || clazz == ScoreDelta.class;
+    }
+
+    @Override
+    protected Object convertFromInternal(Message<?> message, Class<?> targetClass, Object conversionHint) {
+        if (!(message.getPayload() instanceof byte[] bytes)) {
+            return null;
+        }
+        try {
+            if (targetClass == PressMessage.class) {
+                return GameBinaryCodec.decodePress(bytes);
+            }
+            if (targetClass == EatMessage.class) {
+                return GameBinaryCodec.decodeEat(bytes);
+            }
+            if (targetClass == org.com.aqoo.domain.game.dto.PressMessage.class) {
+                return GameBinaryCodec.decodeTapPress(bytes);
+            }
+            return GameBinaryCodec.decodeDelta(bytes);
+        } catch (MalformedFrameException e) {
+            // 잘못된 프레임은 핸들러까지 가지 않고 변환 단계에서 거부
+            throw new MessageConversionException(message, e.getMessage(), e);
+        }
+    }
+
+    @Override
+    protected Object convertToInternal(Object payload, MessageHeaders headers, Object conversionHint) {
+        if (payload instanceof ScoreDelta delta) {
+            return GameBinaryCodec.encodeDelta(delta);
+        }
+        if (payload instanceof PressMessage press) {
+            return GameBinaryCodec.encodePress(press);
+        }
+        if (payload instanceof org.com.aqoo.domain.game.dto.PressMessage tapPress) {
+            return GameBinaryCodec.encodeTapPress(tapPress);
+        }
+        return GameBinaryCodec.encodeEat((EatMessage) payload);
+    }
+}
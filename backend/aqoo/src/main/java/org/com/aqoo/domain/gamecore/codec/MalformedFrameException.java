@@ -0,0 +1,11 @@
+package org.com.aqoo.domain.gamecore.codec;
+
+/**
+ * 길이/타입이 맞지 않는 바이너리 게임 프레임
+ */
+public class MalformedFrameException extends IllegalArgumentException {
+
+    public MalformedFrameException(String message) {
+        super("Malformed binary game frame: " + message);
+    }
+}
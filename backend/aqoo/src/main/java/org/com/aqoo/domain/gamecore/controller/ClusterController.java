@@ -0,0 +1,93 @@
+package org.com.aqoo.domain.gamecore.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.com.aqoo.domain.chat.service.ChatRoomSnapshotService;
+import org.com.aqoo.domain.gamecore.cluster.ClusterPeerClient;
+import org.com.aqoo.domain.gamecore.cluster.RoomOwnershipService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/cluster")
+public class ClusterController {
+
+    private final RoomOwnershipService roomOwnershipService;
+    private final ClusterPeerClient clusterPeerClient;
+    private final ChatRoomSnapshotService chatRoomSnapshotService;
+
+    // 방 담당 노드 조회 (클라이언트/프록시는 owner 로 웹소켓 접속)
+    @GetMapping("/rooms/{roomId}/owner")
+    public ResponseEntity<Map<String, Object>> owner(@PathVariable String roomId) {
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("roomId", roomId);
+        response.put("owner", roomOwnershipService.ownerOf(roomId));
+        response.put("local", roomOwnershipService.isLocal(roomId));
+        return ResponseEntity.ok(response);
+    }
+
+    // 노드 구성 변경으로 이 노드가 담당하게 된 채팅방 넘겨받기 (ChatRoomSnapshotService.export 형식)
+    @PostMapping(value = "/rooms", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<Map<String, Object>> receiveRooms(@RequestBody byte[] rooms,
+                                                            @RequestHeader(value = ClusterPeerClient.TOKEN_HEADER, required = false) String token) {
+        if (!clusterPeerClient.isAuthorized(token)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        try {
+            return ResponseEntity.ok(Map.of("restored", chatRoomSnapshotService.importRooms(rooms)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // 현재 ring 의 노드 목록
+    @GetMapping("/nodes")
+    public ResponseEntity<Map<String, Object>> nodes() {
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("enabled", roomOwnershipService.isEnabled());
+        response.put("self", roomOwnershipService.getSelfNode());
+        response.put("nodes", roomOwnershipService.getNodes());
+        return ResponseEntity.ok(response);
+    }
+
+    // 노드 추가 (담당이 바뀐 방은 새 담당 노드로 넘기고 ROOM_MOVED 알림 후 이 노드에서 해제, 다른 노드에도 전파)
+    @PostMapping("/nodes")
+    public ResponseEntity<Map<String, Object>> join(@RequestParam String node,
+                                                    @RequestHeader(value = ClusterPeerClient.TOKEN_HEADER, required = false) String token,
+                                                    @RequestHeader(value = ClusterPeerClient.PROPAGATED_HEADER, required = false) String propagated) {
+        if (!clusterPeerClient.isAuthorized(token)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        if (roomOwnershipService.join(node) && propagated == null) {
+            clusterPeerClient.propagate("POST", node);
+        }
+        return nodes();
+    }
+
+    // 노드 제거 (다른 노드에도 전파)
+    @DeleteMapping("/nodes")
+    public ResponseEntity<Map<String, Object>> leave(@RequestParam String node,
+                                                     @RequestHeader(value = ClusterPeerClient.TOKEN_HEADER, required = false) String token,
+                                                     @RequestHeader(value = ClusterPeerClient.PROPAGATED_HEADER, required = false) String propagated) {
+        if (!clusterPeerClient.isAuthorized(token)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        if (roomOwnershipService.leave(node) && propagated == null) {
+            clusterPeerClient.propagate("DELETE", node);
+        }
+        return nodes();
+    }
+}
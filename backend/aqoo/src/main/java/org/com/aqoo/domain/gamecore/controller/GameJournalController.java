@@ -0,0 +1,38 @@
+package org.com.aqoo.domain.gamecore.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.com.aqoo.domain.gamecore.journal.GameJournal;
+import org.com.aqoo.domain.gamecore.journal.RoomReplay;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Collection;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/games")
+public class GameJournalController {
+
+    private final GameJournal gameJournal;
+
+    // 방의 마지막 판 상태(점수/도달 순서)와 이벤트 타임라인 조회
+    @GetMapping("/rooms/{roomId}/replay")
+    public ResponseEntity<RoomReplay> replay(@PathVariable String roomId) {
+        if (!gameJournal.isEnabled()) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(gameJournal.replay(roomId));
+    }
+
+    // 시작 기록은 있지만 종료 기록이 없는 방 목록 (재시작 시 GameRoomRestorer 가 복구하는 대상)
+    @GetMapping("/journal/in-flight")
+    public ResponseEntity<Collection<RoomReplay>> inFlightRooms() {
+        if (!gameJournal.isEnabled()) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(gameJournal.inFlightRooms());
+    }
+}
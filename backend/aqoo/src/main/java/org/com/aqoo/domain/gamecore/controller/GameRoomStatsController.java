@@ -0,0 +1,53 @@
+package org.com.aqoo.domain.gamecore.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.com.aqoo.domain.gamecore.service.GameEventLogger;
+import org.com.aqoo.domain.gamecore.service.RoomLifecycleManager;
+import org.com.aqoo.domain.gamecore.service.RoomShardExecutor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/games")
+public class GameRoomStatsController {
+
+    private final RoomLifecycleManager roomLifecycleManager;
+    private final RoomShardExecutor roomShardExecutor;
+    private final GameEventLogger gameEventLogger;
+
+    // 살아있는 방 / 해제된 방 수 및 shard 별 대기 작업 수 조회
+    @GetMapping("/rooms/stats")
+    public ResponseEntity<Map<String, Object>> roomStats() {
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("liveRooms", roomLifecycleManager.getLiveRoomCount());
+        response.put("evictedRooms", roomLifecycleManager.getEvictedRoomCount());
+        response.put("roomsByHolder", roomLifecycleManager.getRoomCountsByHolder());
+        response.put("shardQueueDepths", roomShardExecutor.getQueueDepths());
+        response.put("tracedRooms", gameEventLogger.getTracedRooms());
+        response.put("droppedGameEvents", gameEventLogger.getDroppedCount());
+        return ResponseEntity.ok(response);
+    }
+
+    // 특정 방의 입력 단위 게임 이벤트 로그 켜기 (샘플링/로그 레벨 무시)
+    @PostMapping("/rooms/{roomId}/trace")
+    public ResponseEntity<Void> traceRoom(@PathVariable String roomId) {
+        gameEventLogger.traceRoom(roomId);
+        return ResponseEntity.ok().build();
+    }
+
+    // 특정 방의 입력 단위 게임 이벤트 로그 끄기
+    @DeleteMapping("/rooms/{roomId}/trace")
+    public ResponseEntity<Void> untraceRoom(@PathVariable String roomId) {
+        gameEventLogger.untraceRoom(roomId);
+        return ResponseEntity.ok().build();
+    }
+}
@@ -0,0 +1,11 @@
+package org.com.aqoo.domain.gamecore.dto;
+
+import lombok.Data;
+
+/**
+ * 클라이언트가 delta 누락을 감지했을 때 전체 스냅샷을 다시 요청하는 메시지입니다.
+ */
+@Data
+public class ResyncRequest {
+    private String roomId;
+}
@@ -0,0 +1,36 @@
+package org.com.aqoo.domain.gamecore.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 게임 진행 중 한 플레이어의 변경분만 전달하는 메시지입니다.
+ * slot 은 게임 시작 스냅샷(players 배열)의 인덱스이며,
+ * version 은 방마다 1씩 증가하므로 클라이언트는 누락을 감지하면 resync 를 요청합니다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScoreDelta {
+
+    public static final String SCORE_CHANGED = "SCORE_DELTA";
+    public static final String STUN_STARTED = "STUN_STARTED";
+
+    /** SCORE_DELTA 또는 STUN_STARTED */
+    private String message;
+    private long version;
+    private int slot;
+    /** SCORE_DELTA 인 경우 새 점수 */
+    private int score;
+    /** STUN_STARTED 인 경우 스턴 시간 (ms) */
+    private long stunMillis;
+
+    public static ScoreDelta score(long version, int slot, int score) {
+        return new ScoreDelta(SCORE_CHANGED, version, slot, score, 0L);
+    }
+
+    public static ScoreDelta stun(long version, int slot, long stunMillis) {
+        return new ScoreDelta(STUN_STARTED, version, slot, 0, stunMillis);
+    }
+}
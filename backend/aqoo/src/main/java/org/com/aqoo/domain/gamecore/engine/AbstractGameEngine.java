@@ -0,0 +1,333 @@
+package org.com.aqoo.domain.gamecore.engine;
+
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.com.aqoo.domain.chat.model.ChatRoom;
+import org.com.aqoo.domain.chat.model.RoomMembers;
+import org.com.aqoo.domain.gamecore.dto.ScoreDelta;
+import org.com.aqoo.domain.gamecore.journal.JournalRecordType;
+import org.com.aqoo.domain.gamecore.journal.RoomReplay;
+import org.com.aqoo.domain.gamecore.model.GameEventType;
+import org.com.aqoo.domain.gamecore.model.PlayerProfile;
+import org.com.aqoo.domain.gamecore.model.RoomProfileSnapshot;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+/**
+ * 게임 엔진 공통 흐름
+ *  - 시작: 방 멤버 프로필 스냅샷 캡처 → 규칙별 방 상태 생성 → 서버 종료 예약 → 레지스트리 등록 → 시작 스냅샷 전송
+ *  - 입력: 규칙이 반환한 InputResult 로 이벤트 로그/저널/지표 기록, 전원 도달 시 종료, 아니면 delta 또는 스냅샷 전송
+ *  - 종료: 방 상태의 phase 전환에 성공한 한 번만 종료 스냅샷 전송 후 레지스트리에서 해제
+ *  - 복구: 재시작 후 저널의 진행 중 판을 같은 슬롯/점수/버전으로 다시 등록하고 남은 시간만큼 종료 예약
+ * 게임별 구현은 방 상태 생성, 입력 규칙, 시작/진행/종료 응답 형식만 정의합니다.
+ *
+ * @param <I> 게임 입력 메시지 타입
+ * @param <R> 게임 방 상태 타입
+ */
+@Slf4j
+public abstract class AbstractGameEngine<I, R extends GameRoom> implements GameEngine<I> {
+
+    protected final GameEngineSupport support;
+    private final Class<R> roomType;
+
+    protected AbstractGameEngine(GameEngineSupport support, Class<R> roomType) {
+        this.support = support;
+        this.roomType = roomType;
+    }
+
+    /** 서버 기준 게임 시간 (이 시간이 지나면 서버가 종료) */
+    protected abstract long durationSeconds();
+
+    /** 프로필 스냅샷 순서대로 슬롯을 가진 새 방 상태 생성 */
+    protected abstract R createRoom(String roomId, RoomProfileSnapshot profiles);
+
+    /** 저널에 남긴 시작 파라미터로 방 상태 재생성 (기본은 createRoom) */
+    protected R restoreRoom(String roomId, RoomProfileSnapshot profiles, long seed, int length) {
+        return createRoom(roomId, profiles);
+    }
+
+    /** 복구에 필요한 게임별 시작 파라미터 (저널 STARTED 레코드에 기록, 없으면 0) */
+    protected long startSeed(R room) {
+        return 0L;
+    }
+
+    protected int startLength(R room) {
+        return 0;
+    }
+
+    /** 게임 시작 메시지 */
+    protected abstract Object startedResponse(R room);
+
+    /** 진행 중 전체 상태 메시지 (delta 를 쓰지 않을 때와 resync 에 사용) */
+    protected abstract Object progressResponse(R room);
+
+    /** 게임 종료 메시지 (순위/승자 포함) */
+    protected abstract Object endedResponse(R room);
+
+    @Override
+    @Transactional
+    public void startGame(String roomId) {
+        log.info("startGame() called for {} roomId: {}", game().getTag(), roomId);
+        ChatRoom chatRoom = support.getChatRoomService().getRoom(roomId);
+        if (chatRoom == null) {
+            log.error("ChatRoom not found for roomId: {}", roomId);
+            return;
+        }
+        List<String> members = RoomMembers.of(chatRoom).getMembers();
+        log.debug("ChatRoom members: {}", members);
+
+        // 플레이어 프로필은 시작 시 한 번만 조회하여 스냅샷으로 보관
+        RoomProfileSnapshot profiles = support.getPlayerProfileService().capture(members);
+        R room = createRoom(roomId, profiles);
+
+        // 서버 타이머에 이 판의 종료 예약 (클라이언트 종료 요청과 무관하게 한 번 종료)
+        long durationMillis = TimeUnit.SECONDS.toMillis(durationSeconds());
+        scheduleEnd(room, durationMillis);
+        support.getGameRoomRegistry().register(room);
+        support.getGameJournal().started(game(), roomId, profiles,
+                System.currentTimeMillis() + durationMillis, startSeed(room), startLength(room));
+
+        support.getGameBroadcaster().sendSnapshot(roomId, startedResponse(room), room.getVersion());
+        log.info("Broadcasted {} start for roomId: {}", game().getTag(), roomId);
+    }
+
+    /**
+     * 저널에서 복구한 판을 다시 등록 (재시작 직후 방의 shard 에서 호출)
+     * 시작 시점의 플레이어 순서와 점수/도달 순서/버전을 되살리고, 마감 시각이 지났으면 바로 종료합니다.
+     * 복구한 상태는 시작 메시지 형식으로 전송하여 다시 접속한 클라이언트가 화면을 새로 구성하게 합니다.
+     */
+    @Override
+    public boolean restore(RoomReplay replay) {
+        String roomId = replay.getRoomId();
+        if (roomOf(roomId) != null) {
+            return true;
+        }
+        if (replay.getPlayers().isEmpty() || replay.getPlayers().contains(null)) {
+            return false;
+        }
+        RoomProfileSnapshot profiles = support.getPlayerProfileService().capture(replay.getPlayers());
+        R room = restoreRoom(roomId, profiles, replay.getSeed(), replay.getLength());
+        int[] scores = new int[room.playerCount()];
+        for (int slot = 0; slot < scores.length; slot++) {
+            scores[slot] = replay.getScores().getOrDefault(room.userNameOf(slot), 0);
+        }
+        List<Integer> finishedSlots = new ArrayList<>(replay.getFinishOrder().size());
+        for (String userName : replay.getFinishOrder()) {
+            finishedSlots.add(room.slotOf(userName));
+        }
+        room.restore(scores, finishedSlots, replay.getVersion());
+
+        scheduleEnd(room, Math.max(0L, replay.getDeadlineMillis() - System.currentTimeMillis()));
+        support.getGameRoomRegistry().register(room);
+        long version;
+        Object response;
+        synchronized (room) {
+            version = room.getVersion();
+            response = startedResponse(room);
+        }
+        support.getGameBroadcaster().sendSnapshot(roomId, response, version);
+        log.info("Restored {} game for roomId: {} (version {})", game().getTag(), roomId, version);
+        return true;
+    }
+
+    @Override
+    public void resync(String roomId) {
+        R room = roomOf(roomId);
+        if (room == null) {
+            log.warn("Resync requested for unknown roomId: {}", roomId);
+            return;
+        }
+        sendProgressSnapshot(room);
+    }
+
+    /**
+     * 서버 타이머가 기준이므로 마감 직전(허용 범위 이내)일 때만 받아들이고, 그 외에는 무시
+     */
+    @Override
+    public void requestEnd(String roomId) {
+        R room = roomOf(roomId);
+        if (room == null) {
+            return;
+        }
+        if (!support.getGameTimerWheel().acceptsEndHint(room.getEndTimeout())) {
+            log.info("Ignoring early end request for roomId: {}", roomId);
+            return;
+        }
+        finish(room);
+    }
+
+    @Override
+    @Transactional
+    public void endGame(String roomId) {
+        log.info("endGame() called for {} roomId: {}", game().getTag(), roomId);
+        R room = roomOf(roomId);
+        if (room == null) {
+            log.info("No running {} game for roomId: {}", game().getTag(), roomId);
+            return;
+        }
+        finish(room);
+    }
+
+    /** delayMillis 뒤 방의 shard 에서 종료 */
+    private void scheduleEnd(R room, long delayMillis) {
+        room.setEndTimeout(support.getGameTimerWheel().schedule(
+                () -> support.getRoomShardExecutor().execute(room.getRoomId(), () -> finish(room)), delayMillis));
+    }
+
+    /** 방에서 진행 중인 이 게임의 판, 없거나 다른 게임이면 null */
+    protected R roomOf(String roomId) {
+        return support.getGameRoomRegistry().get(roomId, roomType);
+    }
+
+    /** 방에서 진행 중이며 아직 종료되지 않은 판, 없으면 IGNORED 로 기록하고 null */
+    protected R runningRoomOf(String roomId, String userName) {
+        R room = roomOf(roomId);
+        if (room == null || room.isEnded()) {
+            logEvent(GameEventType.IGNORED_UNKNOWN, roomId, userName, 0);
+            return null;
+        }
+        return room;
+    }
+
+    /**
+     * 입력을 보낸 플레이어의 슬롯, 판에 없으면 -1
+     * 세션에 기록된 슬롯 힌트가 이 판의 같은 사용자를 가리키면 그대로 쓰고, 아니면 이름으로 조회
+     */
+    protected int slotOf(R room, InputSender sender) {
+        int hint = sender.getSlot();
+        if (hint >= 0 && hint < room.playerCount() && room.userNameOf(hint).equals(sender.getUserName())) {
+            return hint;
+        }
+        return room.slotOf(sender.getUserName());
+    }
+
+    /**
+     * 입력 결과에 맞는 delta 생성 (방 상태 synchronized 블록 안에서 호출)
+     * 점수가 바뀌면 SCORE_DELTA, 스턴이 시작되면 STUN_STARTED, 그 외에는 null
+     */
+    protected ScoreDelta deltaOf(R room, int slot, InputResult result, long stunMillis) {
+        switch (result) {
+            case SCORED:
+            case FINISHED:
+                return ScoreDelta.score(room.getVersion(), slot, room.scoreOf(slot));
+            case STUN_STARTED:
+                return ScoreDelta.stun(room.getVersion(), slot, stunMillis);
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * 입력 결과 반영
+     *  - 무시된 입력은 이벤트 로그(샘플링)만 기록
+     *  - 점수/스턴 변경은 이벤트 로그와 저널에 기록
+     *  - 이번 입력으로 모든 플레이어가 목표 점수에 도달하면 종료 (phase 전환으로 한 번만 전송)
+     *  - 아니면 진행 상황 브로드캐스트
+     */
+    protected void applyResult(R room, String userName, int slot, InputResult result, ScoreDelta delta) {
+        String roomId = room.getRoomId();
+        switch (result) {
+            case IGNORED:
+                logEvent(GameEventType.IGNORED_UNKNOWN, roomId, userName, 0);
+                return;
+            case STUNNED:
+                support.getGameMetrics().stunRejected(game());
+                logEvent(GameEventType.IGNORED_STUNNED, roomId, userName, 0);
+                return;
+            case ALREADY_FINISHED:
+                logEvent(GameEventType.IGNORED_FINISHED, roomId, userName, room.scoreOf(slot));
+                return;
+            case STUN_STARTED:
+                support.getGameMetrics().stunStarted(game());
+                logEvent(GameEventType.STUN_STARTED, roomId, userName, delta.getStunMillis());
+                journal(JournalRecordType.STUN_STARTED, roomId, slot, delta.getStunMillis());
+                break;
+            case FINISHED:
+                int rank = room.finishedCount();
+                logEvent(GameEventType.FINISHED, roomId, userName, rank);
+                journal(JournalRecordType.SCORED, roomId, slot, delta.getScore());
+                journal(JournalRecordType.FINISHED, roomId, slot, rank);
+                break;
+            default:
+                logEvent(GameEventType.SCORED, roomId, userName, delta.getScore());
+                journal(JournalRecordType.SCORED, roomId, slot, delta.getScore());
+                break;
+        }
+
+        if (result == InputResult.FINISHED && room.allFinished()) {
+            finish(room);
+            return;
+        }
+        broadcastProgress(room, delta);
+    }
+
+    /** 진행 중 변경 전송: delta 모드면 변경된 슬롯만, 아니면 전체 상태 */
+    protected void broadcastProgress(R room, ScoreDelta delta) {
+        if (room.isEnded()) {
+            // 종료/해제된 판 (종료 메시지 이후에는 진행 메시지를 보내지 않음)
+            return;
+        }
+        if (support.getGameBroadcaster().isDeltaEnabled()) {
+            if (delta != null) {
+                support.getGameBroadcaster().sendDelta(room.getRoomId(), delta);
+            }
+            return;
+        }
+        sendProgressSnapshot(room);
+    }
+
+    /** 현재 전체 상태를 같은 시점의 버전과 함께 전송 */
+    protected void sendProgressSnapshot(R room) {
+        long version;
+        Object response;
+        synchronized (room) {
+            version = room.getVersion();
+            response = progressResponse(room);
+        }
+        support.getGameBroadcaster().sendSnapshot(room.getRoomId(), response, version);
+    }
+
+    /**
+     * 게임 종료: 여러 경로(전원 도달, 서버 타이머, 클라이언트 요청)에서 동시에 호출되어도
+     * phase 전환에 성공한 한 번만 종료 메시지를 전송하고 방 상태를 해제합니다.
+     */
+    protected void finish(R room) {
+        String roomId = room.getRoomId();
+        if (!room.tryEnd()) {
+            log.info("Game already ended for roomId: {}", roomId);
+            return;
+        }
+        long version;
+        Object response;
+        synchronized (room) {
+            version = room.getVersion();
+            response = endedResponse(room);
+        }
+        support.getGameBroadcaster().sendSnapshot(roomId, response, version);
+        support.getGameJournal().ended(game(), roomId);
+        // 종료된 방 상태 해제
+        support.getGameRoomRegistry().remove(room);
+        log.info("Broadcasted {} end for roomId: {}", game().getTag(), roomId);
+    }
+
+    /** 방 상태의 슬롯 순서대로 플레이어 DTO 목록 구성 (프로필은 시작 시점 스냅샷 사용) */
+    protected <P> List<P> buildPlayers(R room, BiFunction<PlayerProfile, Integer, P> factory) {
+        List<P> players = new ArrayList<>(room.playerCount());
+        for (int slot = 0; slot < room.playerCount(); slot++) {
+            players.add(factory.apply(room.getProfiles().get(slot), room.scoreOf(slot)));
+        }
+        return players;
+    }
+
+    /** 입력 단위 로그는 링 버퍼 로거로만 기록 (샘플링/방 단위 trace) */
+    protected void logEvent(GameEventType type, String roomId, String userName, long value) {
+        support.getGameEventLogger().record(game(), type, roomId, userName, value);
+    }
+
+    protected void journal(JournalRecordType type, String roomId, int slot, long value) {
+        support.getGameJournal().record(game(), type, roomId, slot, value);
+    }
+}
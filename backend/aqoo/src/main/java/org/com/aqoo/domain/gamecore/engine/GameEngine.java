@@ -0,0 +1,39 @@
+package org.com.aqoo.domain.gamecore.engine;
+
+import org.com.aqoo.domain.gamecore.journal.RoomReplay;
+import org.com.aqoo.domain.gamecore.metrics.GameMetrics;
+
+/**
+ * 미니게임 규칙 플러그인이 구현하는 엔진 인터페이스입니다.
+ * 방 상태는 GameRoomRegistry 한 곳에, 브로드캐스트는 GameBroadcaster 한 곳에 모으고
+ * 게임별 구현은 입력 규칙과 응답 형식만 정의합니다 (AbstractGameEngine 참고).
+ * 모든 메서드는 방의 shard(RoomShardExecutor)에서 호출된다고 가정합니다.
+ *
+ * @param <I> 게임 입력 메시지 타입
+ */
+public interface GameEngine<I> {
+
+    /** 게임 종류 (지표/이벤트 로그/저널 태그) */
+    GameMetrics.Game game();
+
+    /** 채팅방 멤버로 새 판 시작 */
+    void startGame(String roomId);
+
+    /**
+     * 저널에서 복구한 진행 중 판을 다시 등록
+     * @return 복구했거나 이미 진행 중이면 true, 플레이어 기록이 불완전하면 false
+     */
+    boolean restore(RoomReplay replay);
+
+    /** 플레이어 입력 한 건 처리 (보낸 사람은 세션에서 확인한 값) */
+    void handleInput(InputSender sender, I input);
+
+    /** delta 누락 시 현재 전체 상태 재전송 */
+    void resync(String roomId);
+
+    /** 클라이언트 종료 요청 (서버 마감 직전일 때만 받아들이는 힌트) */
+    void requestEnd(String roomId);
+
+    /** 서버 타이머 만료 등으로 게임 종료 (이미 종료된 판이면 무시) */
+    void endGame(String roomId);
+}
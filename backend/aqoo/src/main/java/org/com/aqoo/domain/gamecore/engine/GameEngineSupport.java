@@ -0,0 +1,33 @@
+package org.com.aqoo.domain.gamecore.engine;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.com.aqoo.domain.chat.service.ChatRoomService;
+import org.com.aqoo.domain.gamecore.journal.GameJournal;
+import org.com.aqoo.domain.gamecore.metrics.GameMetrics;
+import org.com.aqoo.domain.gamecore.service.GameBroadcaster;
+import org.com.aqoo.domain.gamecore.service.GameEventLogger;
+import org.com.aqoo.domain.gamecore.service.GameTimerWheel;
+import org.com.aqoo.domain.gamecore.service.PlayerProfileService;
+import org.com.aqoo.domain.gamecore.service.RoomShardExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 모든 게임 엔진이 공유하는 협력 객체 묶음
+ * 게임 엔진은 이 객체 하나만 주입받으므로, 공통 기능이 늘어나도 각 게임의 생성자는 바뀌지 않습니다.
+ */
+@Getter
+@Component
+@RequiredArgsConstructor
+public class GameEngineSupport {
+
+    private final GameRoomRegistry gameRoomRegistry;
+    private final GameBroadcaster gameBroadcaster;
+    private final ChatRoomService chatRoomService;
+    private final PlayerProfileService playerProfileService;
+    private final GameTimerWheel gameTimerWheel;
+    private final RoomShardExecutor roomShardExecutor;
+    private final GameMetrics gameMetrics;
+    private final GameEventLogger gameEventLogger;
+    private final GameJournal gameJournal;
+}
@@ -0,0 +1,73 @@
+package org.com.aqoo.domain.gamecore.engine;
+
+import lombok.RequiredArgsConstructor;
+import org.com.aqoo.domain.gamecore.cluster.RoomHandoffListener;
+import org.com.aqoo.domain.gamecore.cluster.RoomOwnershipService;
+import org.com.aqoo.domain.gamecore.metrics.GameMetrics;
+import org.com.aqoo.domain.gamecore.service.PlayerSessionRegistry;
+import org.com.aqoo.domain.gamecore.service.RoomLifecycleManager;
+import org.com.aqoo.domain.gamecore.service.RoomShardExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게임 컨트롤러 공통 처리
+ *  - 세션으로 보낸 사람과 방 확인 (확인되지 않으면 무시)
+ *  - 클러스터 모드에서 이 노드가 담당하지 않는 방이면 입력은 버리고, 시작/재전송 요청에는 ROOM_MOVED 로 담당 노드 안내
+ *  - 방 활동 기록 후 방의 shard 에서 엔진 호출
+ *  - 입력은 수신부터 처리 완료까지 시간을 게임별 지표로 기록
+ * 게임별 컨트롤러는 메시지 매핑만 정의하고 이 클래스에 위임합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class GameInputDispatcher {
+
+    private final PlayerSessionRegistry playerSessionRegistry;
+    private final RoomLifecycleManager roomLifecycleManager;
+    private final RoomShardExecutor roomShardExecutor;
+    private final GameMetrics gameMetrics;
+    private final RoomOwnershipService roomOwnershipService;
+    private final RoomHandoffListener roomHandoffListener;
+
+    /** 플레이어 입력 한 건 처리 */
+    public <I> void dispatchInput(GameEngine<I> engine, String sessionId,
+                                  String claimedRoomId, String claimedUserName, I input) {
+        long receivedAt = System.nanoTime();
+        String userName = playerSessionRegistry.resolveUserName(sessionId, claimedUserName);
+        String roomId = playerSessionRegistry.resolveRoomId(sessionId, claimedRoomId);
+        if (userName == null || roomId == null || !roomOwnershipService.isLocal(roomId)) {
+            return;
+        }
+        InputSender sender = new InputSender(roomId, userName, playerSessionRegistry.slotOf(sessionId));
+        roomLifecycleManager.touch(roomId);
+        roomShardExecutor.execute(roomId, () -> {
+            engine.handleInput(sender, input);
+            gameMetrics.recordInput(engine.game(), receivedAt);
+        });
+    }
+
+    /** 게임 시작 */
+    public void dispatchStart(GameEngine<?> engine, String sessionId, String claimedRoomId) {
+        String roomId = playerSessionRegistry.resolveRoomId(sessionId, claimedRoomId);
+        if (roomId == null || roomHandoffListener.redirectIfRemote(roomId)) {
+            return;
+        }
+        roomLifecycleManager.touch(roomId);
+        roomShardExecutor.execute(roomId, () -> engine.startGame(roomId));
+    }
+
+    /** 클라이언트 종료 요청 (힌트) */
+    public void dispatchEnd(GameEngine<?> engine, String sessionId, String claimedRoomId) {
+        String roomId = playerSessionRegistry.resolveRoomId(sessionId, claimedRoomId);
+        if (roomId != null && roomOwnershipService.isLocal(roomId)) {
+            roomShardExecutor.execute(roomId, () -> engine.requestEnd(roomId));
+        }
+    }
+
+    /** 전체 상태 재전송 요청 */
+    public void dispatchResync(GameEngine<?> engine, String sessionId, String claimedRoomId) {
+        String roomId = playerSessionRegistry.resolveRoomId(sessionId, claimedRoomId);
+        if (roomId != null && !roomHandoffListener.redirectIfRemote(roomId)) {
+            roomShardExecutor.execute(roomId, () -> engine.resync(roomId));
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package org.com.aqoo.domain.gamecore.engine;
+
+import org.com.aqoo.domain.gamecore.metrics.GameMetrics;
+import org.com.aqoo.domain.gamecore.model.RoomProfileSnapshot;
+import org.com.aqoo.domain.gamecore.service.GameTimerWheel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 모든 미니게임이 공유하는 방 한 판의 진행 상태입니다.
+ * 슬롯 순서는 게임 시작 시점 프로필 스냅샷의 순서와 같고, 점수/도달 순서는 슬롯 배열에 primitive 로 보관합니다.
+ * 게임별 규칙 상태(방향키 단계 등)는 하위 클래스가 추가하며,
+ * 슬롯 필드 변경은 이 객체를 모니터로 하는 synchronized 블록 안에서만 수행합니다.
+ * 게임 단계(진행 중/종료)는 AtomicInteger 로 관리하여 종료 메시지가 한 번만 발생하도록 보장합니다.
+ */
+public abstract class GameRoom {
+
+    public static final int PHASE_RUNNING = 0;
+    public static final int PHASE_ENDED = 1;
+
+    private final GameMetrics.Game game;
+    private final String roomId;
+    private final RoomProfileSnapshot profiles;
+    private final AtomicInteger phase = new AtomicInteger(PHASE_RUNNING);
+
+    /** 슬롯별 점수 */
+    protected final int[] scores;
+
+    /** 슬롯별 스턴 해제 시각 (epoch ms) */
+    private final long[] stunUntil;
+
+    /** 목표 점수 도달 순서 (슬롯 인덱스) */
+    private final int[] finishOrder;
+    private int finishCount;
+
+    /** 상태가 바뀔 때마다 1씩 증가하는 방 버전 (delta 메시지 순서 확인용) */
+    private long version;
+
+    /** 서버 기준 게임 종료 예약 */
+    private volatile GameTimerWheel.Timeout endTimeout;
+
+    protected GameRoom(GameMetrics.Game game, String roomId, RoomProfileSnapshot profiles) {
+        this.game = game;
+        this.roomId = roomId;
+        this.profiles = profiles;
+        this.scores = new int[profiles.size()];
+        this.stunUntil = new long[profiles.size()];
+        this.finishOrder = new int[profiles.size()];
+    }
+
+    public GameMetrics.Game getGame() {
+        return game;
+    }
+
+    public String getRoomId() {
+        return roomId;
+    }
+
+    public RoomProfileSnapshot getProfiles() {
+        return profiles;
+    }
+
+    /** 사용자의 슬롯 인덱스, 없으면 -1 */
+    public int slotOf(String userName) {
+        return profiles.slotOf(userName);
+    }
+
+    public int playerCount() {
+        return scores.length;
+    }
+
+    public String userNameOf(int slot) {
+        return profiles.get(slot).getUserName();
+    }
+
+    public synchronized int scoreOf(int slot) {
+        return scores[slot];
+    }
+
+    public synchronized long getVersion() {
+        return version;
+    }
+
+    /** 방 버전 1 증가 (synchronized 블록 안에서 호출) */
+    protected long bumpVersion() {
+        return ++version;
+    }
+
+    /**
+     * 목표 점수 도달 기록 (synchronized 블록 안에서 호출)
+     * @return 지금까지 도달한 인원 수 (= 이번 슬롯의 순위)
+     */
+    protected int recordFinish(int slot) {
+        finishOrder[finishCount++] = slot;
+        return finishCount;
+    }
+
+    /** 스턴 중인지 (synchronized 블록 안에서 호출) */
+    protected boolean isStunned(int slot, long now) {
+        return now < stunUntil[slot];
+    }
+
+    /** stunMillis 동안 스턴 (synchronized 블록 안에서 호출) */
+    protected void stun(int slot, long now, long stunMillis) {
+        stunUntil[slot] = now + stunMillis;
+    }
+
+    /**
+     * 저널에서 복구한 진행 상태 반영 (재시작 후 레지스트리 등록 전에 한 번 호출)
+     * 스턴은 1초 남짓이므로 복구하지 않습니다.
+     * @param finishedSlots 목표 점수 도달 순서의 슬롯
+     */
+    public synchronized void restore(int[] restoredScores, List<Integer> finishedSlots, long restoredVersion) {
+        System.arraycopy(restoredScores, 0, scores, 0, Math.min(restoredScores.length, scores.length));
+        finishCount = 0;
+        for (int slot : finishedSlots) {
+            if (slot >= 0 && slot < scores.length) {
+                finishOrder[finishCount++] = slot;
+            }
+        }
+        version = restoredVersion;
+        onRestored();
+    }
+
+    /** 게임별 규칙 상태를 복구한 점수에 맞춤 (synchronized 블록 안에서 호출) */
+    protected void onRestored() {
+    }
+
+    public synchronized int finishedCount() {
+        return finishCount;
+    }
+
+    public synchronized boolean allFinished() {
+        return finishCount == scores.length;
+    }
+
+    public GameTimerWheel.Timeout getEndTimeout() {
+        return endTimeout;
+    }
+
+    public void setEndTimeout(GameTimerWheel.Timeout endTimeout) {
+        this.endTimeout = endTimeout;
+    }
+
+    /** 종료 예약 취소 (정상 종료/해제 시) */
+    public void cancelEndTimeout() {
+        GameTimerWheel.Timeout timeout = endTimeout;
+        if (timeout != null) {
+            timeout.cancel();
+        }
+    }
+
+    public boolean isEnded() {
+        return phase.get() == PHASE_ENDED;
+    }
+
+    /**
+     * 진행 중 → 종료로 전환합니다.
+     * 여러 스레드가 동시에 호출해도 오직 한 호출만 true 를 받습니다.
+     */
+    public boolean tryEnd() {
+        return phase.compareAndSet(PHASE_RUNNING, PHASE_ENDED);
+    }
+
+    /** 현재까지 목표 점수에 도달한 유저 목록 (도달 순서) */
+    public synchronized List<String> finishedUserNames() {
+        List<String> names = new ArrayList<>(finishCount);
+        for (int i = 0; i < finishCount; i++) {
+            names.add(userNameOf(finishOrder[i]));
+        }
+        return names;
+    }
+
+    /**
+     * 최종 순위를 계산합니다.
+     * 목표 점수 도달 유저는 도달 순서대로, 나머지는 점수 내림차순(동점이면 슬롯 순서)으로 뒤에 이어붙입니다.
+     */
+    public synchronized List<String> rankedUserNames() {
+        List<String> ranking = finishedUserNames();
+        boolean[] finished = new boolean[scores.length];
+        for (int i = 0; i < finishCount; i++) {
+            finished[finishOrder[i]] = true;
+        }
+        List<Integer> notFinished = new ArrayList<>(scores.length - finishCount);
+        for (int slot = 0; slot < scores.length; slot++) {
+            if (!finished[slot]) {
+                notFinished.add(slot);
+            }
+        }
+        notFinished.sort((s1, s2) -> Integer.compare(scores[s2], scores[s1]));
+        for (int slot : notFinished) {
+            ranking.add(userNameOf(slot));
+        }
+        return ranking;
+    }
+}
@@ -0,0 +1,14 @@
+package org.com.aqoo.domain.gamecore.engine;
+
+/**
+ * GameRoomRegistry 에 방이 등록/해제될 때 알림을 받습니다 (로비 목록의 게임 중 표시 등).
+ * 등록/해제를 호출한 스레드에서 바로 호출되므로 가볍게 처리해야 합니다.
+ */
+public interface GameRoomListener {
+
+    /** 방에서 새 판이 시작됨 */
+    void onGameStarted(GameRoom room);
+
+    /** 방의 판이 종료되었거나 방 상태가 해제됨 */
+    void onGameEnded(String roomId);
+}
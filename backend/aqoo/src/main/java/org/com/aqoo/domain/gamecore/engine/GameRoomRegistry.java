@@ -0,0 +1,114 @@
+package org.com.aqoo.domain.gamecore.engine;
+
+import org.com.aqoo.domain.gamecore.metrics.GameMetrics;
+import org.com.aqoo.domain.gamecore.service.RoomStateHolder;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 진행 중인 모든 미니게임 방 상태를 보관하는 단일 저장소입니다.
+ * 한 채팅방에서는 한 번에 한 게임만 진행되므로 roomId 당 GameRoom 하나만 보관하며,
+ * 새 게임이 시작되면 이전 판(다른 게임이어도)의 종료 예약을 취소하고 교체합니다.
+ * RoomLifecycleManager 의 방 정리, 클러스터 이관, 방 수 gauge 가 모든 게임에 한 번에 적용됩니다.
+ */
+@Component
+public class GameRoomRegistry implements RoomStateHolder {
+
+    private final Map<String, GameRoom> rooms = new ConcurrentHashMap<>();
+    private final List<GameRoomListener> listeners = new CopyOnWriteArrayList<>();
+
+    public void addListener(GameRoomListener listener) {
+        listeners.add(listener);
+    }
+
+    /** 방 등록, 같은 방에서 진행 중이던 이전 판은 종료 예약을 취소하고 교체 */
+    public void register(GameRoom room) {
+        GameRoom previous = rooms.put(room.getRoomId(), room);
+        if (previous != null && previous != room) {
+            previous.cancelEndTimeout();
+        }
+        for (GameRoomListener listener : listeners) {
+            listener.onGameStarted(room);
+        }
+    }
+
+    /** 방의 진행 중인 판이 type 게임이면 반환, 없거나 다른 게임이면 null */
+    public <R extends GameRoom> R get(String roomId, Class<R> type) {
+        GameRoom room = rooms.get(roomId);
+        return type.isInstance(room) ? type.cast(room) : null;
+    }
+
+    /** 해당 판이 아직 등록되어 있을 때만 해제 (이미 새 판으로 교체됐으면 그대로 둠) */
+    public boolean remove(GameRoom room) {
+        room.cancelEndTimeout();
+        if (!rooms.remove(room.getRoomId(), room)) {
+            return false;
+        }
+        notifyEnded(room.getRoomId());
+        return true;
+    }
+
+    /** 게임별 진행 중인 방 수 */
+    public Map<GameMetrics.Game, Integer> countsByGame() {
+        Map<GameMetrics.Game, Integer> counts = new EnumMap<>(GameMetrics.Game.class);
+        for (GameMetrics.Game game : GameMetrics.Game.values()) {
+            counts.put(game, 0);
+        }
+        for (GameRoom room : rooms.values()) {
+            counts.merge(room.getGame(), 1, Integer::sum);
+        }
+        return counts;
+    }
+
+    /** 게임별 진행 중인(종료되지 않은) 판에 참가한 플레이어 수 */
+    public Map<GameMetrics.Game, Integer> playerCountsByGame() {
+        Map<GameMetrics.Game, Integer> counts = new EnumMap<>(GameMetrics.Game.class);
+        for (GameMetrics.Game game : GameMetrics.Game.values()) {
+            counts.put(game, 0);
+        }
+        for (GameRoom room : rooms.values()) {
+            if (!room.isEnded()) {
+                counts.merge(room.getGame(), room.playerCount(), Integer::sum);
+            }
+        }
+        return counts;
+    }
+
+    @Override
+    public String holderName() {
+        return "games";
+    }
+
+    @Override
+    public Collection<String> roomIds() {
+        return rooms.keySet();
+    }
+
+    /**
+     * 방 상태 해제 및 종료 예약 취소
+     * 판을 종료 상태로 바꾸어 이미 shard 에 들어가 있는 입력/틱 작업이 더 이상 전송하지 않도록 합니다.
+     */
+    @Override
+    public boolean evictRoom(String roomId) {
+        GameRoom room = rooms.remove(roomId);
+        if (room == null) {
+            return false;
+        }
+        room.tryEnd();
+        room.cancelEndTimeout();
+        notifyEnded(roomId);
+        return true;
+    }
+
+    private void notifyEnded(String roomId) {
+        for (GameRoomListener listener : listeners) {
+            listener.onGameEnded(roomId);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package org.com.aqoo.domain.gamecore.engine;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.com.aqoo.domain.gamecore.journal.GameJournal;
+import org.com.aqoo.domain.gamecore.journal.RoomReplay;
+import org.com.aqoo.domain.gamecore.service.RoomShardExecutor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 비정상 종료 후 재시작 시 진행 중이던 판 복구
+ * 저널에 종료 기록이 없는 판을 게임 종류에 맞는 엔진에 방의 shard 에서 다시 등록합니다 (GameRoomRegistry).
+ * 복구할 수 없는 판(플레이어 기록 불완전 등)은 종료 기록을 남겨 다음 재시작에서 다시 시도하지 않습니다.
+ * game.journal.enabled 가 false 이면 아무것도 하지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GameRoomRestorer {
+
+    private final GameJournal gameJournal;
+    private final List<GameEngine<?>> engines;
+    private final RoomShardExecutor roomShardExecutor;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void restoreInFlightGames() {
+        if (!gameJournal.isEnabled()) {
+            return;
+        }
+        int count = 0;
+        for (RoomReplay replay : gameJournal.inFlightRooms()) {
+            GameEngine<?> engine = engineOf(replay.getGame());
+            if (engine == null) {
+                log.warn("No engine for journaled {} game in roomId: {}", replay.getGame(), replay.getRoomId());
+                continue;
+            }
+            String roomId = replay.getRoomId();
+            roomShardExecutor.execute(roomId, () -> {
+                if (!engine.restore(replay)) {
+                    log.warn("Could not restore {} game for roomId: {}", replay.getGame(), roomId);
+                    gameJournal.ended(engine.game(), roomId);
+                }
+            });
+            count++;
+        }
+        log.info("Restoring {} in-flight games from journal", count);
+    }
+
+    private GameEngine<?> engineOf(String tag) {
+        for (GameEngine<?> engine : engines) {
+            if (engine.game().getTag().equals(tag)) {
+                return engine;
+            }
+        }
+        return null;
+    }
+}
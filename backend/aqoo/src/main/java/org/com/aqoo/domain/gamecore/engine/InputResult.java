@@ -0,0 +1,20 @@
+package org.com.aqoo.domain.gamecore.engine;
+
+/**
+ * 게임 규칙이 입력 한 건을 반영한 결과
+ * AbstractGameEngine 은 이 결과만 보고 이벤트 로그/저널/지표 기록과 브로드캐스트를 공통으로 처리합니다.
+ */
+public enum InputResult {
+    /** 방에 없는 사용자이거나 알 수 없는 입력 */
+    IGNORED,
+    /** 스턴 중이라 무시 */
+    STUNNED,
+    /** 이미 목표 점수라 무시 */
+    ALREADY_FINISHED,
+    /** 점수 변경 */
+    SCORED,
+    /** 점수 변경이며 이번 입력으로 목표 점수 도달 */
+    FINISHED,
+    /** 스턴 시작 */
+    STUN_STARTED
+}
@@ -0,0 +1,19 @@
+package org.com.aqoo.domain.gamecore.engine;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 게임 입력을 보낸 플레이어
+ * GameInputDispatcher 가 세션(또는 인증을 요구하지 않을 때 메시지)에서 확인한 방/사용자이며,
+ * 게임 엔진은 입력 메시지의 roomId/userName 대신 이 값을 사용합니다.
+ * slot 은 세션에 기록된 현재 판의 슬롯 힌트이며, 없으면 PlayerSession.NO_SLOT 입니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public final class InputSender {
+
+    private final String roomId;
+    private final String userName;
+    private final int slot;
+}
@@ -0,0 +1,478 @@
+package org.com.aqoo.domain.gamecore.journal;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.com.aqoo.domain.gamecore.metrics.GameMetrics;
+import org.com.aqoo.domain.gamecore.model.RoomProfileSnapshot;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * 게임 이벤트 저널 (append-only, memory-mapped segment 파일)
+ * 시작/플레이어/점수/스턴/도달/종료 이벤트를 고정 크기(96 byte) 바이너리 레코드로 기록하고,
+ * 재시작 시 종료 기록이 없는 판을 GameJournalRestorer 가 각 게임 엔진에 다시 등록합니다.
+ *  - 기록할 칸은 segment 의 AtomicInteger 를 CAS 로 증가시켜 예약하므로 shard 끼리 락 없이 동시에 기록하고,
+ *    segment 가 가득 찼을 때만 다음 파일로 넘어가는 한 번을 동기화합니다.
+ *  - fsync(force)는 game.journal.flush-interval-millis 마다 한 번에 처리
+ *  - game.journal.max-segments 개를 넘으면 가장 오래된 파일 삭제
+ *  - 방별 마지막 판의 STARTED 레코드 위치를 메모리 색인으로 유지하여, replay 는 그 위치부터만 읽고
+ *    진행 중인 판 수는 디스크를 읽지 않고 색인에서 셉니다.
+ *  - 재시작 시 최근 game.journal.restore-window-seconds 안의 segment 만 읽어 색인을 다시 만듭니다
+ *    (그보다 오래된 판은 복구 대상이 아니므로 전체 보관분을 읽지 않음).
+ * game.journal.enabled 가 false(기본)이면 기록하지 않습니다.
+ *
+ * 레코드 레이아웃 (big-endian)
+ *  [0] i64 sequence (1부터, 0 이면 빈 칸) [8] i64 timeMillis [16] u8 game [17] u8 type [18] u16 slot
+ *  [20] i32 value [24] 16B roomId(UUID) [40] u8 nameLength [41] 55B userName(UTF-8, PLAYER 만)
+ *  STARTED 는 [41] i64 종료 예정 시각 [49] i64 seed [57] i32 length (게임별 시작 파라미터)
+ */
+@Slf4j
+@Component
+public class GameJournal {
+
+    public static final int RECORD_SIZE = 96;
+    private static final int NAME_BYTES = RECORD_SIZE - 41;
+    private static final String SEGMENT_PREFIX = "journal-";
+    private static final String SEGMENT_SUFFIX = ".seg";
+
+    /** 매핑된 segment 파일 하나 (레코드 칸은 claimed 를 증가시켜 예약) */
+    private static final class Segment {
+        private final long index;
+        private final MappedByteBuffer buffer;
+        private final int capacity;
+        private final AtomicInteger claimed = new AtomicInteger();
+
+        private Segment(long index, MappedByteBuffer buffer, int capacity) {
+            this.index = index;
+            this.buffer = buffer;
+            this.capacity = capacity;
+        }
+    }
+
+    /** 방의 마지막 판 STARTED 레코드 위치 */
+    private static final class RoomEntry {
+        private final long segment;
+        private final int record;
+        private volatile boolean ended;
+
+        private RoomEntry(long segment, int record) {
+            this.segment = segment;
+            this.record = record;
+        }
+    }
+
+    @Value("${game.journal.enabled:false}")
+    private boolean enabled;
+
+    @Value("${game.journal.dir:./data/journal}")
+    private String directory;
+
+    @Value("${game.journal.segment-records:262144}")
+    private int segmentRecords;
+
+    @Value("${game.journal.max-segments:16}")
+    private int maxSegments;
+
+    @Value("${game.journal.flush-interval-millis:50}")
+    private long flushIntervalMillis;
+
+    /** 재시작 시 색인을 다시 만들 범위 (이보다 오래 전에 시작한 판은 복구하지 않음) */
+    @Value("${game.journal.restore-window-seconds:600}")
+    private long restoreWindowSeconds;
+
+    private Path dir;
+    private long segmentIndex;
+    private volatile Segment current;
+    /** 가득 차서 넘어간 segment (flush 때 force 후 제거) */
+    private final Queue<Segment> retired = new ConcurrentLinkedQueue<>();
+    private final AtomicLong nextSequence = new AtomicLong(1);
+    /** 방 UUID -> 마지막 판 위치 */
+    private final Map<String, RoomEntry> rooms = new ConcurrentHashMap<>();
+    private volatile boolean dirty;
+    private ScheduledExecutorService flusher;
+
+    @PostConstruct
+    public void start() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        dir = Paths.get(directory);
+        Files.createDirectories(dir);
+        List<Path> segments = segments();
+        if (!segments.isEmpty()) {
+            segmentIndex = indexOf(segments.get(segments.size() - 1)) + 1;
+            rebuildIndex(segments);
+        }
+        current = openSegment();
+        flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "game-journal-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flush, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+        log.info("Game journal opened at {} (next sequence {}, {} rooms without an end record)",
+                dir.toAbsolutePath(), nextSequence.get(), inFlightCount());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (flusher != null) {
+            flusher.shutdownNow();
+        }
+        flush();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 게임 시작: STARTED + 슬롯 순서의 PLAYER 레코드
+     * deadlineMillis 와 게임별 시작 파라미터(seed, length)는 복구 시 그대로 돌려줍니다.
+     */
+    public void started(GameMetrics.Game game, String roomId, RoomProfileSnapshot profiles,
+                        long deadlineMillis, long seed, int length) {
+        if (!enabled) {
+            return;
+        }
+        ByteBuffer params = ByteBuffer.allocate(20).putLong(deadlineMillis).putLong(seed).putInt(length);
+        append(game, JournalRecordType.STARTED, roomId, 0, profiles.size(), null, params.array());
+        for (int slot = 0; slot < profiles.size(); slot++) {
+            append(game, JournalRecordType.PLAYER, roomId, slot, 0, profiles.get(slot).getUserName(), null);
+        }
+    }
+
+    /** 점수/스턴/도달 레코드 */
+    public void record(GameMetrics.Game game, JournalRecordType type, String roomId, int slot, long value) {
+        if (!enabled) {
+            return;
+        }
+        append(game, type, roomId, slot, (int) value, null, null);
+    }
+
+    public void ended(GameMetrics.Game game, String roomId) {
+        if (!enabled) {
+            return;
+        }
+        append(game, JournalRecordType.ENDED, roomId, 0, 0, null, null);
+    }
+
+    /** 시작 기록은 있고 종료 기록이 없는 방 수 (색인만 확인) */
+    public int inFlightCount() {
+        int count = 0;
+        for (RoomEntry entry : rooms.values()) {
+            if (!entry.ended) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private void append(GameMetrics.Game game, JournalRecordType type, String roomId,
+                        int slot, int value, String userName, byte[] params) {
+        try {
+            UUID room = roomKey(roomId);
+            while (true) {
+                Segment segment = current;
+                int record = segment.claimed.getAndIncrement();
+                if (record < segment.capacity) {
+                    write(segment.buffer, record * RECORD_SIZE, game, type, room, slot, value, userName, params);
+                    dirty = true;
+                    index(type, room.toString(), segment.index, record);
+                    return;
+                }
+                if (!roll(segment)) {
+                    return;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to append game journal record for roomId: {}", roomId, e);
+        }
+    }
+
+    /** 예약한 칸에 레코드 기록 (칸마다 위치가 다르므로 다른 스레드와 겹치지 않음) */
+    private void write(MappedByteBuffer buffer, int base, GameMetrics.Game game, JournalRecordType type,
+                       UUID room, int slot, int value, String userName, byte[] params) {
+        buffer.putLong(base + 8, System.currentTimeMillis());
+        buffer.put(base + 16, (byte) game.ordinal());
+        buffer.put(base + 17, (byte) type.ordinal());
+        buffer.putShort(base + 18, (short) slot);
+        buffer.putInt(base + 20, value);
+        buffer.putLong(base + 24, room.getMostSignificantBits());
+        buffer.putLong(base + 32, room.getLeastSignificantBits());
+        if (userName != null) {
+            byte[] name = userName.getBytes(StandardCharsets.UTF_8);
+            int length = Math.min(name.length, NAME_BYTES);
+            buffer.put(base + 40, (byte) length);
+            buffer.put(base + 41, name, 0, length);
+        } else if (params != null) {
+            buffer.put(base + 41, params);
+        }
+        // sequence 를 마지막에 기록하여 읽는 쪽이 완성된 레코드만 보도록 함
+        buffer.putLong(base, nextSequence.getAndIncrement());
+    }
+
+    private void index(JournalRecordType type, String room, long segment, int record) {
+        if (type == JournalRecordType.STARTED) {
+            rooms.put(room, new RoomEntry(segment, record));
+        } else if (type == JournalRecordType.ENDED) {
+            RoomEntry entry = rooms.get(room);
+            if (entry != null) {
+                entry.ended = true;
+            }
+        }
+    }
+
+    /** 가득 찬 segment 에서 다음 segment 로 전환 (먼저 도착한 한 스레드만), 실패하면 false */
+    private synchronized boolean roll(Segment full) {
+        if (current != full) {
+            return true;
+        }
+        try {
+            retired.add(full);
+            current = openSegment();
+            return true;
+        } catch (IOException e) {
+            log.error("Failed to open next game journal segment", e);
+            return false;
+        }
+    }
+
+    /** 모아둔 기록을 디스크에 반영 */
+    private void flush() {
+        Segment segment;
+        while ((segment = retired.poll()) != null) {
+            segment.buffer.force();
+        }
+        if (!dirty || current == null) {
+            return;
+        }
+        dirty = false;
+        current.buffer.force();
+    }
+
+    /** 방 하나의 마지막 판 상태와 타임라인 복원 (그 판의 STARTED 위치부터 읽음) */
+    public RoomReplay replay(String roomId) {
+        String room = roomKey(roomId).toString();
+        RoomReplay replay = new RoomReplay(roomId);
+        RoomEntry entry = rooms.get(room);
+        if (entry == null) {
+            return replay;
+        }
+        forEachRecord(entry.segment, entry.record, record -> {
+            if (room.equals(record.getRoomId())) {
+                replay.apply(record);
+            }
+        });
+        return replay;
+    }
+
+    /** 시작 기록은 있고 종료 기록이 없는 방 (가장 먼저 시작한 판의 위치부터 한 번만 읽음) */
+    public Collection<RoomReplay> inFlightRooms() {
+        Map<String, RoomReplay> replays = new LinkedHashMap<>();
+        long fromSegment = Long.MAX_VALUE;
+        int fromRecord = 0;
+        for (Map.Entry<String, RoomEntry> e : rooms.entrySet()) {
+            RoomEntry entry = e.getValue();
+            if (entry.ended) {
+                continue;
+            }
+            replays.put(e.getKey(), new RoomReplay(e.getKey()));
+            if (entry.segment < fromSegment || (entry.segment == fromSegment && entry.record < fromRecord)) {
+                fromSegment = entry.segment;
+                fromRecord = entry.record;
+            }
+        }
+        if (replays.isEmpty()) {
+            return replays.values();
+        }
+        forEachRecord(fromSegment, fromRecord, record -> {
+            RoomReplay replay = replays.get(record.getRoomId());
+            if (replay != null) {
+                replay.apply(record);
+            }
+        });
+        replays.values().removeIf(replay -> replay.getGame() == null || !replay.isInFlight());
+        return replays.values();
+    }
+
+    /** (segment, record) 위치부터 끝까지 순서대로 읽음 */
+    private void forEachRecord(long fromSegment, int fromRecord, Consumer<JournalRecord> consumer) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            Segment live = current;
+            for (Path path : segments()) {
+                long index = indexOf(path);
+                if (index < fromSegment) {
+                    continue;
+                }
+                int from = index == fromSegment ? fromRecord : 0;
+                if (live != null && index == live.index) {
+                    scan(live.buffer.duplicate(), from, Math.min(live.claimed.get(), live.capacity), consumer);
+                } else {
+                    scan(path, from, consumer);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void scan(Path segment, int fromRecord, Consumer<JournalRecord> consumer) throws IOException {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            scan(buffer, fromRecord, (int) (channel.size() / RECORD_SIZE), consumer);
+        }
+    }
+
+    /**
+     * 레코드 읽기
+     * 칸을 먼저 예약한 스레드가 나중에 쓸 수 있으므로 빈 칸(sequence 0)은 건너뛰고 계속 읽습니다.
+     */
+    private void scan(ByteBuffer buffer, int fromRecord, int toRecord, Consumer<JournalRecord> consumer) {
+        for (int record = fromRecord; record < toRecord; record++) {
+            int base = record * RECORD_SIZE;
+            long sequence = buffer.getLong(base);
+            if (sequence == 0) {
+                continue;
+            }
+            JournalRecordType type = JournalRecordType.of(buffer.get(base + 17));
+            int nameLength = buffer.get(base + 40) & 0xFF;
+            String userName = null;
+            if (nameLength > 0) {
+                byte[] name = new byte[nameLength];
+                buffer.get(base + 41, name);
+                userName = new String(name, StandardCharsets.UTF_8);
+            }
+            boolean started = type == JournalRecordType.STARTED;
+            consumer.accept(new JournalRecord(
+                    sequence,
+                    buffer.getLong(base + 8),
+                    GameMetrics.Game.values()[buffer.get(base + 16)],
+                    type,
+                    new UUID(buffer.getLong(base + 24), buffer.getLong(base + 32)).toString(),
+                    buffer.getShort(base + 18),
+                    buffer.getInt(base + 20),
+                    userName,
+                    started ? buffer.getLong(base + 41) : 0L,
+                    started ? buffer.getLong(base + 49) : 0L,
+                    started ? buffer.getInt(base + 57) : 0));
+        }
+    }
+
+    /**
+     * 재시작 시 색인 재구성
+     * 가장 최근 segment 부터 거슬러 올라가며 첫 레코드가 restore-window 보다 오래된 segment 까지만 읽습니다.
+     */
+    private void rebuildIndex(List<Path> segments) throws IOException {
+        long cutoff = System.currentTimeMillis() - TimeUnit.SECONDS.toMillis(restoreWindowSeconds);
+        int first = segments.size() - 1;
+        while (first > 0 && firstRecordTime(segments.get(first)) >= cutoff) {
+            first--;
+        }
+        AtomicLong maxSequence = new AtomicLong();
+        for (Path path : segments.subList(first, segments.size())) {
+            long index = indexOf(path);
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                int records = (int) (channel.size() / RECORD_SIZE);
+                for (int record = 0; record < records; record++) {
+                    int position = record;
+                    scan(buffer, record, record + 1, r -> {
+                        maxSequence.accumulateAndGet(r.getSequence(), Math::max);
+                        if (r.getType() != JournalRecordType.STARTED || r.getTimeMillis() >= cutoff) {
+                            index(r.getType(), r.getRoomId(), index, position);
+                        }
+                    });
+                }
+            }
+        }
+        nextSequence.set(maxSequence.get() + 1);
+    }
+
+    /** segment 첫 레코드의 기록 시각, 비어 있으면 Long.MAX_VALUE */
+    private static long firstRecordTime(Path segment) throws IOException {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            ByteBuffer head = ByteBuffer.allocate(16);
+            channel.read(head, 0);
+            return head.getLong(0) == 0 ? Long.MAX_VALUE : head.getLong(8);
+        }
+    }
+
+    private Segment openSegment() throws IOException {
+        long index = segmentIndex++;
+        Path path = dir.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, index, SEGMENT_SUFFIX));
+        Segment segment;
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // 매핑은 채널을 닫아도 유지됨
+            segment = new Segment(index, channel.map(FileChannel.MapMode.READ_WRITE, 0,
+                    (long) segmentRecords * RECORD_SIZE), segmentRecords);
+        }
+        List<Path> segments = segments();
+        int deleted = Math.max(0, segments.size() - maxSegments);
+        for (int i = 0; i < deleted; i++) {
+            Files.deleteIfExists(segments.get(i));
+        }
+        if (deleted > 0) {
+            // 삭제된 segment 에서 시작한 판은 더 이상 읽을 수 없으므로 색인에서도 제거
+            long oldest = indexOf(segments.get(deleted));
+            rooms.values().removeIf(entry -> entry.segment < oldest);
+        }
+        return segment;
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return new ArrayList<>(files
+                    .filter(p -> p.getFileName().toString().startsWith(SEGMENT_PREFIX))
+                    .filter(p -> p.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .sorted()
+                    .toList());
+        }
+    }
+
+    private static long indexOf(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    /** roomId 는 UUID 로 저장 (UUID 형식이 아니면 이름 기반 UUID) */
+    private static UUID roomKey(String roomId) {
+        try {
+            return UUID.fromString(roomId);
+        } catch (IllegalArgumentException e) {
+            return UUID.nameUUIDFromBytes(roomId.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package org.com.aqoo.domain.gamecore.journal;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.com.aqoo.domain.gamecore.metrics.GameMetrics;
+
+/**
+ * 저널에서 읽어낸 레코드 하나
+ */
+@Getter
+@AllArgsConstructor
+public class JournalRecord {
+    private final long sequence;
+    private final long timeMillis;
+    private final GameMetrics.Game game;
+    private final JournalRecordType type;
+    private final String roomId;
+    private final int slot;
+    private final int value;
+    /** PLAYER 레코드에만 존재 */
+    private final String userName;
+    /** STARTED 레코드에만 존재 (종료 예정 시각, 게임별 시작 파라미터) */
+    private final long deadlineMillis;
+    private final long seed;
+    private final int length;
+}
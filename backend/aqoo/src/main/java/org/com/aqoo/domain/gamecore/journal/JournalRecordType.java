@@ -0,0 +1,25 @@
+package org.com.aqoo.domain.gamecore.journal;
+
+/**
+ * 저널 레코드 종류 (slot / value 의 의미)
+ */
+public enum JournalRecordType {
+    /** 게임 시작 (-, 플레이어 수) */
+    STARTED,
+    /** 시작 시 플레이어 등록 (슬롯, -) + userName */
+    PLAYER,
+    /** 점수 변경 (슬롯, 새 점수) */
+    SCORED,
+    /** 스턴 시작 (슬롯, 스턴 ms) */
+    STUN_STARTED,
+    /** 목표 점수 도달 (슬롯, 도달 순위) */
+    FINISHED,
+    /** 게임 종료 (-, -) */
+    ENDED;
+
+    private static final JournalRecordType[] VALUES = values();
+
+    static JournalRecordType of(int ordinal) {
+        return VALUES[ordinal];
+    }
+}
@@ -0,0 +1,83 @@
+package org.com.aqoo.domain.gamecore.journal;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 저널 레코드로 다시 만든 방 한 판의 상태와 타임라인
+ * 같은 방에서 여러 판이 기록돼 있으면 마지막 STARTED 이후만 반영합니다.
+ */
+@Getter
+public class RoomReplay {
+
+    private final String roomId;
+    private String game;
+    private long startedAt;
+    private Long endedAt;
+    /** 종료 예정 시각 */
+    private long deadlineMillis;
+    /** 게임별 시작 파라미터 (GameA 방향 시퀀스 seed/길이) */
+    private long seed;
+    private int length;
+    /** 점수/스턴 변경 횟수 (= 판의 상태 버전) */
+    private long version;
+    /** 슬롯 순서의 userName */
+    private final List<String> players = new ArrayList<>();
+    /** userName -> 점수 */
+    private final Map<String, Integer> scores = new LinkedHashMap<>();
+    /** 목표 점수 도달 순서 */
+    private final List<String> finishOrder = new ArrayList<>();
+    private final List<JournalRecord> timeline = new ArrayList<>();
+
+    public RoomReplay(String roomId) {
+        this.roomId = roomId;
+    }
+
+    public boolean isInFlight() {
+        return endedAt == null;
+    }
+
+    /** 레코드 하나 반영 (sequence 순서대로 호출) */
+    void apply(JournalRecord record) {
+        switch (record.getType()) {
+            case STARTED -> {
+                game = record.getGame().getTag();
+                startedAt = record.getTimeMillis();
+                endedAt = null;
+                deadlineMillis = record.getDeadlineMillis();
+                seed = record.getSeed();
+                length = record.getLength();
+                version = 0;
+                players.clear();
+                scores.clear();
+                finishOrder.clear();
+                timeline.clear();
+            }
+            case PLAYER -> {
+                while (players.size() <= record.getSlot()) {
+                    players.add(null);
+                }
+                players.set(record.getSlot(), record.getUserName());
+                scores.put(record.getUserName(), 0);
+            }
+            case SCORED -> {
+                scores.put(userAt(record.getSlot()), record.getValue());
+                version++;
+            }
+            case STUN_STARTED -> version++;
+            case FINISHED -> finishOrder.add(userAt(record.getSlot()));
+            case ENDED -> endedAt = record.getTimeMillis();
+            default -> {
+            }
+        }
+        timeline.add(record);
+    }
+
+    private String userAt(int slot) {
+        return slot >= 0 && slot < players.size() ? players.get(slot) : "slot-" + slot;
+    }
+}
@@ -0,0 +1,27 @@
+package org.com.aqoo.domain.gamecore.metrics;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+/**
+ * clientOutboundChannel 로 나가는 메시지(구독 세션마다 한 건)를 목적지 종류별로 세고 본문 크기를 기록합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BroadcastMetricsInterceptor implements ChannelInterceptor {
+
+    private final GameMetrics gameMetrics;
+
+    @Override
+    public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent, Exception ex) {
+        if (!sent || !(message.getPayload() instanceof byte[] payload) || payload.length == 0) {
+            return;
+        }
+        String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+        gameMetrics.recordBroadcast(GameMetrics.Destination.of(destination), payload.length);
+    }
+}
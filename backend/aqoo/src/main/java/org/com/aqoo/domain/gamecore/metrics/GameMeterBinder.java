@@ -0,0 +1,99 @@
+package org.com.aqoo.domain.gamecore.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.com.aqoo.domain.gamecore.engine.GameRoomRegistry;
+import org.com.aqoo.domain.gamecore.service.PlayerProfileService;
+import org.com.aqoo.domain.gamecore.service.PlayerSessionRegistry;
+import org.com.aqoo.domain.gamecore.service.RoomShardExecutor;
+import org.com.aqoo.domain.gamecore.service.RoomStateHolder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 방/세션 수와 메시지 처리 큐 길이 gauge 등록
+ *  - aqoo.rooms.live{holder}: holder(chat, games)별 보관 중인 방 수
+ *  - aqoo.games.live{game}: 게임(game, gameA, gameB)별 진행 중인 방 수
+ *  - aqoo.games.players{game}: 게임별 진행 중인 판에 참가한 플레이어 수
+ *  - aqoo.sessions.live: 인증된 STOMP 세션 수 (게임 참가 여부와 무관)
+ *  - aqoo.profile.cache{result}: 프로필 캐시 hit/miss 수, aqoo.profile.cache.size: 캐시된 사용자 수
+ *  - aqoo.executor.queue{executor}: clientInbound/clientOutbound 채널 실행기와 방 샤드별 대기 작업 수
+ */
+@Component
+public class GameMeterBinder implements MeterBinder {
+
+    private final List<RoomStateHolder> holders;
+    private final GameRoomRegistry gameRoomRegistry;
+    private final PlayerSessionRegistry playerSessionRegistry;
+    private final PlayerProfileService playerProfileService;
+    private final RoomShardExecutor roomShardExecutor;
+    private final ThreadPoolTaskExecutor clientInboundChannelExecutor;
+    private final ThreadPoolTaskExecutor clientOutboundChannelExecutor;
+
+    public GameMeterBinder(List<RoomStateHolder> holders,
+                           GameRoomRegistry gameRoomRegistry,
+                           PlayerSessionRegistry playerSessionRegistry,
+                           PlayerProfileService playerProfileService,
+                           RoomShardExecutor roomShardExecutor,
+                           @Qualifier("clientInboundChannelExecutor") ThreadPoolTaskExecutor clientInboundChannelExecutor,
+                           @Qualifier("clientOutboundChannelExecutor") ThreadPoolTaskExecutor clientOutboundChannelExecutor) {
+        this.holders = holders;
+        this.gameRoomRegistry = gameRoomRegistry;
+        this.playerSessionRegistry = playerSessionRegistry;
+        this.playerProfileService = playerProfileService;
+        this.roomShardExecutor = roomShardExecutor;
+        this.clientInboundChannelExecutor = clientInboundChannelExecutor;
+        this.clientOutboundChannelExecutor = clientOutboundChannelExecutor;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (RoomStateHolder holder : holders) {
+            Gauge.builder("aqoo.rooms.live", holder, h -> h.roomIds().size())
+                    .tag("holder", holder.holderName())
+                    .register(registry);
+        }
+        for (GameMetrics.Game game : GameMetrics.Game.values()) {
+            Gauge.builder("aqoo.games.live", gameRoomRegistry, r -> r.countsByGame().get(game))
+                    .tag("game", game.getTag())
+                    .register(registry);
+        }
+        for (GameMetrics.Game game : GameMetrics.Game.values()) {
+            Gauge.builder("aqoo.games.players", gameRoomRegistry, r -> r.playerCountsByGame().get(game))
+                    .tag("game", game.getTag())
+                    .register(registry);
+        }
+        Gauge.builder("aqoo.sessions.live", playerSessionRegistry, PlayerSessionRegistry::getSessionCount)
+                .register(registry);
+        FunctionCounter.builder("aqoo.profile.cache", playerProfileService, PlayerProfileService::getHitCount)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("aqoo.profile.cache", playerProfileService, PlayerProfileService::getMissCount)
+                .tag("result", "miss")
+                .register(registry);
+        Gauge.builder("aqoo.profile.cache.size", playerProfileService, PlayerProfileService::getCachedCount)
+                .register(registry);
+
+        Gauge.builder("aqoo.executor.queue", clientInboundChannelExecutor, GameMeterBinder::queueSize)
+                .tag("executor", "clientInbound")
+                .register(registry);
+        Gauge.builder("aqoo.executor.queue", clientOutboundChannelExecutor, GameMeterBinder::queueSize)
+                .tag("executor", "clientOutbound")
+                .register(registry);
+        for (int shard = 0; shard < roomShardExecutor.getShardCount(); shard++) {
+            int index = shard;
+            Gauge.builder("aqoo.executor.queue", roomShardExecutor, s -> s.getQueueDepths()[index])
+                    .tag("executor", "room-shard-" + shard)
+                    .register(registry);
+        }
+    }
+
+    private static double queueSize(ThreadPoolTaskExecutor executor) {
+        return executor.getThreadPoolExecutor().getQueue().size();
+    }
+}
@@ -0,0 +1,163 @@
+package org.com.aqoo.domain.gamecore.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게임/채팅 hot path 계측
+ * 모든 meter 는 생성 시 미리 등록하고 배열로 보관하므로, 입력마다 호출되는 기록 메서드는
+ * 태그 조회나 문자열 생성 없이 배열 인덱스로 바로 기록합니다.
+ */
+@Component
+public class GameMetrics {
+
+    /** 입력을 받는 게임 종류 (태그 game) */
+    public enum Game {
+        TAP("game"), GAME_A("gameA"), GAME_B("gameB");
+
+        private final String tag;
+
+        Game(String tag) {
+            this.tag = tag;
+        }
+
+        public String getTag() {
+            return tag;
+        }
+    }
+
+    /** 서버 → 클라이언트 메시지 목적지 종류 (태그 destination) */
+    public enum Destination {
+        GAME("game"), CHAT("chat"), LOBBY("lobby"), USER("user"), OTHER("other");
+
+        private final String tag;
+
+        Destination(String tag) {
+            this.tag = tag;
+        }
+
+        public String getTag() {
+            return tag;
+        }
+
+        /** 목적지 문자열로 종류 판별 */
+        public static Destination of(String destination) {
+            if (destination == null) {
+                return OTHER;
+            }
+            if (destination.startsWith("/topic/room/")) {
+                return GAME;
+            }
+            if (destination.startsWith("/user/") || destination.startsWith("/queue/")) {
+                return USER;
+            }
+            if (destination.equals("/topic/lobby")) {
+                return LOBBY;
+            }
+            if (destination.startsWith("/topic/")) {
+                return CHAT;
+            }
+            return OTHER;
+        }
+    }
+
+    /** 채팅 STOMP 핸들러 (태그 handler) */
+    public enum ChatHandler {
+        SEND_MESSAGE("sendMessage"), JOIN_ROOM("joinRoom"), READY("ready"), UNREADY("unready"),
+        LEAVE_ROOM("leaveRoom"), CLEAR_READY("clearReady"), ROSTER_SYNC("rosterSync"),
+        KICK_USER("kickUser"), DROPDOWN("dropdown");
+
+        private final String tag;
+
+        ChatHandler(String tag) {
+            this.tag = tag;
+        }
+
+        public String getTag() {
+            return tag;
+        }
+    }
+
+    private final Timer[] inputTimers = new Timer[Game.values().length];
+    private final Timer[] chatTimers = new Timer[ChatHandler.values().length];
+    private final Counter[] stunRejections = new Counter[Game.values().length];
+    private final Counter[] stunsStarted = new Counter[Game.values().length];
+    private final Counter[] broadcasts = new Counter[Destination.values().length];
+    private final DistributionSummary[] payloadBytes = new DistributionSummary[Destination.values().length];
+
+    public GameMetrics(MeterRegistry registry) {
+        for (Game game : Game.values()) {
+            inputTimers[game.ordinal()] = Timer.builder("aqoo.game.input")
+                    .description("입력 수신부터 샤드 처리 완료까지 걸린 시간")
+                    .tag("game", game.getTag())
+                    .publishPercentiles(0.5, 0.99, 0.999)
+                    .register(registry);
+            stunRejections[game.ordinal()] = Counter.builder("aqoo.game.stun.rejected")
+                    .description("스턴 중이라 무시된 입력 수")
+                    .tag("game", game.getTag())
+                    .register(registry);
+            stunsStarted[game.ordinal()] = Counter.builder("aqoo.game.stun.started")
+                    .description("스턴이 시작된 횟수")
+                    .tag("game", game.getTag())
+                    .register(registry);
+        }
+        for (ChatHandler handler : ChatHandler.values()) {
+            chatTimers[handler.ordinal()] = Timer.builder("aqoo.chat.handle")
+                    .description("채팅 메시지 핸들러 처리 시간 (브로드캐스트 요청 포함)")
+                    .tag("handler", handler.getTag())
+                    .publishPercentiles(0.5, 0.99, 0.999)
+                    .register(registry);
+        }
+        for (Destination destination : Destination.values()) {
+            broadcasts[destination.ordinal()] = Counter.builder("aqoo.broadcast.messages")
+                    .description("세션별로 전송된 STOMP 메시지 수")
+                    .tag("destination", destination.getTag())
+                    .register(registry);
+            payloadBytes[destination.ordinal()] = DistributionSummary.builder("aqoo.broadcast.payload")
+                    .description("세션별로 전송된 STOMP 메시지 본문 크기")
+                    .baseUnit("bytes")
+                    .tag("destination", destination.getTag())
+                    .register(registry);
+        }
+    }
+
+    /** receivedAtNanos(System.nanoTime) 부터 지금까지를 입력 처리 시간으로 기록 */
+    public void recordInput(Game game, long receivedAtNanos) {
+        inputTimers[game.ordinal()].record(System.nanoTime() - receivedAtNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /** startedAtNanos(System.nanoTime) 부터 지금까지를 채팅 핸들러 처리 시간으로 기록 */
+    public void recordChat(ChatHandler handler, long startedAtNanos) {
+        chatTimers[handler.ordinal()].record(System.nanoTime() - startedAtNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void stunRejected(Game game) {
+        stunRejections[game.ordinal()].increment();
+    }
+
+    public void stunStarted(Game game) {
+        stunsStarted[game.ordinal()].increment();
+    }
+
+    public void recordBroadcast(Destination destination, int bytes) {
+        broadcasts[destination.ordinal()].increment();
+        payloadBytes[destination.ordinal()].record(bytes);
+    }
+
+    public Timer inputTimer(Game game) {
+        return inputTimers[game.ordinal()];
+    }
+
+    public Timer chatTimer(ChatHandler handler) {
+        return chatTimers[handler.ordinal()];
+    }
+
+    public long broadcastCount(Destination destination) {
+        return (long) broadcasts[destination.ordinal()].count();
+    }
+}
@@ -0,0 +1,100 @@
+package org.com.aqoo.domain.gamecore.metrics;
+
+import lombok.RequiredArgsConstructor;
+import org.com.aqoo.domain.gamecore.engine.GameRoomRegistry;
+import org.com.aqoo.domain.gamecore.service.PlayerProfileService;
+import org.com.aqoo.domain.gamecore.service.PlayerSessionRegistry;
+import org.com.aqoo.domain.gamecore.service.RoomLifecycleManager;
+import org.com.aqoo.domain.gamecore.service.RoomShardExecutor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * /actuator/games : 게임 서버 상태 요약
+ * 개별 meter 는 /actuator/metrics/aqoo.* 에서도 조회할 수 있습니다.
+ */
+@Component
+@Endpoint(id = "games")
+public class GameMetricsEndpoint {
+
+    private final GameMetrics gameMetrics;
+    private final RoomLifecycleManager roomLifecycleManager;
+    private final GameRoomRegistry gameRoomRegistry;
+    private final PlayerSessionRegistry playerSessionRegistry;
+    private final PlayerProfileService playerProfileService;
+    private final RoomShardExecutor roomShardExecutor;
+    private final ThreadPoolTaskExecutor clientInboundChannelExecutor;
+    private final ThreadPoolTaskExecutor clientOutboundChannelExecutor;
+
+    public GameMetricsEndpoint(GameMetrics gameMetrics,
+                               RoomLifecycleManager roomLifecycleManager,
+                               GameRoomRegistry gameRoomRegistry,
+                               PlayerSessionRegistry playerSessionRegistry,
+                               PlayerProfileService playerProfileService,
+                               RoomShardExecutor roomShardExecutor,
+                               @Qualifier("clientInboundChannelExecutor") ThreadPoolTaskExecutor clientInboundChannelExecutor,
+                               @Qualifier("clientOutboundChannelExecutor") ThreadPoolTaskExecutor clientOutboundChannelExecutor) {
+        this.gameMetrics = gameMetrics;
+        this.roomLifecycleManager = roomLifecycleManager;
+        this.gameRoomRegistry = gameRoomRegistry;
+        this.playerSessionRegistry = playerSessionRegistry;
+        this.playerProfileService = playerProfileService;
+        this.roomShardExecutor = roomShardExecutor;
+        this.clientInboundChannelExecutor = clientInboundChannelExecutor;
+        this.clientOutboundChannelExecutor = clientOutboundChannelExecutor;
+    }
+
+    @ReadOperation
+    public Map<String, Object> games() {
+        Map<String, Object> inputs = new LinkedHashMap<>();
+        for (GameMetrics.Game game : GameMetrics.Game.values()) {
+            Map<String, Object> input = new LinkedHashMap<>();
+            input.put("count", gameMetrics.inputTimer(game).count());
+            input.put("meanMillis", gameMetrics.inputTimer(game).mean(TimeUnit.MILLISECONDS));
+            input.put("maxMillis", gameMetrics.inputTimer(game).max(TimeUnit.MILLISECONDS));
+            inputs.put(game.getTag(), input);
+        }
+        Map<String, Object> chatHandlers = new LinkedHashMap<>();
+        for (GameMetrics.ChatHandler handler : GameMetrics.ChatHandler.values()) {
+            Map<String, Object> timing = new LinkedHashMap<>();
+            timing.put("count", gameMetrics.chatTimer(handler).count());
+            timing.put("meanMillis", gameMetrics.chatTimer(handler).mean(TimeUnit.MILLISECONDS));
+            timing.put("maxMillis", gameMetrics.chatTimer(handler).max(TimeUnit.MILLISECONDS));
+            chatHandlers.put(handler.getTag(), timing);
+        }
+        Map<String, Object> players = new LinkedHashMap<>();
+        gameRoomRegistry.playerCountsByGame().forEach((game, count) -> players.put(game.getTag(), count));
+        Map<String, Object> broadcasts = new LinkedHashMap<>();
+        for (GameMetrics.Destination destination : GameMetrics.Destination.values()) {
+            broadcasts.put(destination.getTag(), gameMetrics.broadcastCount(destination));
+        }
+        Map<String, Object> queues = new LinkedHashMap<>();
+        queues.put("clientInbound", clientInboundChannelExecutor.getThreadPoolExecutor().getQueue().size());
+        queues.put("clientOutbound", clientOutboundChannelExecutor.getThreadPoolExecutor().getQueue().size());
+        queues.put("roomShards", roomShardExecutor.getQueueDepths());
+
+        Map<String, Object> profileCache = new LinkedHashMap<>();
+        profileCache.put("hits", playerProfileService.getHitCount());
+        profileCache.put("misses", playerProfileService.getMissCount());
+        profileCache.put("size", playerProfileService.getCachedCount());
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("liveRooms", roomLifecycleManager.getLiveRoomCount());
+        result.put("roomsByHolder", roomLifecycleManager.getRoomCountsByHolder());
+        result.put("liveSessions", playerSessionRegistry.getSessionCount());
+        result.put("playersByGame", players);
+        result.put("inputs", inputs);
+        result.put("chatHandlers", chatHandlers);
+        result.put("broadcasts", broadcasts);
+        result.put("queues", queues);
+        result.put("profileCache", profileCache);
+        return result;
+    }
+}
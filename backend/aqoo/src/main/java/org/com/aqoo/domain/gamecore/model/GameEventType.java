@@ -0,0 +1,31 @@
+package org.com.aqoo.domain.gamecore.model;
+
+/**
+ * 게임 이벤트 로그 종류
+ * value 의 의미는 종류마다 다릅니다 (괄호 안).
+ */
+public enum GameEventType {
+    /** 입력이 반영되어 점수 변경 (새 점수) */
+    SCORED(true),
+    /** 오답/돌 섭취로 스턴 시작 (스턴 ms) */
+    STUN_STARTED(true),
+    /** 스턴 중이라 입력 무시 (0) */
+    IGNORED_STUNNED(true),
+    /** 이미 목표 점수라 입력 무시 (현재 점수) */
+    IGNORED_FINISHED(true),
+    /** 방 참가자가 아니거나 진행 중인 게임이 없어 입력 무시 (0) */
+    IGNORED_UNKNOWN(true),
+    /** 플레이어가 목표 점수 도달 (도달 순위, 1부터) */
+    FINISHED(false);
+
+    /** true 이면 입력마다 발생하는 이벤트라 샘플링 대상 */
+    private final boolean perInput;
+
+    GameEventType(boolean perInput) {
+        this.perInput = perInput;
+    }
+
+    public boolean isPerInput() {
+        return perInput;
+    }
+}
@@ -0,0 +1,17 @@
+package org.com.aqoo.domain.gamecore.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게임 시작 시점에 캡처한 플레이어 프로필 (불변)
+ * 게임 진행 중 브로드캐스트마다 UserService 를 다시 조회하지 않기 위해 사용합니다.
+ */
+@Getter
+@AllArgsConstructor
+public final class PlayerProfile {
+    private final String userName;
+    private final String nickname;
+    private final String mainFishImage;
+    private final int level;
+}
@@ -0,0 +1,51 @@
+package org.com.aqoo.domain.gamecore.model;
+
+/**
+ * STOMP 세션 하나에 묶인 사용자 정보
+ * userName 은 CONNECT 시 JWT 로 확정되고, roomId 는 채팅방 입장/퇴장 때,
+ * slot 은 방에서 판이 시작/종료될 때 바뀝니다 (진행 중인 판이 없으면 NO_SLOT).
+ */
+public class PlayerSession {
+
+    public static final int NO_SLOT = -1;
+
+    private final String sessionId;
+    private final String userName;
+    private volatile String roomId;
+    private volatile int slot = NO_SLOT;
+
+    public PlayerSession(String sessionId, String userName) {
+        this.sessionId = sessionId;
+        this.userName = userName;
+    }
+
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    public String getUserName() {
+        return userName;
+    }
+
+    public String getRoomId() {
+        return roomId;
+    }
+
+    public int getSlot() {
+        return slot;
+    }
+
+    public void enter(String roomId, int slot) {
+        this.roomId = roomId;
+        this.slot = slot;
+    }
+
+    public void setSlot(int slot) {
+        this.slot = slot;
+    }
+
+    public void exit() {
+        this.roomId = null;
+        this.slot = NO_SLOT;
+    }
+}
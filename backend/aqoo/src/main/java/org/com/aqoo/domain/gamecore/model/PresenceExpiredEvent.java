@@ -0,0 +1,19 @@
+package org.com.aqoo.domain.gamecore.model;
+
+import lombok.Getter;
+
+/**
+ * 연결이 끊긴 사용자가 재연결 유예 시간 안에 방으로 돌아오지 않았을 때 발행하는 이벤트
+ * 채팅방 쪽에서 받아서 해당 사용자를 방에서 퇴장 처리합니다.
+ */
+@Getter
+public class PresenceExpiredEvent {
+
+    private final String userName;
+    private final String roomId;
+
+    public PresenceExpiredEvent(String userName, String roomId) {
+        this.userName = userName;
+        this.roomId = roomId;
+    }
+}
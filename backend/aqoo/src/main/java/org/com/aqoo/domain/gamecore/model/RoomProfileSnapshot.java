@@ -0,0 +1,59 @@
+package org.com.aqoo.domain.gamecore.model;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 한 방의 플레이어 프로필 스냅샷 (불변)
+ * 순서는 게임 시작 시점의 멤버 순서이며, 각 게임의 슬롯 인덱스와 동일하게 사용합니다.
+ */
+public final class RoomProfileSnapshot {
+
+    private final List<PlayerProfile> profiles;
+    private final Map<String, PlayerProfile> byUserName;
+    private final Map<String, Integer> slotIndex;
+
+    public RoomProfileSnapshot(List<PlayerProfile> profiles) {
+        this.profiles = List.copyOf(profiles);
+        Map<String, PlayerProfile> index = new HashMap<>();
+        Map<String, Integer> slots = new HashMap<>();
+        for (int i = 0; i < this.profiles.size(); i++) {
+            PlayerProfile profile = this.profiles.get(i);
+            index.put(profile.getUserName(), profile);
+            slots.put(profile.getUserName(), i);
+        }
+        this.byUserName = Collections.unmodifiableMap(index);
+        this.slotIndex = Collections.unmodifiableMap(slots);
+    }
+
+    public List<PlayerProfile> getProfiles() {
+        return profiles;
+    }
+
+    public int size() {
+        return profiles.size();
+    }
+
+    public PlayerProfile get(int slot) {
+        return profiles.get(slot);
+    }
+
+    /** userName 의 프로필, 스냅샷에 없으면 null */
+    public PlayerProfile get(String userName) {
+        return byUserName.get(userName);
+    }
+
+    /** userName 의 슬롯 인덱스, 스냅샷에 없으면 -1 */
+    public int slotOf(String userName) {
+        Integer slot = slotIndex.get(userName);
+        return slot == null ? -1 : slot;
+    }
+
+    /** userName 의 닉네임, 스냅샷에 없으면 userName 그대로 반환 */
+    public String nicknameOf(String userName) {
+        PlayerProfile profile = byUserName.get(userName);
+        return profile != null ? profile.getNickname() : userName;
+    }
+}
@@ -0,0 +1,188 @@
+package org.com.aqoo.domain.gamecore.service;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 방별 게임 토픽 구독 상태
+ *  - 바이너리 토픽(/topic/room/{roomId}/bin)을 구독한 세션 수
+ *  - JSON 토픽(/topic/room/{roomId})만 구독하고 바이너리 토픽은 구독하지 않은 세션 수
+ * SUBSCRIBE/UNSUBSCRIBE/연결 종료 이벤트로 갱신하며, GameBroadcaster 가 delta 를 어느 토픽으로 보낼지
+ * O(1) 로 조회합니다 (바이너리 구독자가 없으면 바이너리 delta 를, JSON 만 받는 세션이 없으면 JSON delta 를 만들지 않음).
+ */
+@Component
+public class BinarySubscriptionTracker {
+
+    private static final String PREFIX = "/topic/room/";
+    private static final String SUFFIX = "/bin";
+
+    /** 구독 하나의 대상 방과 형식 */
+    private static final class Target {
+        private final String roomId;
+        private final boolean binary;
+
+        private Target(String roomId, boolean binary) {
+            this.roomId = roomId;
+            this.binary = binary;
+        }
+    }
+
+    /** 한 세션이 한 방에 가진 구독 수 */
+    private static final class RoomSubscriptions {
+        private int json;
+        private int binary;
+
+        private boolean jsonOnly() {
+            return json > 0 && binary == 0;
+        }
+    }
+
+    /** 한 세션의 구독 (변경은 this 를 모니터로 하는 synchronized 블록 안에서만) */
+    private static final class SessionSubscriptions {
+        private final Map<String, Target> subscriptions = new HashMap<>();
+        private final Map<String, RoomSubscriptions> rooms = new HashMap<>();
+    }
+
+    /** sessionId -> 구독 */
+    private final Map<String, SessionSubscriptions> sessions = new ConcurrentHashMap<>();
+
+    /** roomId -> 바이너리 토픽을 구독한 세션 수 */
+    private final Map<String, AtomicInteger> binarySessions = new ConcurrentHashMap<>();
+
+    /** roomId -> JSON 토픽만 구독한 세션 수 */
+    private final Map<String, AtomicInteger> jsonOnlySessions = new ConcurrentHashMap<>();
+
+    public boolean hasSubscribers(String roomId) {
+        return positive(binarySessions, roomId);
+    }
+
+    /** 바이너리 토픽 없이 JSON 토픽만 구독한 세션이 있으면 true (이 세션들에는 JSON delta 가 필요) */
+    public boolean hasJsonOnlySubscribers(String roomId) {
+        return positive(jsonOnlySessions, roomId);
+    }
+
+    @EventListener
+    public void handleSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        subscribed(accessor.getSessionId(), accessor.getSubscriptionId(), accessor.getDestination());
+    }
+
+    @EventListener
+    public void handleUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        unsubscribed(accessor.getSessionId(), accessor.getSubscriptionId());
+    }
+
+    @EventListener
+    public void handleDisconnect(SessionDisconnectEvent event) {
+        SessionSubscriptions session = sessions.remove(event.getSessionId());
+        if (session == null) {
+            return;
+        }
+        synchronized (session) {
+            session.rooms.forEach((roomId, room) -> {
+                if (room.binary > 0) {
+                    decrement(binarySessions, roomId);
+                }
+                if (room.jsonOnly()) {
+                    decrement(jsonOnlySessions, roomId);
+                }
+            });
+            session.rooms.clear();
+            session.subscriptions.clear();
+        }
+    }
+
+    void subscribed(String sessionId, String subscriptionId, String destination) {
+        Target target = targetOf(destination);
+        if (sessionId == null || subscriptionId == null || target == null) {
+            return;
+        }
+        SessionSubscriptions session = sessions.computeIfAbsent(sessionId, k -> new SessionSubscriptions());
+        synchronized (session) {
+            Target previous = session.subscriptions.put(subscriptionId, target);
+            if (previous != null) {
+                change(session, previous, -1);
+            }
+            change(session, target, 1);
+        }
+    }
+
+    void unsubscribed(String sessionId, String subscriptionId) {
+        SessionSubscriptions session = sessionId == null ? null : sessions.get(sessionId);
+        if (session == null || subscriptionId == null) {
+            return;
+        }
+        synchronized (session) {
+            Target target = session.subscriptions.remove(subscriptionId);
+            if (target != null) {
+                change(session, target, -1);
+            }
+        }
+    }
+
+    /** session 을 모니터로 잡은 상태에서 호출 (세션의 방 구독 수를 바꾸고 방별 세션 수에 반영) */
+    private void change(SessionSubscriptions session, Target target, int delta) {
+        RoomSubscriptions room = session.rooms.computeIfAbsent(target.roomId, k -> new RoomSubscriptions());
+        boolean hadBinary = room.binary > 0;
+        boolean wasJsonOnly = room.jsonOnly();
+        if (target.binary) {
+            room.binary += delta;
+        } else {
+            room.json += delta;
+        }
+        if (hadBinary != room.binary > 0) {
+            adjust(binarySessions, target.roomId, hadBinary);
+        }
+        if (wasJsonOnly != room.jsonOnly()) {
+            adjust(jsonOnlySessions, target.roomId, wasJsonOnly);
+        }
+        if (room.json <= 0 && room.binary <= 0) {
+            session.rooms.remove(target.roomId);
+        }
+    }
+
+    private static void adjust(Map<String, AtomicInteger> counts, String roomId, boolean decrement) {
+        if (decrement) {
+            decrement(counts, roomId);
+        } else {
+            // 감소와 같은 compute 안에서 증가시켜야 0 이 되어 지워지는 항목을 증가시키지 않음
+            counts.compute(roomId, (k, count) -> {
+                if (count == null) {
+                    return new AtomicInteger(1);
+                }
+                count.incrementAndGet();
+                return count;
+            });
+        }
+    }
+
+    private static void decrement(Map<String, AtomicInteger> counts, String roomId) {
+        counts.computeIfPresent(roomId, (k, count) -> count.decrementAndGet() <= 0 ? null : count);
+    }
+
+    private static boolean positive(Map<String, AtomicInteger> counts, String roomId) {
+        AtomicInteger count = counts.get(roomId);
+        return count != null && count.get() > 0;
+    }
+
+    /** 게임 토픽(/topic/room/{roomId} 또는 /topic/room/{roomId}/bin)이 아니면 null */
+    private static Target targetOf(String destination) {
+        if (destination == null || !destination.startsWith(PREFIX)) {
+            return null;
+        }
+        boolean binary = destination.endsWith(SUFFIX) && destination.length() > PREFIX.length() + SUFFIX.length();
+        String roomId = destination.substring(PREFIX.length(),
+                binary ? destination.length() - SUFFIX.length() : destination.length());
+        return roomId.isEmpty() || roomId.indexOf('/') >= 0 ? null : new Target(roomId, binary);
+    }
+}
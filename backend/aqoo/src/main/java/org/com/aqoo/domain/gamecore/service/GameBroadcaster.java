@@ -0,0 +1,80 @@
+package org.com.aqoo.domain.gamecore.service;
+
+import lombok.RequiredArgsConstructor;
+import org.com.aqoo.domain.gamecore.codec.GameBinaryCodec;
+import org.com.aqoo.domain.gamecore.dto.ScoreDelta;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 게임 방 토픽(/topic/room/{roomId})으로 전체 스냅샷과 delta 메시지를 전송합니다.
+ * 전체 스냅샷에는 STOMP 헤더 "version" 으로 현재 방 버전을 함께 실어 보내므로,
+ * 클라이언트는 이후 delta 의 version 이 연속인지로 누락 여부를 판단할 수 있습니다.
+ * game.wire.binary-enabled 가 true 이면 /topic/room/{roomId}/bin 을 함께 구독한 클라이언트는 delta 를
+ * 바이너리(GameBinaryCodec)로만 받습니다. 스냅샷/시작/종료는 계속 JSON 토픽으로 받습니다.
+ *  - 바이너리 토픽 구독자가 있으면 바이너리 delta 전송 (content-type 메시지 헤더로 GameBinaryMessageConverter 가 인코딩)
+ *  - 바이너리 토픽 없이 JSON 토픽만 구독한 세션이 있을 때만 JSON delta 전송
+ * 따라서 모든 클라이언트가 바이너리를 고른 방에는 delta 가 한 번만, 바이너리로만 전송됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class GameBroadcaster {
+
+    public static final String VERSION_HEADER = "version";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final BinarySubscriptionTracker binarySubscriptionTracker;
+
+    /** true 이면 진행 중 변경은 delta 로만 전송 (false 면 기존처럼 매번 전체 스냅샷) */
+    @Value("${game.broadcast.delta-enabled:false}")
+    private boolean deltaEnabled;
+
+    /** true 이면 바이너리 토픽 구독자에게 delta 를 바이너리로 전송 */
+    @Value("${game.wire.binary-enabled:false}")
+    private boolean binaryEnabled;
+
+    public boolean isDeltaEnabled() {
+        return deltaEnabled;
+    }
+
+    /** 전체 스냅샷 전송 (시작/종료/resync) */
+    public void sendSnapshot(String roomId, Object response, long version) {
+        messagingTemplate.convertAndSend(destination(roomId), response,
+                Map.<String, Object>of(VERSION_HEADER, String.valueOf(version)));
+    }
+
+    /** 한 플레이어의 변경분 전송 */
+    public void sendDelta(String roomId, ScoreDelta delta) {
+        boolean binary = binaryEnabled && binarySubscriptionTracker.hasSubscribers(roomId);
+        if (!binary || binarySubscriptionTracker.hasJsonOnlySubscribers(roomId)) {
+            messagingTemplate.convertAndSend(destination(roomId), delta);
+        }
+        if (binary) {
+            messagingTemplate.convertAndSend(binaryDestination(roomId), delta, binaryHeaders());
+        }
+    }
+
+    /**
+     * 일반 Map 헤더는 STOMP native 헤더가 되므로, content-type 은 메시지 헤더로 직접 지정해야
+     * 바이너리 변환기가 선택됩니다.
+     */
+    private static MessageHeaders binaryHeaders() {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create();
+        accessor.setContentType(GameBinaryCodec.MIME_TYPE);
+        accessor.setLeaveMutable(true);
+        return accessor.getMessageHeaders();
+    }
+
+    public static String destination(String roomId) {
+        return "/topic/room/" + roomId;
+    }
+
+    public static String binaryDestination(String roomId) {
+        return destination(roomId) + "/bin";
+    }
+}
@@ -0,0 +1,168 @@
+package org.com.aqoo.domain.gamecore.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.com.aqoo.domain.gamecore.metrics.GameMetrics;
+import org.com.aqoo.domain.gamecore.model.GameEventType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 입력 단위 게임 이벤트 비동기 로거
+ * 입력 처리 스레드는 미리 할당된 링 버퍼의 칸 하나에 필드 몇 개만 기록하고,
+ * 별도 스레드("game-event-log")가 주기적으로 버퍼를 비우며 문자열 포맷/로그 출력을 담당합니다.
+ *  - 입력 이벤트는 DEBUG 레벨이 켜져 있을 때만, game.log.sample-every 건 중 1건만 기록 (1 이하면 모두 기록)
+ *  - trace 중인 방은 샘플링/레벨과 무관하게 모든 입력 이벤트를 INFO 로 기록 (런타임에 방 단위로 켜고 끔)
+ *  - 버퍼가 가득 차면 기다리지 않고 버리며, 버린 건수만 집계
+ */
+@Slf4j
+@Component
+public class GameEventLogger {
+
+    /** 링 버퍼 한 칸 (재사용) */
+    private static final class Slot {
+        private volatile long sequence = -1;
+        private long timeMillis;
+        private GameMetrics.Game game;
+        private GameEventType type;
+        private String roomId;
+        private String userName;
+        private long value;
+        private boolean traced;
+    }
+
+    @Value("${game.log.buffer-size:65536}")
+    private int bufferSize;
+
+    @Value("${game.log.sample-every:64}")
+    private int sampleEvery;
+
+    @Value("${game.log.flush-interval-millis:100}")
+    private long flushIntervalMillis;
+
+    private final Set<String> tracedRooms = ConcurrentHashMap.newKeySet();
+    private final AtomicLong cursor = new AtomicLong();
+    private final AtomicLong consumed = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    private Slot[] ring;
+    private int mask;
+    private volatile boolean running;
+    private Thread worker;
+
+    @PostConstruct
+    public void start() {
+        int size = Integer.highestOneBit(Math.max(2, bufferSize - 1)) << 1;
+        ring = new Slot[size];
+        for (int i = 0; i < size; i++) {
+            ring[i] = new Slot();
+        }
+        mask = size - 1;
+        running = true;
+        worker = new Thread(this::run, "game-event-log");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+        }
+        drain();
+    }
+
+    /** 해당 방의 모든 입력 이벤트 기록 시작 */
+    public void traceRoom(String roomId) {
+        tracedRooms.add(roomId);
+        log.info("Game event tracing enabled for roomId: {}", roomId);
+    }
+
+    public void untraceRoom(String roomId) {
+        if (tracedRooms.remove(roomId)) {
+            log.info("Game event tracing disabled for roomId: {}", roomId);
+        }
+    }
+
+    public Set<String> getTracedRooms() {
+        return Set.copyOf(tracedRooms);
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /** 게임 이벤트 기록 (입력 처리 hot path 에서 호출) */
+    public void record(GameMetrics.Game game, GameEventType type, String roomId, String userName, long value) {
+        boolean traced = !tracedRooms.isEmpty() && roomId != null && tracedRooms.contains(roomId);
+        if (!traced && type.isPerInput()) {
+            if (!log.isDebugEnabled() || (sampleEvery > 1 && ThreadLocalRandom.current().nextInt(sampleEvery) != 0)) {
+                return;
+            }
+        }
+
+        long sequence;
+        do {
+            sequence = cursor.get();
+            if (sequence - consumed.get() >= ring.length) {
+                dropped.incrementAndGet();
+                return;
+            }
+        } while (!cursor.compareAndSet(sequence, sequence + 1));
+
+        Slot slot = ring[(int) (sequence & mask)];
+        slot.timeMillis = System.currentTimeMillis();
+        slot.game = game;
+        slot.type = type;
+        slot.roomId = roomId;
+        slot.userName = userName;
+        slot.value = value;
+        slot.traced = traced;
+        slot.sequence = sequence;
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                TimeUnit.MILLISECONDS.sleep(flushIntervalMillis);
+            } catch (InterruptedException e) {
+                if (!running) {
+                    return;
+                }
+            }
+            drain();
+        }
+    }
+
+    /** 게시된 칸을 순서대로 출력 (소비는 이 메서드를 호출하는 스레드 하나만) */
+    private synchronized void drain() {
+        if (ring == null) {
+            return;
+        }
+        long next = consumed.get();
+        while (true) {
+            Slot slot = ring[(int) (next & mask)];
+            if (slot.sequence != next) {
+                break;
+            }
+            if (slot.traced || slot.type == GameEventType.FINISHED) {
+                log.info("[{}] room={} user={} {} {} at={}", slot.game.getTag(), slot.roomId, slot.userName,
+                        slot.type, slot.value, slot.timeMillis);
+            } else {
+                log.debug("[{}] room={} user={} {} {} at={}", slot.game.getTag(), slot.roomId, slot.userName,
+                        slot.type, slot.value, slot.timeMillis);
+            }
+            slot.roomId = null;
+            slot.userName = null;
+            consumed.lazySet(++next);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package org.com.aqoo.domain.gamecore.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 고정 주기(game.tick.hz) 서버 틱
+ * 틱 모드가 켜져 있으면 입력은 상태만 갱신하고, 등록된 flush 작업이 틱마다 변경된 방을 한 번에 브로드캐스트합니다.
+ * 따라서 송신 메시지 수는 입력 수가 아니라 (틱 주기 × 방 수)로 제한됩니다.
+ */
+@Slf4j
+@Component
+public class GameTickScheduler {
+
+    @Value("${game.tick.enabled:false}")
+    private boolean enabled;
+
+    @Value("${game.tick.hz:20}")
+    private int hz;
+
+    private final List<Runnable> tickTasks = new CopyOnWriteArrayList<>();
+    private ScheduledExecutorService executor;
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        long periodMicros = TimeUnit.SECONDS.toMicros(1) / Math.max(1, hz);
+        executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "game-tick");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleAtFixedRate(this::tick, periodMicros, periodMicros, TimeUnit.MICROSECONDS);
+        log.info("Game tick started at {} Hz", hz);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /** 틱마다 실행할 flush 작업 등록 */
+    public void register(Runnable task) {
+        tickTasks.add(task);
+    }
+
+    private void tick() {
+        for (Runnable task : tickTasks) {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                // 한 작업의 예외로 이후 틱이 모두 취소되지 않도록 여기서 처리
+                log.error("Game tick task failed", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package org.com.aqoo.domain.gamecore.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 게임 종료 시각을 관리하는 hashed wheel 타이머
+ * 스레드 하나가 game.timer.tick-millis 간격으로 바퀴를 한 칸씩 돌리며 해당 칸의 만료된 작업만 실행합니다.
+ * 등록/취소는 O(1) 이고, 대기 중인 작업이 수만 개여도 틱마다 한 칸만 확인하므로 부담이 작습니다.
+ * 작업은 타이머 스레드에서 실행되므로 오래 걸리는 작업은 다른 실행기로 넘겨야 합니다.
+ */
+@Slf4j
+@Component
+public class GameTimerWheel {
+
+    /** 예약된 작업 핸들 */
+    public static final class Timeout {
+        private static final int ST_WAITING = 0;
+        private static final int ST_CANCELLED = 1;
+        private static final int ST_EXPIRED = 2;
+
+        private final Runnable task;
+        private final long deadlineMillis;
+        private final AtomicInteger state = new AtomicInteger(ST_WAITING);
+        private long remainingRounds;
+
+        private Timeout(Runnable task, long deadlineMillis) {
+            this.task = task;
+            this.deadlineMillis = deadlineMillis;
+        }
+
+        /** 실행 예정 시각 (epoch ms) */
+        public long getDeadlineMillis() {
+            return deadlineMillis;
+        }
+
+        /** 아직 실행되지 않았으면 취소하고 true 반환 */
+        public boolean cancel() {
+            return state.compareAndSet(ST_WAITING, ST_CANCELLED);
+        }
+
+        public boolean isCancelled() {
+            return state.get() == ST_CANCELLED;
+        }
+
+        private boolean expire() {
+            return state.compareAndSet(ST_WAITING, ST_EXPIRED);
+        }
+    }
+
+    @Value("${game.timer.tick-millis:100}")
+    private long tickMillis;
+
+    @Value("${game.timer.wheel-size:512}")
+    private int wheelSize;
+
+    /** 클라이언트 종료 요청(힌트)을 받아들이는 마감 전 허용 범위 */
+    @Value("${game.timer.end-hint-tolerance-seconds:5}")
+    private long endHintToleranceSeconds;
+
+    /** 다른 스레드에서 등록된 작업은 이 큐를 거쳐 타이머 스레드가 바퀴에 넣습니다. */
+    private final Queue<Timeout> pending = new ConcurrentLinkedQueue<>();
+
+    private List<Timeout>[] wheel;
+    private int mask;
+    private long startMillis;
+    private long tick;
+    private volatile boolean running;
+    private Thread worker;
+
+    @PostConstruct
+    @SuppressWarnings("unchecked")
+    public void start() {
+        int size = Integer.highestOneBit(Math.max(2, wheelSize - 1)) << 1;
+        wheel = new List[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new ArrayList<>();
+        }
+        mask = size - 1;
+        startMillis = System.currentTimeMillis();
+        running = true;
+        worker = new Thread(this::run, "game-timer-wheel");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    /** delayMillis 후에 task 실행 예약 */
+    public Timeout schedule(Runnable task, long delayMillis) {
+        Timeout timeout = new Timeout(task, System.currentTimeMillis() + Math.max(0, delayMillis));
+        pending.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * 클라이언트의 종료 요청은 힌트로만 사용합니다.
+     * 서버 마감 시각까지 허용 범위 이내로 남았을 때만 받아들이고, 그보다 이른 요청은 무시합니다.
+     */
+    public boolean acceptsEndHint(Timeout timeout) {
+        if (timeout == null) {
+            return true;
+        }
+        long earliest = timeout.deadlineMillis - TimeUnit.SECONDS.toMillis(endHintToleranceSeconds);
+        return System.currentTimeMillis() >= earliest;
+    }
+
+    private void run() {
+        while (running) {
+            long tickDeadline = startMillis + (tick + 1) * tickMillis;
+            long sleepMillis = tickDeadline - System.currentTimeMillis();
+            if (sleepMillis > 0) {
+                try {
+                    TimeUnit.MILLISECONDS.sleep(sleepMillis);
+                } catch (InterruptedException e) {
+                    if (!running) {
+                        return;
+                    }
+                    continue;
+                }
+            }
+            transferPending();
+            expireBucket(wheel[(int) (tick & mask)]);
+            tick++;
+        }
+    }
+
+    /** 대기 큐의 작업을 만료 틱에 해당하는 칸에 배치 */
+    private void transferPending() {
+        Timeout timeout;
+        while ((timeout = pending.poll()) != null) {
+            if (timeout.isCancelled()) {
+                continue;
+            }
+            long expireTick = Math.max(tick, (timeout.deadlineMillis - startMillis) / tickMillis);
+            timeout.remainingRounds = (expireTick - tick) / wheel.length;
+            wheel[(int) (expireTick & mask)].add(timeout);
+        }
+    }
+
+    private void expireBucket(List<Timeout> bucket) {
+        int kept = 0;
+        for (int i = 0; i < bucket.size(); i++) {
+            Timeout timeout = bucket.get(i);
+            if (timeout.isCancelled()) {
+                continue;
+            }
+            if (timeout.remainingRounds > 0) {
+                timeout.remainingRounds--;
+                bucket.set(kept++, timeout);
+                continue;
+            }
+            if (timeout.expire()) {
+                try {
+                    timeout.task.run();
+                } catch (RuntimeException e) {
+                    log.error("Game timer task failed", e);
+                }
+            }
+        }
+        bucket.subList(kept, bucket.size()).clear();
+    }
+}
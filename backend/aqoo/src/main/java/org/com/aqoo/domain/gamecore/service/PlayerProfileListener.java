@@ -0,0 +1,11 @@
+package org.com.aqoo.domain.gamecore.service;
+
+/**
+ * PlayerProfileService 가 백그라운드 조회로 사용자의 프로필을 채우거나 바꿨을 때 알림을 받습니다
+ * (임시 프로필로 보낸 USER_LIST 갱신 등).
+ * 조회 스레드에서 바로 호출되므로 가볍게 처리해야 합니다.
+ */
+public interface PlayerProfileListener {
+
+    void onProfileLoaded(String userName);
+}
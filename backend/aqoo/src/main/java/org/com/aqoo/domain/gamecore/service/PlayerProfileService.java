@@ -0,0 +1,316 @@
+package org.com.aqoo.domain.gamecore.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.com.aqoo.domain.auth.dto.UserInfoResponse;
+import org.com.aqoo.domain.auth.service.UserService;
+import org.com.aqoo.domain.gamecore.model.PlayerProfile;
+import org.com.aqoo.domain.gamecore.model.RoomProfileSnapshot;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 사용자 프로필(닉네임, 대표 물고기, 레벨) 조회와 캐시
+ *  - 게임 시작 시 방 멤버들의 프로필을 RoomProfileSnapshot 으로 만들어 줍니다.
+ *    이후 PRESS_UPDATED / SCORE_UPDATED / GAME_ENDED 브로드캐스트는 이 스냅샷만 사용합니다.
+ *  - 채팅 메시지/USER_LIST 의 닉네임도 이 캐시에서 조회하므로 메시지마다 DB 를 조회하지 않습니다.
+ * 캐시는 최대 profile.cache.max-size 개까지 보관하며, profile.cache.ttl-seconds 가 지난 항목은
+ * 기존 값을 그대로 반환하면서 백그라운드에서 다시 조회합니다 (처음 보는 사용자만 조회를 기다림).
+ * 방 전체로 퍼지는 USER_LIST 와 채팅 메시지의 닉네임(nicknameOf)은 cachedProfileOf 로 DB 를 기다리지 않으며,
+ * 입장 시 warm 으로 미리 채워 둡니다. 조회에 실패한 사용자는 profile.cache.failure-ttl-seconds 동안 임시 프로필을
+ * 캐시하여 실패한 조회를 반복하지 않습니다.
+ * 백그라운드 조회로 프로필이 채워지거나 바뀌면 PlayerProfileListener 에 알려 USER_LIST 를 다시 보내게 합니다.
+ * 프로필을 바꾸는 쪽(UserService)은 invalidate 를 호출해야 하며, 호출하지 않아도 ttl 이 지나면 갱신됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PlayerProfileService {
+
+    /** 캐시 항목 (failed 이면 조회에 실패해 임시 프로필을 보관 중) */
+    private static final class CachedProfile {
+        private final PlayerProfile profile;
+        private final long loadedAt;
+        private final boolean failed;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        private CachedProfile(PlayerProfile profile, long loadedAt, boolean failed) {
+            this.profile = profile;
+            this.loadedAt = loadedAt;
+            this.failed = failed;
+        }
+    }
+
+    private final UserService userService;
+
+    @Value("${profile.cache.max-size:10000}")
+    private int maxSize;
+
+    @Value("${profile.cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    /** 조회에 실패한 사용자는 이 시간 동안 임시 프로필을 캐시하고 다시 조회하지 않음 */
+    @Value("${profile.cache.failure-ttl-seconds:30}")
+    private long failureTtlSeconds;
+
+    private final Map<String, CachedProfile> cache = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+    /** 백그라운드에서 처음 조회 중인 사용자 (중복 조회 방지) */
+    private final Set<String> loading = ConcurrentHashMap.newKeySet();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final List<PlayerProfileListener> listeners = new CopyOnWriteArrayList<>();
+
+    private ExecutorService refresher;
+
+    @PostConstruct
+    public void start() {
+        refresher = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "profile-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (refresher != null) {
+            refresher.shutdownNow();
+        }
+    }
+
+    /** 멤버 목록의 프로필을 조회하여 스냅샷 생성 (멤버 순서 유지) */
+    public RoomProfileSnapshot capture(Collection<String> members) {
+        List<PlayerProfile> profiles = new ArrayList<>(members.size());
+        for (String userName : members) {
+            profiles.add(profileOf(userName));
+        }
+        return new RoomProfileSnapshot(profiles);
+    }
+
+    /** 사용자 프로필 (캐시 우선), 조회 실패 시 userName 을 닉네임으로 사용하는 기본 프로필 */
+    public PlayerProfile profileOf(String userName) {
+        CachedProfile cached = cache.get(userName);
+        if (cached != null) {
+            return hit(userName, cached);
+        }
+        misses.increment();
+        PlayerProfile profile = load(userName);
+        if (profile == null) {
+            // 게임/채팅은 진행되도록 userName 을 닉네임으로 사용하고, 실패도 잠시 캐시하여 매번 DB 를 기다리지 않음
+            return storeFailure(userName);
+        }
+        store(userName, profile);
+        return profile;
+    }
+
+    /**
+     * 캐시에 있는 프로필만 반환하고 DB 를 기다리지 않음 (USER_LIST 처럼 방 전체로 퍼지는 경로용)
+     * 캐시에 없으면 userName 을 닉네임으로 쓰는 임시 프로필을 반환하고 백그라운드에서 조회합니다.
+     */
+    public PlayerProfile cachedProfileOf(String userName) {
+        CachedProfile cached = cache.get(userName);
+        if (cached != null) {
+            return hit(userName, cached);
+        }
+        misses.increment();
+        scheduleLoad(userName);
+        return placeholder(userName);
+    }
+
+    public void addListener(PlayerProfileListener listener) {
+        listeners.add(listener);
+    }
+
+    /** 캐시에 없으면 백그라운드에서 조회만 시작 (스냅샷에서 복원한 방 멤버 등, 기다리지 않음) */
+    public void prefetch(String userName) {
+        if (!cache.containsKey(userName)) {
+            scheduleLoad(userName);
+        }
+    }
+
+    /** 방 입장 시 프로필을 미리 캐시에 채움 (이미 있으면 아무것도 하지 않음) */
+    public void warm(String userName) {
+        if (!cache.containsKey(userName)) {
+            profileOf(userName);
+        }
+    }
+
+    /**
+     * 사용자 닉네임 (채팅 메시지 전송 경로용, DB 를 기다리지 않음)
+     * 캐시에 없거나 조회에 실패한 사용자는 userName 그대로 반환합니다.
+     */
+    public String nicknameOf(String userName) {
+        return cachedProfileOf(userName).getNickname();
+    }
+
+    /** 사용자 캐시 항목 삭제 (다음 조회 때 DB 에서 다시 읽음) */
+    public void invalidate(String userName) {
+        cache.remove(userName);
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public int getCachedCount() {
+        return cache.size();
+    }
+
+    private boolean isExpired(CachedProfile cached) {
+        long ttl = cached.failed ? failureTtlSeconds : ttlSeconds;
+        return System.currentTimeMillis() - cached.loadedAt >= TimeUnit.SECONDS.toMillis(ttl);
+    }
+
+    private PlayerProfile hit(String userName, CachedProfile cached) {
+        hits.increment();
+        if (isExpired(cached) && cached.refreshing.compareAndSet(false, true)) {
+            scheduleRefresh(userName, cached);
+        }
+        return cached.profile;
+    }
+
+    private static PlayerProfile placeholder(String userName) {
+        return new PlayerProfile(userName, userName, null, 0);
+    }
+
+    private void store(String userName, PlayerProfile profile) {
+        put(userName, new CachedProfile(profile, System.currentTimeMillis(), false));
+    }
+
+    /** 조회 실패를 failure-ttl 동안 캐시하고 임시 프로필 반환 */
+    private PlayerProfile storeFailure(String userName) {
+        PlayerProfile profile = placeholder(userName);
+        put(userName, new CachedProfile(profile, System.currentTimeMillis(), true));
+        return profile;
+    }
+
+    private void put(String userName, CachedProfile cached) {
+        cache.put(userName, cached);
+        if (cache.size() > maxSize) {
+            evictOverflow();
+        }
+    }
+
+    /** 캐시에 없는 사용자를 백그라운드에서 처음 조회 */
+    private void scheduleLoad(String userName) {
+        if (refresher == null || !loading.add(userName)) {
+            return;
+        }
+        try {
+            refresher.execute(() -> {
+                try {
+                    if (!cache.containsKey(userName)) {
+                        PlayerProfile profile = load(userName);
+                        if (profile != null) {
+                            store(userName, profile);
+                            // 그동안 임시 프로필로 보낸 USER_LIST 를 갱신하도록 알림
+                            notifyLoaded(userName);
+                        } else {
+                            storeFailure(userName);
+                        }
+                    }
+                } finally {
+                    loading.remove(userName);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            loading.remove(userName);
+        }
+    }
+
+    /**
+     * 만료된 항목을 백그라운드에서 다시 조회 (그 사이 무효화되었으면 반영하지 않음)
+     * 다시 실패하면 성공했던 프로필은 그대로 두고, 실패 항목은 failure-ttl 을 새로 시작합니다.
+     */
+    private void scheduleRefresh(String userName, CachedProfile cached) {
+        if (refresher == null) {
+            cached.refreshing.set(false);
+            return;
+        }
+        try {
+            refresher.execute(() -> {
+                PlayerProfile profile = load(userName);
+                if (profile != null) {
+                    if (cache.replace(userName, cached, new CachedProfile(profile, System.currentTimeMillis(), false))
+                            && !sameProfile(cached.profile, profile)) {
+                        notifyLoaded(userName);
+                    }
+                } else if (cached.failed) {
+                    cache.replace(userName, cached, new CachedProfile(cached.profile, System.currentTimeMillis(), true));
+                } else {
+                    cached.refreshing.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            cached.refreshing.set(false);
+        }
+    }
+
+    private void notifyLoaded(String userName) {
+        for (PlayerProfileListener listener : listeners) {
+            try {
+                listener.onProfileLoaded(userName);
+            } catch (RuntimeException e) {
+                log.warn("Profile listener failed for user {}", userName, e);
+            }
+        }
+    }
+
+    private static boolean sameProfile(PlayerProfile a, PlayerProfile b) {
+        return Objects.equals(a.getNickname(), b.getNickname())
+                && Objects.equals(a.getMainFishImage(), b.getMainFishImage())
+                && a.getLevel() == b.getLevel();
+    }
+
+    /** 최대 크기를 넘으면 만료 항목부터, 그래도 넘으면 임의 항목을 지워 90% 까지 줄임 */
+    private void evictOverflow() {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            cache.values().removeIf(this::isExpired);
+            int target = maxSize - maxSize / 10;
+            Iterator<String> it = cache.keySet().iterator();
+            while (cache.size() > target && it.hasNext()) {
+                it.next();
+                it.remove();
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    private PlayerProfile load(String userName) {
+        try {
+            UserInfoResponse userInfo = userService.getUserInfo(userName);
+            return new PlayerProfile(userName, userInfo.getNickname(),
+                    userInfo.getMainFishImage(), userInfo.getLevel());
+        } catch (RuntimeException e) {
+            log.warn("Failed to load profile for user {}: {}", userName, e.getMessage());
+            return null;
+        }
+    }
+}
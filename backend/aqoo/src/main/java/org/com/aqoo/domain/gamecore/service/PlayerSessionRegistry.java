@@ -0,0 +1,200 @@
+package org.com.aqoo.domain.gamecore.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.com.aqoo.domain.gamecore.engine.GameRoom;
+import org.com.aqoo.domain.gamecore.engine.GameRoomListener;
+import org.com.aqoo.domain.gamecore.engine.GameRoomRegistry;
+import org.com.aqoo.domain.gamecore.model.PlayerSession;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * STOMP 세션 → 사용자/현재 방/게임 슬롯 매핑
+ *  - CONNECT 시 JWT 로 인증된 사용자를 세션에 바인딩 (StompAuthChannelInterceptor)
+ *  - 채팅방 입장 시 세션을 방에 묶고, 퇴장/추방/연결 해제 시 해제
+ *  - 방에서 판이 시작되면 각 세션에 그 판의 슬롯을 기록 (GameRoomListener), 끝나면 NO_SLOT
+ *    게임 엔진은 입력마다 이 슬롯을 힌트로 받아 이름 조회 없이 사용합니다.
+ *  - 게임 입력/채팅 명령은 메시지의 userName, roomId 대신 세션의 사용자와 방으로 처리하므로
+ *    다른 사용자를 사칭하거나 입장하지 않은 방에 입력할 수 없습니다.
+ * game.session.require-auth 는 기존 클라이언트 호환을 위해 기본값이 false 입니다.
+ * 이때 토큰 없이 CONNECT 한 세션은 메시지의 userName, roomId 를 그대로 사용하므로
+ * 입장(joinRoom)과 게임 입력에서 여전히 다른 사용자를 사칭할 수 있습니다.
+ * 클라이언트가 CONNECT 에 Authorization 헤더를 보내도록 배포한 뒤 true 로 설정해 토큰 없는 CONNECT 를 거부해야 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlayerSessionRegistry implements GameRoomListener {
+
+    private final GameRoomRegistry gameRoomRegistry;
+
+    @Value("${game.session.require-auth:false}")
+    private boolean requireAuth;
+
+    /** sessionId -> 세션 정보 */
+    private final Map<String, PlayerSession> sessions = new ConcurrentHashMap<>();
+
+    /** roomId -> 그 방에 입장한 세션 */
+    private final Map<String, Set<PlayerSession>> roomSessions = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void registerListener() {
+        gameRoomRegistry.addListener(this);
+        if (!requireAuth) {
+            log.warn("game.session.require-auth=false: unauthenticated STOMP sessions may act as any userName");
+        }
+    }
+
+    public boolean isAuthRequired() {
+        return requireAuth;
+    }
+
+    /** CONNECT 인증 성공 시 세션에 사용자 바인딩 */
+    public void bind(String sessionId, String userName) {
+        sessions.put(sessionId, new PlayerSession(sessionId, userName));
+    }
+
+    public PlayerSession get(String sessionId) {
+        return sessionId == null ? null : sessions.get(sessionId);
+    }
+
+    /**
+     * 메시지를 처리할 사용자 결정
+     * 인증된 세션이면 세션의 사용자, 아니면 인증 필수가 아닐 때만 메시지의 userName, 그 외에는 null
+     */
+    public String resolveUserName(String sessionId, String claimedUserName) {
+        PlayerSession session = get(sessionId);
+        if (session != null) {
+            return session.getUserName();
+        }
+        return requireAuth ? null : claimedUserName;
+    }
+
+    /**
+     * 메시지를 처리할 방 결정
+     * 인증된 세션이면 세션이 입장한 방만 허용 (입장한 방이 없거나 메시지의 roomId 가 다르면 null),
+     * 아니면 인증 필수가 아닐 때만 메시지의 roomId, 그 외에는 null
+     */
+    public String resolveRoomId(String sessionId, String claimedRoomId) {
+        PlayerSession session = get(sessionId);
+        if (session == null) {
+            return requireAuth ? null : claimedRoomId;
+        }
+        String roomId = session.getRoomId();
+        if (roomId == null || (claimedRoomId != null && !claimedRoomId.equals(roomId))) {
+            log.debug("Rejected room {} for session {} bound to {}", claimedRoomId, sessionId, roomId);
+            return null;
+        }
+        return roomId;
+    }
+
+    /** 세션의 현재 게임 슬롯, 진행 중인 판이 없거나 인증되지 않은 세션이면 NO_SLOT */
+    public int slotOf(String sessionId) {
+        PlayerSession session = get(sessionId);
+        return session == null ? PlayerSession.NO_SLOT : session.getSlot();
+    }
+
+    /** 채팅방 입장 시 세션을 방에 바인딩 (이미 진행 중인 판이 있으면 그 판의 슬롯도 기록) */
+    public void enterRoom(String sessionId, String roomId) {
+        PlayerSession session = get(sessionId);
+        if (session == null || roomId == null) {
+            return;
+        }
+        if (session.getRoomId() != null && !session.getRoomId().equals(roomId)) {
+            exitRoom(sessionId);
+        }
+        roomSessions.computeIfAbsent(roomId, k -> ConcurrentHashMap.newKeySet()).add(session);
+        GameRoom running = gameRoomRegistry.get(roomId, GameRoom.class);
+        session.enter(roomId, running == null || running.isEnded()
+                ? PlayerSession.NO_SLOT : running.slotOf(session.getUserName()));
+    }
+
+    /** 채팅방 퇴장 시 세션의 방 바인딩 해제 */
+    public void exitRoom(String sessionId) {
+        PlayerSession session = get(sessionId);
+        if (session != null) {
+            unbindRoom(session);
+        }
+    }
+
+    /**
+     * 방장이 추방한 사용자처럼 다른 세션에서 퇴장시킬 때, 그 사용자가 방에 묶어둔 세션을 모두 해제
+     * @return 해제된 세션 id 목록
+     */
+    public List<String> exitRoom(String roomId, String userName) {
+        Set<PlayerSession> members = roomId == null ? null : roomSessions.get(roomId);
+        if (members == null) {
+            return List.of();
+        }
+        List<String> released = new ArrayList<>();
+        for (PlayerSession session : members) {
+            if (session.getUserName().equals(userName)) {
+                unbindRoom(session);
+                released.add(session.getSessionId());
+            }
+        }
+        return released;
+    }
+
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    /** 새 판이 시작되면 방에 입장한 세션마다 그 판의 슬롯 기록 */
+    @Override
+    public void onGameStarted(GameRoom room) {
+        Set<PlayerSession> members = roomSessions.get(room.getRoomId());
+        if (members == null) {
+            return;
+        }
+        for (PlayerSession session : members) {
+            if (room.getRoomId().equals(session.getRoomId())) {
+                session.setSlot(room.slotOf(session.getUserName()));
+            }
+        }
+    }
+
+    @Override
+    public void onGameEnded(String roomId) {
+        Set<PlayerSession> members = roomSessions.get(roomId);
+        if (members == null) {
+            return;
+        }
+        for (PlayerSession session : members) {
+            if (roomId.equals(session.getRoomId())) {
+                session.setSlot(PlayerSession.NO_SLOT);
+            }
+        }
+    }
+
+    /** 연결이 끊긴 세션 해제 (방 멤버 자격은 PresenceRegistry 의 재연결 유예가 관리) */
+    @EventListener
+    public void handleSessionDisconnect(SessionDisconnectEvent event) {
+        PlayerSession session = sessions.remove(event.getSessionId());
+        if (session != null) {
+            unbindRoom(session);
+        }
+    }
+
+    private void unbindRoom(PlayerSession session) {
+        String roomId = session.getRoomId();
+        if (roomId == null) {
+            return;
+        }
+        session.exit();
+        roomSessions.computeIfPresent(roomId, (k, members) -> {
+            members.remove(session);
+            return members.isEmpty() ? null : members;
+        });
+    }
+}
@@ -0,0 +1,264 @@
+package org.com.aqoo.domain.gamecore.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.com.aqoo.domain.gamecore.model.PlayerSession;
+import org.com.aqoo.domain.gamecore.model.PresenceExpiredEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.security.Principal;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자 접속 상태 (사용자 → STOMP 세션 목록 / 현재 방)
+ *  - STOMP 연결/종료 이벤트와 채팅방 입장/퇴장으로 갱신하며, 접속 여부/현재 방 조회는 O(1)
+ *  - 사용자의 마지막 세션이 끊겨도 presence.reconnect-grace-seconds 동안은 방 멤버/슬롯/게임 상태를 유지하고,
+ *    그 사이 같은 방에 다시 입장하면 재연결로 처리 (새로고침이 퇴장 후 입장으로 보이지 않음)
+ *  - 유예 시간 안에 돌아오지 않으면 PresenceExpiredEvent 를 발행하여 채팅방 쪽에서 퇴장 처리
+ * 여러 탭으로 같은 방에 접속한 경우 마지막 세션이 끊길 때만 유예가 시작됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PresenceRegistry {
+
+    /** 사용자 한 명의 접속 상태 (this 로 보호) */
+    private static final class Presence {
+        private final Set<String> sessions = new HashSet<>();
+        private String roomId;
+        /** 재연결 유예 중이면 마지막 세션이 끊긴 시각 (ms), 아니면 0 */
+        private long droppedAt;
+        private ScheduledFuture<?> graceTask;
+
+        private void cancelGrace() {
+            droppedAt = 0L;
+            if (graceTask != null) {
+                graceTask.cancel(false);
+                graceTask = null;
+            }
+        }
+    }
+
+    private final PlayerSessionRegistry playerSessionRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /** 0 이하면 연결이 끊기는 즉시 퇴장 처리 */
+    @Value("${presence.reconnect-grace-seconds:15}")
+    private long reconnectGraceSeconds;
+
+    /** userName -> 접속 상태 */
+    private final Map<String, Presence> users = new ConcurrentHashMap<>();
+
+    /** sessionId -> userName */
+    private final Map<String, String> sessionUsers = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService scheduler;
+
+    @PostConstruct
+    public void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "presence-grace");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public long getReconnectGraceSeconds() {
+        return reconnectGraceSeconds;
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /** CONNECT 완료 시 인증된 세션이면 사용자 접속 기록 (인증 없는 세션은 채팅방 입장 때 기록) */
+    @EventListener
+    public void handleSessionConnected(SessionConnectedEvent event) {
+        String sessionId = event.getMessage().getHeaders().get("simpSessionId", String.class);
+        PlayerSession session = playerSessionRegistry.get(sessionId);
+        Principal user = event.getUser();
+        String userName = session != null ? session.getUserName() : (user != null ? user.getName() : null);
+        if (sessionId != null && userName != null) {
+            connect(sessionId, userName);
+        }
+    }
+
+    @EventListener
+    public void handleSessionDisconnect(SessionDisconnectEvent event) {
+        disconnect(event.getSessionId());
+    }
+
+    public void connect(String sessionId, String userName) {
+        String previous = sessionUsers.put(sessionId, userName);
+        if (previous != null && !previous.equals(userName)) {
+            disconnect(sessionId, previous);
+        }
+        while (true) {
+            Presence presence = users.computeIfAbsent(userName, k -> new Presence());
+            synchronized (presence) {
+                if (users.get(userName) == presence) {
+                    presence.sessions.add(sessionId);
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * 채팅방 입장 기록
+     * @return 재연결 유예 중에 같은 방으로 돌아온 것이면 true (입장 알림 생략 등에 사용)
+     */
+    public boolean enterRoom(String sessionId, String userName, String roomId) {
+        connect(sessionId, userName);
+        Presence presence = users.get(userName);
+        if (presence == null || roomId == null) {
+            return false;
+        }
+        String abandonedRoomId = null;
+        boolean resumed;
+        synchronized (presence) {
+            resumed = presence.droppedAt != 0L && roomId.equals(presence.roomId);
+            if (presence.droppedAt != 0L && !resumed) {
+                // 유예 중이던 다른 방은 돌아오지 않은 것으로 처리
+                abandonedRoomId = presence.roomId;
+            }
+            presence.cancelGrace();
+            presence.roomId = roomId;
+        }
+        if (abandonedRoomId != null) {
+            eventPublisher.publishEvent(new PresenceExpiredEvent(userName, abandonedRoomId));
+        }
+        if (resumed) {
+            log.info("User {} reconnected to room {}", userName, roomId);
+        }
+        return resumed;
+    }
+
+    /** 채팅방 퇴장 기록 (직접 나간 경우 유예 없음) */
+    public void exitRoom(String userName, String roomId) {
+        Presence presence = users.get(userName);
+        if (presence == null) {
+            return;
+        }
+        synchronized (presence) {
+            if (roomId != null && roomId.equals(presence.roomId)) {
+                presence.cancelGrace();
+                presence.roomId = null;
+            }
+        }
+    }
+
+    public void disconnect(String sessionId) {
+        String userName = sessionId == null ? null : sessionUsers.remove(sessionId);
+        if (userName != null) {
+            disconnect(sessionId, userName);
+        }
+    }
+
+    /** 접속 중인 세션이 하나 이상 있으면 true */
+    public boolean isOnline(String userName) {
+        Presence presence = users.get(userName);
+        if (presence == null) {
+            return false;
+        }
+        synchronized (presence) {
+            return !presence.sessions.isEmpty();
+        }
+    }
+
+    /** 연결이 끊겨 재연결 유예 중이면 true */
+    public boolean isReconnecting(String userName) {
+        Presence presence = users.get(userName);
+        if (presence == null) {
+            return false;
+        }
+        synchronized (presence) {
+            return presence.droppedAt != 0L;
+        }
+    }
+
+    /** 사용자가 있는 방 (재연결 유예 중이면 끊기기 전 방), 없으면 null */
+    public String roomOf(String userName) {
+        Presence presence = users.get(userName);
+        if (presence == null) {
+            return null;
+        }
+        synchronized (presence) {
+            return presence.roomId;
+        }
+    }
+
+    /** 접속 상태를 보관 중인 사용자 수 (재연결 유예 중 포함) */
+    public int getTrackedUserCount() {
+        return users.size();
+    }
+
+    private void disconnect(String sessionId, String userName) {
+        Presence presence = users.get(userName);
+        if (presence == null) {
+            return;
+        }
+        boolean expireNow = false;
+        long droppedAt;
+        synchronized (presence) {
+            if (!presence.sessions.remove(sessionId) || !presence.sessions.isEmpty()) {
+                return;
+            }
+            if (presence.roomId == null) {
+                users.remove(userName, presence);
+                return;
+            }
+            droppedAt = System.currentTimeMillis();
+            presence.droppedAt = droppedAt;
+            if (reconnectGraceSeconds <= 0 || scheduler == null) {
+                expireNow = true;
+            } else {
+                presence.graceTask = scheduler.schedule(() -> expire(userName, presence, droppedAt),
+                        reconnectGraceSeconds, TimeUnit.SECONDS);
+            }
+        }
+        if (expireNow) {
+            expire(userName, presence, droppedAt);
+        }
+    }
+
+    /** 유예 시간이 지나도록 돌아오지 않았으면 방에서 내보냄 */
+    private void expire(String userName, Presence presence, long droppedAt) {
+        String roomId;
+        synchronized (presence) {
+            if (presence.droppedAt == 0L || presence.droppedAt != droppedAt) {
+                return;
+            }
+            roomId = presence.roomId;
+            presence.graceTask = null;
+            presence.droppedAt = 0L;
+            presence.roomId = null;
+            if (presence.sessions.isEmpty()) {
+                users.remove(userName, presence);
+            }
+        }
+        log.info("User {} did not reconnect to room {} within {}s", userName, roomId, reconnectGraceSeconds);
+        try {
+            eventPublisher.publishEvent(new PresenceExpiredEvent(userName, roomId));
+        } catch (RuntimeException e) {
+            log.warn("Failed to handle presence expiry for {} in room {}: {}", userName, roomId, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package org.com.aqoo.domain.gamecore.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.com.aqoo.domain.chat.service.ChatRoomService;
+import org.com.aqoo.domain.gamecore.engine.GameRoomRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 채팅방/게임 방 상태의 수명 관리
+ *  - 모든 RoomStateHolder(채팅방, 게임 방 레지스트리)의 방 상태를 한 번에 해제 (evict)
+ *  - 마지막 활동 이후 room.lifecycle.idle-ttl-seconds 가 지난 방은 주기적으로 해제
+ *  - STOMP 세션이 모두 끊긴 방은 room.lifecycle.disconnect-grace-seconds 후 해제 (그 사이 재입장하면 유지)
+ *    재연결 유예(presence.reconnect-grace-seconds)보다 길어야 하며, 아니면 시작 시 실패합니다.
+ *  - 살아있는 방 / 해제된 방 수 제공
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomLifecycleManager {
+
+    private final List<RoomStateHolder> holders;
+    private final ChatRoomService chatRoomService;
+    private final GameRoomRegistry gameRoomRegistry;
+    private final PresenceRegistry presenceRegistry;
+
+    @Value("${room.lifecycle.idle-ttl-seconds:1800}")
+    private long idleTtlSeconds;
+
+    @Value("${room.lifecycle.disconnect-grace-seconds:30}")
+    private long disconnectGraceSeconds;
+
+    @Value("${room.lifecycle.sweep-interval-seconds:30}")
+    private long sweepIntervalSeconds;
+
+    /** roomId -> 마지막 활동 시각 (ms) */
+    private final Map<String, AtomicLong> lastActivity = new ConcurrentHashMap<>();
+
+    /** roomId -> 해당 방에 입장한 STOMP 세션 id 목록 */
+    private final Map<String, Set<String>> roomSessions = new ConcurrentHashMap<>();
+
+    /** roomId -> 마지막 세션이 끊긴 시각 (ms) */
+    private final Map<String, Long> orphanedAt = new ConcurrentHashMap<>();
+
+    private final AtomicLong evictedRooms = new AtomicLong();
+
+    private ScheduledExecutorService sweeper;
+
+    @PostConstruct
+    public void start() {
+        validateGracePeriods();
+        sweeper = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "room-lifecycle");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sweeper.scheduleWithFixedDelay(this::sweep, sweepIntervalSeconds, sweepIntervalSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 재연결 유예가 방 해제 유예보다 짧아야 새로고침한 사용자가 돌아왔을 때 방이 남아 있음
+     * (같거나 길면 유예 중인 사용자의 방이 먼저 해제됨)
+     */
+    void validateGracePeriods() {
+        long reconnectGraceSeconds = presenceRegistry.getReconnectGraceSeconds();
+        if (reconnectGraceSeconds > 0 && reconnectGraceSeconds >= disconnectGraceSeconds) {
+            throw new IllegalStateException("presence.reconnect-grace-seconds(" + reconnectGraceSeconds
+                    + ")는 room.lifecycle.disconnect-grace-seconds(" + disconnectGraceSeconds + ")보다 짧아야 합니다.");
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (sweeper != null) {
+            sweeper.shutdownNow();
+        }
+    }
+
+    /**
+     * 방에서 입력/채팅 등 활동이 있을 때 호출
+     * 클라이언트가 보낸 roomId 이므로 실제로 있는 채팅방/게임 방일 때만 기록합니다.
+     */
+    public void touch(String roomId) {
+        if (roomId == null || !isKnownRoom(roomId)) {
+            return;
+        }
+        lastActivity.computeIfAbsent(roomId, k -> new AtomicLong()).lazySet(System.currentTimeMillis());
+    }
+
+    /** 세션이 방에 입장했을 때 호출 */
+    public void onJoin(String roomId, String sessionId) {
+        if (roomId == null || sessionId == null) {
+            return;
+        }
+        roomSessions.computeIfAbsent(roomId, k -> ConcurrentHashMap.newKeySet()).add(sessionId);
+        orphanedAt.remove(roomId);
+        touch(roomId);
+    }
+
+    /** 세션이 방에서 나갔을 때 호출 */
+    public void onLeave(String roomId, String sessionId) {
+        if (roomId == null || sessionId == null) {
+            return;
+        }
+        Set<String> sessions = roomSessions.get(roomId);
+        if (sessions != null && sessions.remove(sessionId) && sessions.isEmpty()) {
+            orphanedAt.put(roomId, System.currentTimeMillis());
+        }
+        touch(roomId);
+    }
+
+    /** STOMP 세션 종료 시 joinRoom 에서 저장한 roomId 로 방 세션 정리 */
+    @EventListener
+    public void handleSessionDisconnect(SessionDisconnectEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Map<String, Object> attributes = accessor.getSessionAttributes();
+        if (attributes == null) {
+            return;
+        }
+        Object roomId = attributes.get("roomId");
+        if (roomId != null) {
+            onLeave(roomId.toString(), event.getSessionId());
+        }
+    }
+
+    /** 모든 holder 에서 방 상태 해제 */
+    public boolean evict(String roomId) {
+        boolean evicted = false;
+        for (RoomStateHolder holder : holders) {
+            evicted |= holder.evictRoom(roomId);
+        }
+        lastActivity.remove(roomId);
+        roomSessions.remove(roomId);
+        orphanedAt.remove(roomId);
+        if (evicted) {
+            evictedRooms.incrementAndGet();
+            log.info("Evicted room state for roomId: {}", roomId);
+        }
+        return evicted;
+    }
+
+    private boolean isKnownRoom(String roomId) {
+        return chatRoomService.getRoom(roomId) != null || gameRoomRegistry.roomIds().contains(roomId);
+    }
+
+    /** 방치된 방 / 세션이 모두 끊긴 방 정리 */
+    void sweep() {
+        try {
+            long now = System.currentTimeMillis();
+            // holder 에는 있지만 아직 활동 기록이 없는 방은 지금부터 추적
+            for (RoomStateHolder holder : holders) {
+                for (String roomId : holder.roomIds()) {
+                    lastActivity.computeIfAbsent(roomId, k -> new AtomicLong(now));
+                }
+            }
+
+            long idleTtlMillis = TimeUnit.SECONDS.toMillis(idleTtlSeconds);
+            long graceMillis = TimeUnit.SECONDS.toMillis(disconnectGraceSeconds);
+            for (Map.Entry<String, AtomicLong> entry : lastActivity.entrySet()) {
+                String roomId = entry.getKey();
+                Long orphaned = orphanedAt.get(roomId);
+                if (now - entry.getValue().get() > idleTtlMillis) {
+                    log.info("Room {} idle for more than {}s", roomId, idleTtlSeconds);
+                    evict(roomId);
+                } else if (orphaned != null && now - orphaned > graceMillis) {
+                    log.info("All sessions of room {} disconnected for more than {}s", roomId, disconnectGraceSeconds);
+                    evict(roomId);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("Room lifecycle sweep failed", e);
+        }
+    }
+
+    /** 추적 중인 (살아있는) 방 수 */
+    public int getLiveRoomCount() {
+        return lastActivity.size();
+    }
+
+    /** 지금까지 해제된 방 수 */
+    public long getEvictedRoomCount() {
+        return evictedRooms.get();
+    }
+
+    /** holder 별 보관 중인 방 수 */
+    public Map<String, Integer> getRoomCountsByHolder() {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (RoomStateHolder holder : holders) {
+            counts.put(holder.holderName(), holder.roomIds().size());
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,80 @@
+package org.com.aqoo.domain.gamecore.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 방 단위로 고정된 단일 스레드 shard 실행기
+ * 같은 roomId 의 게임 메시지(입력, 시작, 종료, 타이머 만료)는 항상 같은 shard 에서 순서대로 처리되므로
+ * 방 상태에 대한 스레드 간 경합이 없고, 서로 다른 방은 shard 수(기본: CPU 코어 수)만큼 병렬로 처리됩니다.
+ */
+@Slf4j
+@Component
+public class RoomShardExecutor {
+
+    @Value("${game.shard.count:0}")
+    private int configuredShardCount;
+
+    private ThreadPoolExecutor[] shards;
+
+    @PostConstruct
+    public void start() {
+        int count = configuredShardCount > 0 ? configuredShardCount : Runtime.getRuntime().availableProcessors();
+        shards = new ThreadPoolExecutor[count];
+        for (int i = 0; i < count; i++) {
+            String threadName = "game-shard-" + i;
+            shards[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), r -> {
+                Thread thread = new Thread(r, threadName);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        log.info("Room shard executor started with {} shards", count);
+    }
+
+    @PreDestroy
+    public void stop() {
+        for (ThreadPoolExecutor shard : shards) {
+            shard.shutdown();
+        }
+    }
+
+    /** roomId 가 속한 shard 에서 task 실행 (같은 방의 작업은 제출 순서대로 실행) */
+    public void execute(String roomId, Runnable task) {
+        shards[shardOf(roomId)].execute(() -> {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                log.error("Game task failed for roomId: {}", roomId, e);
+            }
+        });
+    }
+
+    public int shardOf(String roomId) {
+        if (roomId == null) {
+            return 0;
+        }
+        int h = roomId.hashCode();
+        return Math.floorMod(h ^ (h >>> 16), shards.length);
+    }
+
+    public int getShardCount() {
+        return shards.length;
+    }
+
+    /** shard 별 대기 중인 작업 수 */
+    public int[] getQueueDepths() {
+        int[] depths = new int[shards.length];
+        for (int i = 0; i < shards.length; i++) {
+            depths[i] = shards[i].getQueue().size();
+        }
+        return depths;
+    }
+}
@@ -0,0 +1,19 @@
+package org.com.aqoo.domain.gamecore.service;
+
+import java.util.Collection;
+
+/**
+ * 방 단위 in-memory 상태를 보관하는 서비스가 구현합니다.
+ * RoomLifecycleManager 가 종료/방치/연결 끊김 방을 정리할 때 사용합니다.
+ */
+public interface RoomStateHolder {
+
+    /** 통계 표시용 이름 (예: chat, games) */
+    String holderName();
+
+    /** 현재 상태를 보관 중인 방 id 목록 */
+    Collection<String> roomIds();
+
+    /** 방 상태 해제, 해제한 상태가 있었으면 true */
+    boolean evictRoom(String roomId);
+}
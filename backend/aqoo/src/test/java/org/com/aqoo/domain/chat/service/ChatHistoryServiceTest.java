@@ -0,0 +1,116 @@
+package org.com.aqoo.domain.chat.service;
+
+import org.com.aqoo.domain.chat.dto.ChatHistoryEntry;
+import org.com.aqoo.domain.chat.dto.ChatHistoryResponse;
+import org.com.aqoo.domain.chat.dto.ChatMessageDto;
+import org.com.aqoo.domain.chat.model.ChatRoom;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ChatHistoryServiceTest {
+
+    private static final String ROOM_ID = "room-1";
+
+    /** 전송한 메시지의 헤더를 순서대로 기록 */
+    private static final class RecordingMessagingTemplate extends SimpMessagingTemplate {
+        private final List<Map<String, Object>> headers = new ArrayList<>();
+
+        RecordingMessagingTemplate() {
+            super((message, timeout) -> true);
+        }
+
+        @Override
+        public void convertAndSend(String destination, Object payload, Map<String, Object> headers) {
+            this.headers.add(headers);
+        }
+    }
+
+    /** 미리 넣어 둔 방만 조회되는 채팅방 서비스 */
+    private static final class StubChatRoomService extends ChatRoomService {
+        private final Map<String, ChatRoom> rooms = new HashMap<>();
+
+        StubChatRoomService() {
+            super(null, null, null, null, null, null, null);
+        }
+
+        @Override
+        public ChatRoom getRoom(String roomId) {
+            return rooms.get(roomId);
+        }
+    }
+
+    private final RecordingMessagingTemplate template = new RecordingMessagingTemplate();
+    private final StubChatRoomService chatRoomService = new StubChatRoomService();
+    private final ChatHistoryService history = new ChatHistoryService(template, chatRoomService);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(history, "roomCapacity", 10);
+        ReflectionTestUtils.setField(history, "maxTotalMessages", 1000);
+        ReflectionTestUtils.setField(history, "resumeLimit", 100);
+        chatRoomService.rooms.put(ROOM_ID, new ChatRoom(ROOM_ID, "alice"));
+    }
+
+    @Test
+    void messagesForUnknownRoomsAreDropped() {
+        history.publish("room-unknown", message("hi"));
+
+        assertTrue(template.headers.isEmpty());
+        assertFalse(history.roomIds().contains("room-unknown"));
+    }
+
+    @Test
+    void resumeAfterEvictionIsMarkedTruncated() {
+        for (int i = 0; i < 5; i++) {
+            history.publish(ROOM_ID, message("before-" + i));
+        }
+        long oldEpoch = Long.parseLong((String) template.headers.get(4).get(ChatHistoryService.EPOCH_HEADER));
+        assertEquals("5", template.headers.get(4).get(ChatHistoryService.SEQ_HEADER));
+
+        history.evictRoom(ROOM_ID);
+        history.publish(ROOM_ID, message("after"));
+
+        ChatHistoryResponse withEpoch = history.resume(ROOM_ID, 5, oldEpoch);
+        assertNotEquals(oldEpoch, withEpoch.getEpoch());
+        assertTrue(withEpoch.isTruncated());
+        assertEquals(1, withEpoch.getMessages().size());
+        assertEquals(1L, withEpoch.getMessages().get(0).getSeq());
+
+        // epoch 를 보내지 않는 클라이언트도 afterSeq 가 마지막 seq 보다 크면 알 수 있음
+        ChatHistoryResponse withoutEpoch = history.resume(ROOM_ID, 5, null);
+        assertTrue(withoutEpoch.isTruncated());
+        assertEquals(1L, withoutEpoch.getLatestSeq());
+    }
+
+    @Test
+    void resumeWithinSameEpochIsNotTruncated() {
+        for (int i = 0; i < 3; i++) {
+            history.publish(ROOM_ID, message("m-" + i));
+        }
+        long epoch = Long.parseLong((String) template.headers.get(0).get(ChatHistoryService.EPOCH_HEADER));
+
+        ChatHistoryResponse response = history.resume(ROOM_ID, 1, epoch);
+
+        assertFalse(response.isTruncated());
+        assertEquals(List.of(2L, 3L), response.getMessages().stream().map(ChatHistoryEntry::getSeq).toList());
+    }
+
+    private static ChatMessageDto message(String content) {
+        ChatMessageDto message = new ChatMessageDto();
+        message.setRoomId(ROOM_ID);
+        message.setContent(content);
+        return message;
+    }
+}
@@ -0,0 +1,112 @@
+package org.com.aqoo.domain.chat.service;
+
+import org.com.aqoo.domain.chat.dto.LobbyPage;
+import org.com.aqoo.domain.chat.dto.LobbyRoomDto;
+import org.com.aqoo.domain.chat.model.ChatRoom;
+import org.com.aqoo.domain.chat.model.RoomRecord;
+import org.com.aqoo.domain.game.model.TapRoomState;
+import org.com.aqoo.domain.gamecore.engine.GameRoomRegistry;
+import org.com.aqoo.domain.gamecore.model.PlayerProfile;
+import org.com.aqoo.domain.gamecore.model.RoomProfileSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class LobbyIndexTest {
+
+    private final GameRoomRegistry gameRoomRegistry = new GameRoomRegistry();
+    private LobbyIndex lobbyIndex;
+    private final List<ChatRoom> rooms = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        LobbyFeedPublisher feed = new LobbyFeedPublisher(new SimpMessagingTemplate((message, timeout) -> true));
+        ReflectionTestUtils.setField(feed, "enabled", false);
+        lobbyIndex = new LobbyIndex(gameRoomRegistry, feed);
+        ReflectionTestUtils.setField(lobbyIndex, "roomCapacity", 2);
+        ReflectionTestUtils.setField(lobbyIndex, "maxPageSize", 100);
+        lobbyIndex.registerListener();
+
+        // room-0 ~ room-5: 짝수 방은 가득 참, 3의 배수 방은 게임 중, room-4 와 room-5 는 gameA
+        for (int i = 0; i < 6; i++) {
+            ChatRoom room = new ChatRoom("room-" + i, "owner-" + i);
+            room.addMember("owner-" + i);
+            if (i % 2 == 0) {
+                room.addMember("guest-" + i);
+            }
+            rooms.add(room);
+            lobbyIndex.add(room);
+            if (i % 3 == 0) {
+                gameRoomRegistry.register(new TapRoomState(room.getRoomId(), new RoomProfileSnapshot(List.of(
+                        new PlayerProfile("owner-" + i, "owner-" + i, null, 1)))));
+            }
+        }
+        lobbyIndex.updateGameType("room-4", "gameA");
+        lobbyIndex.updateGameType("room-5", "GameA");
+    }
+
+    @Test
+    void cursorWalksAllRoomsInCreationOrder() {
+        LobbyPage first = lobbyIndex.page(null, 4, false, false, null);
+        assertEquals(List.of("room-0", "room-1", "room-2", "room-3"), roomIds(first));
+
+        LobbyPage second = lobbyIndex.page(first.getNextCursor(), 4, false, false, null);
+        assertEquals(List.of("room-4", "room-5"), roomIds(second));
+        assertNull(second.getNextCursor());
+    }
+
+    @Test
+    void eachFilterCombinationUsesItsOwnIndex() {
+        assertEquals(List.of("room-1", "room-3", "room-5"), roomIds(lobbyIndex.page(null, 10, true, false, null)));
+        assertEquals(List.of("room-1", "room-2", "room-4", "room-5"),
+                roomIds(lobbyIndex.page(null, 10, false, true, null)));
+        assertEquals(List.of("room-1", "room-5"), roomIds(lobbyIndex.page(null, 10, true, true, null)));
+        assertEquals(List.of("room-5"), roomIds(lobbyIndex.page(null, 10, true, false, "gamea")));
+        assertEquals(List.of("room-4", "room-5"), roomIds(lobbyIndex.page(null, 10, false, true, "gameA")));
+        assertEquals(List.of(), roomIds(lobbyIndex.page(null, 10, false, false, "gameB")));
+    }
+
+    @Test
+    void roomsMoveBetweenIndexesWhenStateChanges() {
+        LobbyPage open = lobbyIndex.page(null, 1, true, false, null);
+        assertEquals(List.of("room-1"), roomIds(open));
+
+        // room-1 이 가득 차면 다음 페이지 cursor 와 무관하게 빈 자리 인덱스에서 빠짐
+        ChatRoom room = rooms.get(1);
+        room.addMember("guest-1");
+        lobbyIndex.updateMembers(room);
+        assertEquals(List.of("room-3", "room-5"), roomIds(lobbyIndex.page(null, 10, true, false, null)));
+
+        // 게임이 끝나면 게임 중이 아닌 인덱스로 돌아옴
+        gameRoomRegistry.remove(gameRoomRegistry.get("room-3", TapRoomState.class));
+        assertEquals(List.of("room-3", "room-5"), roomIds(lobbyIndex.page(null, 10, true, true, null)));
+
+        lobbyIndex.remove("room-5");
+        assertEquals(List.of("room-3"), roomIds(lobbyIndex.page(open.getNextCursor(), 10, true, true, null)));
+    }
+
+    @Test
+    void restoredRoomKeepsCreatedAtAndGameType() {
+        ChatRoom room = new ChatRoom("room-restored", "owner-r");
+        room.addMember("owner-r");
+        lobbyIndex.restore(new RoomRecord(room, 1_000L, "GameA"));
+
+        LobbyRoomDto restored = lobbyIndex.find("room-restored");
+        assertEquals(1_000L, restored.getCreatedAt());
+        assertEquals("gamea", restored.getGameType());
+        assertEquals(List.of("room-4", "room-5", "room-restored"),
+                roomIds(lobbyIndex.page(null, 10, false, false, "gameA")));
+        assertNull(lobbyIndex.find("room-missing"));
+    }
+
+    private static List<String> roomIds(LobbyPage page) {
+        return page.getRooms().stream().map(LobbyRoomDto::getRoomId).toList();
+    }
+}
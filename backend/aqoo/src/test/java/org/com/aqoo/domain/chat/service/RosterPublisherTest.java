@@ -0,0 +1,131 @@
+package org.com.aqoo.domain.chat.service;
+
+import org.com.aqoo.domain.chat.dto.RosterDelta;
+import org.com.aqoo.domain.chat.dto.RoomUpdate;
+import org.com.aqoo.domain.chat.model.ChatRoom;
+import org.com.aqoo.domain.gamecore.model.PlayerProfile;
+import org.com.aqoo.domain.gamecore.service.GameBroadcaster;
+import org.com.aqoo.domain.gamecore.service.PlayerProfileService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RosterPublisherTest {
+
+    private static final String ROOM_ID = "room-1";
+
+    /** 전송한 payload 와 version 헤더를 순서대로 기록 */
+    private static final class RecordingMessagingTemplate extends SimpMessagingTemplate {
+        private final List<Object> payloads = new ArrayList<>();
+        private final List<String> versions = new ArrayList<>();
+
+        RecordingMessagingTemplate() {
+            super((message, timeout) -> true);
+        }
+
+        @Override
+        public synchronized void convertAndSend(String destination, Object payload) {
+            payloads.add(payload);
+            versions.add(null);
+        }
+
+        @Override
+        public synchronized void convertAndSend(String destination, Object payload, Map<String, Object> headers) {
+            payloads.add(payload);
+            versions.add((String) headers.get(GameBroadcaster.VERSION_HEADER));
+        }
+
+        synchronized int count() {
+            return payloads.size();
+        }
+    }
+
+    /** 캐시 조회만 미리 넣어 둔 프로필로 응답 */
+    private static final class StubProfileService extends PlayerProfileService {
+        private final Map<String, PlayerProfile> profiles = new HashMap<>();
+
+        StubProfileService() {
+            super(null);
+        }
+
+        @Override
+        public PlayerProfile cachedProfileOf(String userName) {
+            return profiles.getOrDefault(userName, new PlayerProfile(userName, userName, null, 0));
+        }
+    }
+
+    private final RecordingMessagingTemplate template = new RecordingMessagingTemplate();
+    private final StubProfileService profiles = new StubProfileService();
+    private final RosterPublisher publisher = new RosterPublisher(template, profiles);
+
+    @AfterEach
+    void tearDown() {
+        publisher.stop();
+    }
+
+    @Test
+    void changesWithinWindowAreSentOnce() throws Exception {
+        ReflectionTestUtils.setField(publisher, "coalesceMillis", 50L);
+        publisher.start();
+        ChatRoom room = new ChatRoom(ROOM_ID, "alice");
+        room.addMember("alice");
+
+        for (int i = 0; i < 10; i++) {
+            room.addMember("user-" + i);
+            publisher.markDirty(room);
+        }
+        Thread.sleep(300);
+
+        assertEquals(1, template.count());
+        assertEquals("1", template.versions.get(0));
+        RoomUpdate update = (RoomUpdate) template.payloads.get(0);
+        assertEquals(11, update.getUserList().size());
+        assertEquals(1L, publisher.versionOf(ROOM_ID));
+    }
+
+    @Test
+    void deltaModeSendsOneVersionPerChange() {
+        ReflectionTestUtils.setField(publisher, "coalesceMillis", 0L);
+        ReflectionTestUtils.setField(publisher, "deltaEnabled", true);
+        ChatRoom room = new ChatRoom(ROOM_ID, "alice");
+        room.addMember("alice");
+        publisher.markDirty(room);
+
+        room.addMember("bob");
+        room.markReady("alice");
+        publisher.markDirty(room);
+
+        assertEquals(3, template.count());
+        RosterDelta joined = (RosterDelta) template.payloads.get(1);
+        RosterDelta ready = (RosterDelta) template.payloads.get(2);
+        assertEquals(RosterDelta.MEMBER_JOINED, joined.getMessage());
+        assertEquals(RosterDelta.READY_CHANGED, ready.getMessage());
+        assertEquals(List.of(2L, 3L), List.of(joined.getVersion(), ready.getVersion()));
+        assertEquals(3L, publisher.versionOf(ROOM_ID));
+    }
+
+    @Test
+    void refreshedProfileIsPublished() {
+        ReflectionTestUtils.setField(publisher, "coalesceMillis", 0L);
+        ReflectionTestUtils.setField(publisher, "deltaEnabled", true);
+        ChatRoom room = new ChatRoom(ROOM_ID, "alice");
+        room.addMember("alice");
+        publisher.markDirty(room);
+
+        profiles.profiles.put("alice", new PlayerProfile("alice", "Alice", "fish.png", 3));
+        publisher.markDirty(room);
+
+        RosterDelta changed = (RosterDelta) template.payloads.get(1);
+        assertEquals(RosterDelta.PROFILE_CHANGED, changed.getMessage());
+        assertEquals("Alice", changed.getNickname());
+        assertEquals(3, changed.getLevel());
+    }
+}
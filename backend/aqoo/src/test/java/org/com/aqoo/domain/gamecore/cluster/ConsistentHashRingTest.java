@@ -0,0 +1,97 @@
+package org.com.aqoo.domain.gamecore.cluster;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConsistentHashRingTest {
+
+    private static final int KEYS = 20_000;
+    private static final int VIRTUAL_NODES = 128;
+    private static final List<String> NODES = List.of("http://a:8080", "http://b:8080", "http://c:8080", "http://d:8080");
+
+    @Test
+    void ownershipIsStableAcrossInstancesAndNodeOrder() {
+        ConsistentHashRing ring = new ConsistentHashRing(NODES, VIRTUAL_NODES);
+        ConsistentHashRing reordered = new ConsistentHashRing(List.of(NODES.get(3), NODES.get(1), NODES.get(0), NODES.get(2)),
+                VIRTUAL_NODES);
+
+        for (int i = 0; i < KEYS; i++) {
+            String key = "room-" + i;
+            assertEquals(ring.ownerOf(key), ring.ownerOf(key));
+            assertEquals(ring.ownerOf(key), reordered.ownerOf(key));
+        }
+        assertNull(new ConsistentHashRing(List.of(), VIRTUAL_NODES).ownerOf("room-1"));
+    }
+
+    @Test
+    void keysSpreadAcrossNodes() {
+        ConsistentHashRing ring = new ConsistentHashRing(NODES, VIRTUAL_NODES);
+        Map<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < KEYS; i++) {
+            counts.merge(ring.ownerOf("room-" + i), 1, Integer::sum);
+        }
+
+        assertEquals(NODES.size(), counts.size());
+        for (int count : counts.values()) {
+            // 노드당 평균 1/N, 가상 노드 128 개면 ±30% 안에 들어옴
+            assertTrue(Math.abs(count - KEYS / NODES.size()) < KEYS / NODES.size() * 0.3, "count " + count);
+        }
+    }
+
+    @Test
+    void addingNodeMovesAboutOneNthOfKeysOnlyToIt() {
+        ConsistentHashRing before = new ConsistentHashRing(NODES, VIRTUAL_NODES);
+        String added = "http://e:8080";
+        ConsistentHashRing after = new ConsistentHashRing(append(NODES, added), VIRTUAL_NODES);
+
+        int moved = 0;
+        for (int i = 0; i < KEYS; i++) {
+            String key = "room-" + i;
+            if (!before.ownerOf(key).equals(after.ownerOf(key))) {
+                // 새 노드로 옮겨가는 키만 담당이 바뀜
+                assertEquals(added, after.ownerOf(key));
+                moved++;
+            }
+        }
+        assertMovedAboutOneNth(moved, NODES.size() + 1);
+    }
+
+    @Test
+    void removingNodeMovesOnlyItsKeys() {
+        ConsistentHashRing before = new ConsistentHashRing(NODES, VIRTUAL_NODES);
+        String removed = NODES.get(2);
+        ConsistentHashRing after = new ConsistentHashRing(
+                NODES.stream().filter(node -> !node.equals(removed)).toList(), VIRTUAL_NODES);
+
+        int moved = 0;
+        for (int i = 0; i < KEYS; i++) {
+            String key = "room-" + i;
+            if (!before.ownerOf(key).equals(after.ownerOf(key))) {
+                // 제거된 노드가 담당하던 키만 다른 노드로 옮겨감
+                assertEquals(removed, before.ownerOf(key));
+                moved++;
+            } else {
+                assertNotEquals(removed, before.ownerOf(key));
+            }
+        }
+        assertMovedAboutOneNth(moved, NODES.size());
+    }
+
+    private static void assertMovedAboutOneNth(int moved, int nodeCount) {
+        double expected = (double) KEYS / nodeCount;
+        assertTrue(Math.abs(moved - expected) < expected * 0.3, "moved " + moved + ", expected about " + (int) expected);
+    }
+
+    private static List<String> append(List<String> nodes, String node) {
+        return Stream.concat(nodes.stream(), Stream.of(node)).toList();
+    }
+}
@@ -0,0 +1,56 @@
+package org.com.aqoo.domain.gamecore.cluster;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 한 JVM 안에서 애플리케이션 컨텍스트 여러 개를 loopback 포트로 띄워 다중 노드 동작을 확인하는 실행기
+ * 각 노드는 서로를 cluster.nodes 로 알고 있으며, 저널/스냅샷 경로는 노드마다 분리됩니다.
+ *
+ * 실행 예: LocalClusterLauncher 3 18080
+ *  (노드 수, 시작 포트 / 메인 클래스는 -Daqoo.main-class 로 변경 가능)
+ * 확인: GET http://127.0.0.1:18080/api/v1/cluster/rooms/{roomId}/owner
+ *       POST/DELETE http://127.0.0.1:18080/api/v1/cluster/nodes?node=... 로 노드 추가/제거 후 재분배 확인
+ *       (X-Cluster-Token: local 헤더 필요, 변경은 다른 노드에도 전파됨)
+ * 테스트 소스에만 포함되며 배포 jar 에는 들어가지 않습니다.
+ */
+public final class LocalClusterLauncher {
+
+    private LocalClusterLauncher() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int nodeCount = args.length > 0 ? Integer.parseInt(args[0]) : 3;
+        int basePort = args.length > 1 ? Integer.parseInt(args[1]) : 18080;
+        Class<?> mainClass = Class.forName(System.getProperty("aqoo.main-class", "org.com.aqoo.AqooApplication"));
+
+        List<String> nodes = new ArrayList<>();
+        for (int i = 0; i < nodeCount; i++) {
+            nodes.add("http://127.0.0.1:" + (basePort + i));
+        }
+        String nodeList = String.join(",", nodes);
+
+        List<ConfigurableApplicationContext> contexts = new ArrayList<>();
+        for (int i = 0; i < nodeCount; i++) {
+            int port = basePort + i;
+            contexts.add(new SpringApplicationBuilder(mainClass)
+                    .properties(
+                            "server.port=" + port,
+                            "server.address=127.0.0.1",
+                            "spring.jmx.enabled=false",
+                            "cluster.enabled=true",
+                            "cluster.self-node=" + nodes.get(i),
+                            "cluster.nodes=" + nodeList,
+                            "cluster.admin-token=local",
+                            "game.journal.dir=./data/node-" + port + "/journal",
+                            "room.snapshot.file=./data/node-" + port + "/rooms.snapshot")
+                    .run(args.length > 2 ? java.util.Arrays.copyOfRange(args, 2, args.length) : new String[0]));
+        }
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> contexts.forEach(ConfigurableApplicationContext::close)));
+        Thread.currentThread().join();
+    }
+}
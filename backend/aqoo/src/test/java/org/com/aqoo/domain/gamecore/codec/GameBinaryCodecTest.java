@@ -0,0 +1,122 @@
+package org.com.aqoo.domain.gamecore.codec;
+
+import org.com.aqoo.domain.gameA.dto.PressMessage;
+import org.com.aqoo.domain.gameB.dto.EatMessage;
+import org.com.aqoo.domain.gamecore.dto.ScoreDelta;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GameBinaryCodecTest {
+
+    private static final String ROOM_ID = UUID.randomUUID().toString();
+
+    @Test
+    void pressRoundTrip() {
+        PressMessage press = new PressMessage();
+        press.setRoomId(ROOM_ID);
+        press.setUserName("물고기왕");
+        press.setDirection(3);
+
+        PressMessage decoded = GameBinaryCodec.decodePress(GameBinaryCodec.encodePress(press));
+
+        assertEquals(ROOM_ID, decoded.getRoomId());
+        assertEquals("물고기왕", decoded.getUserName());
+        assertEquals(3, decoded.getDirection());
+    }
+
+    @Test
+    void eatRoundTripWithoutUserName() {
+        EatMessage eat = new EatMessage(ROOM_ID, null, "STONE");
+
+        EatMessage decoded = GameBinaryCodec.decodeEat(GameBinaryCodec.encodeEat(eat));
+
+        assertEquals(ROOM_ID, decoded.getRoomId());
+        assertNull(decoded.getUserName());
+        assertEquals("STONE", decoded.getItemType());
+    }
+
+    @Test
+    void tapPressRoundTrip() {
+        org.com.aqoo.domain.game.dto.PressMessage press = new org.com.aqoo.domain.game.dto.PressMessage();
+        press.setRoomId(ROOM_ID);
+        press.setUserName("user");
+        press.setPressCount(7);
+
+        org.com.aqoo.domain.game.dto.PressMessage decoded =
+                GameBinaryCodec.decodeTapPress(GameBinaryCodec.encodeTapPress(press));
+
+        assertEquals(ROOM_ID, decoded.getRoomId());
+        assertEquals("user", decoded.getUserName());
+        assertEquals(7, decoded.getPressCount());
+        assertThrows(MalformedFrameException.class,
+                () -> GameBinaryCodec.decodePress(GameBinaryCodec.encodeTapPress(press)));
+    }
+
+    @Test
+    void rejectsUnknownItem() {
+        byte[] bytes = GameBinaryCodec.encodeEat(new EatMessage(ROOM_ID, null, "FEED"));
+        // [type][16B roomId][item] 의 item 위치
+        bytes[17] = 2;
+
+        assertThrows(MalformedFrameException.class, () -> GameBinaryCodec.decodeEat(bytes));
+    }
+
+    @Test
+    void deltaLayoutIsFixed() {
+        byte[] bytes = GameBinaryCodec.encodeDelta(ScoreDelta.score(0x0102030405060708L, 5, 42));
+
+        assertArrayEquals(new byte[]{
+                GameBinaryCodec.TYPE_SCORE_DELTA,
+                1, 2, 3, 4, 5, 6, 7, 8,
+                5,
+                0, 0, 0, 42}, bytes);
+    }
+
+    @Test
+    void deltaRoundTrip() {
+        ScoreDelta stun = ScoreDelta.stun(9L, 1, 1000L);
+
+        assertEquals(stun, GameBinaryCodec.decodeDelta(GameBinaryCodec.encodeDelta(stun)));
+    }
+
+    @Test
+    void rejectsTruncatedInputFrames() {
+        PressMessage press = new PressMessage();
+        press.setRoomId(ROOM_ID);
+        press.setUserName("user");
+        byte[] bytes = GameBinaryCodec.encodePress(press);
+
+        for (int length = 0; length < bytes.length; length++) {
+            byte[] truncated = Arrays.copyOf(bytes, length);
+            assertThrows(MalformedFrameException.class, () -> GameBinaryCodec.decodePress(truncated));
+        }
+    }
+
+    @Test
+    void rejectsUserNameLengthBeyondFrame() {
+        EatMessage eat = new EatMessage(ROOM_ID, "ab", "FEED");
+        byte[] bytes = GameBinaryCodec.encodeEat(eat);
+        bytes[bytes.length - 3] = (byte) 200;
+
+        assertThrows(MalformedFrameException.class, () -> GameBinaryCodec.decodeEat(bytes));
+    }
+
+    @Test
+    void rejectsWrongTypeAndBadDeltaLength() {
+        PressMessage press = new PressMessage();
+        press.setRoomId(ROOM_ID);
+        byte[] pressBytes = GameBinaryCodec.encodePress(press);
+
+        assertThrows(MalformedFrameException.class, () -> GameBinaryCodec.decodeEat(pressBytes));
+        assertThrows(MalformedFrameException.class, () -> GameBinaryCodec.decodeDelta(new byte[3]));
+        assertThrows(MalformedFrameException.class,
+                () -> GameBinaryCodec.decodeDelta(new byte[GameBinaryCodec.DELTA_LENGTH]));
+    }
+}
@@ -0,0 +1,159 @@
+package org.com.aqoo.domain.gamecore.journal;
+
+import org.com.aqoo.domain.gamecore.metrics.GameMetrics;
+import org.com.aqoo.domain.gamecore.model.PlayerProfile;
+import org.com.aqoo.domain.gamecore.model.RoomProfileSnapshot;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GameJournalTest {
+
+    private static final RoomProfileSnapshot PROFILES = new RoomProfileSnapshot(List.of(
+            new PlayerProfile("alice", "alice", null, 1),
+            new PlayerProfile("bob", "bob", null, 1)));
+
+    @TempDir
+    Path dir;
+
+    private final List<GameJournal> opened = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        opened.forEach(GameJournal::stop);
+    }
+
+    @Test
+    void replayRebuildsLastGameOfRoom() throws Exception {
+        GameJournal journal = open(1024);
+        String roomId = UUID.randomUUID().toString();
+
+        journal.started(GameMetrics.Game.GAME_A, roomId, PROFILES, 123_456L, 42L, 100);
+        journal.record(GameMetrics.Game.GAME_A, JournalRecordType.SCORED, roomId, 1, 1);
+        journal.record(GameMetrics.Game.GAME_A, JournalRecordType.STUN_STARTED, roomId, 0, 1000);
+        journal.record(GameMetrics.Game.GAME_A, JournalRecordType.SCORED, roomId, 1, 2);
+        journal.record(GameMetrics.Game.GAME_A, JournalRecordType.FINISHED, roomId, 1, 1);
+
+        RoomReplay replay = journal.replay(roomId);
+        assertEquals("gameA", replay.getGame());
+        assertEquals(List.of("alice", "bob"), replay.getPlayers());
+        assertEquals(Map.of("alice", 0, "bob", 2), replay.getScores());
+        assertEquals(List.of("bob"), replay.getFinishOrder());
+        assertEquals(123_456L, replay.getDeadlineMillis());
+        assertEquals(42L, replay.getSeed());
+        assertEquals(100, replay.getLength());
+        assertEquals(3, replay.getVersion());
+        assertTrue(replay.isInFlight());
+
+        journal.ended(GameMetrics.Game.GAME_A, roomId);
+        assertFalse(journal.replay(roomId).isInFlight());
+    }
+
+    @Test
+    void inFlightRoomsExcludeEndedGames() throws Exception {
+        GameJournal journal = open(1024);
+        String running = UUID.randomUUID().toString();
+        String ended = UUID.randomUUID().toString();
+
+        journal.started(GameMetrics.Game.TAP, running, PROFILES, 0L, 0L, 0);
+        journal.started(GameMetrics.Game.GAME_B, ended, PROFILES, 0L, 0L, 0);
+        journal.record(GameMetrics.Game.TAP, JournalRecordType.SCORED, running, 0, 7);
+        journal.ended(GameMetrics.Game.GAME_B, ended);
+
+        assertEquals(1, journal.inFlightCount());
+        Collection<RoomReplay> inFlight = journal.inFlightRooms();
+        assertEquals(1, inFlight.size());
+        RoomReplay replay = inFlight.iterator().next();
+        assertEquals(running, replay.getRoomId());
+        assertEquals(7, replay.getScores().get("alice"));
+    }
+
+    @Test
+    void restartRebuildsIndexAcrossSegments() throws Exception {
+        GameJournal journal = open(4);
+        String roomId = UUID.randomUUID().toString();
+        journal.started(GameMetrics.Game.GAME_A, roomId, PROFILES, 0L, 7L, 10);
+        for (int score = 1; score <= 5; score++) {
+            journal.record(GameMetrics.Game.GAME_A, JournalRecordType.SCORED, roomId, 0, score);
+        }
+        journal.stop();
+
+        GameJournal restarted = open(4);
+        assertEquals(1, restarted.inFlightCount());
+        RoomReplay replay = restarted.inFlightRooms().iterator().next();
+        assertEquals(5, replay.getScores().get("alice"));
+        assertEquals(7L, replay.getSeed());
+
+        // 재시작 후 sequence 는 이어서 증가
+        restarted.ended(GameMetrics.Game.GAME_A, roomId);
+        List<JournalRecord> timeline = restarted.replay(roomId).getTimeline();
+        JournalRecord last = timeline.get(timeline.size() - 1);
+        assertEquals(JournalRecordType.ENDED, last.getType());
+        assertEquals(timeline.get(timeline.size() - 2).getSequence() + 1, last.getSequence());
+        assertEquals(0, restarted.inFlightCount());
+    }
+
+    @Test
+    void concurrentAppendsKeepEveryRecord() throws Exception {
+        GameJournal journal = open(64);
+        int threads = 8;
+        int perThread = 500;
+        List<String> roomIds = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            String roomId = UUID.randomUUID().toString();
+            roomIds.add(roomId);
+            journal.started(GameMetrics.Game.TAP, roomId, PROFILES, 0L, 0L, 0);
+        }
+
+        List<Thread> writers = new ArrayList<>();
+        for (String roomId : roomIds) {
+            Thread writer = new Thread(() -> {
+                for (int score = 1; score <= perThread; score++) {
+                    journal.record(GameMetrics.Game.TAP, JournalRecordType.SCORED, roomId, 0, score);
+                }
+            });
+            writers.add(writer);
+            writer.start();
+        }
+        for (Thread writer : writers) {
+            writer.join();
+        }
+
+        Set<Long> sequences = new HashSet<>();
+        for (String roomId : roomIds) {
+            RoomReplay replay = journal.replay(roomId);
+            assertEquals(perThread, replay.getScores().get("alice"));
+            assertEquals(perThread, replay.getVersion());
+            replay.getTimeline().forEach(record -> sequences.add(record.getSequence()));
+        }
+        // STARTED + PLAYER 2개 + SCORED, sequence 중복 없음
+        assertEquals(threads * (3 + perThread), sequences.size());
+    }
+
+    private GameJournal open(int segmentRecords) throws Exception {
+        GameJournal journal = new GameJournal();
+        ReflectionTestUtils.setField(journal, "enabled", true);
+        ReflectionTestUtils.setField(journal, "directory", dir.toString());
+        ReflectionTestUtils.setField(journal, "segmentRecords", segmentRecords);
+        ReflectionTestUtils.setField(journal, "maxSegments", 1024);
+        ReflectionTestUtils.setField(journal, "flushIntervalMillis", 50L);
+        ReflectionTestUtils.setField(journal, "restoreWindowSeconds", 600L);
+        journal.start();
+        opened.add(journal);
+        return journal;
+    }
+}
@@ -0,0 +1,100 @@
+package org.com.aqoo.domain.gamecore.service;
+
+import org.com.aqoo.domain.gamecore.codec.GameBinaryCodec;
+import org.com.aqoo.domain.gamecore.codec.GameBinaryMessageConverter;
+import org.com.aqoo.domain.gamecore.dto.ScoreDelta;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.converter.CompositeMessageConverter;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GameBroadcasterTest {
+
+    private static final String ROOM_ID = "room-1";
+
+    /** 전송된 메시지를 그대로 모아 두는 채널 */
+    private final List<Message<?>> sent = new ArrayList<>();
+    private final MessageChannel channel = (message, timeout) -> sent.add(message);
+    private final BinarySubscriptionTracker tracker = new BinarySubscriptionTracker();
+    private GameBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        SimpMessagingTemplate template = new SimpMessagingTemplate(channel);
+        // WebSocket 설정과 같은 순서: 바이너리 변환기가 content-type 을 보고 먼저 선택
+        template.setMessageConverter(new CompositeMessageConverter(
+                List.of(new GameBinaryMessageConverter(), new MappingJackson2MessageConverter())));
+        broadcaster = new GameBroadcaster(template, tracker);
+        ReflectionTestUtils.setField(broadcaster, "binaryEnabled", true);
+    }
+
+    @Test
+    void binaryClientsGetOnlyTheBinaryDelta() {
+        tracker.subscribed("s1", "sub-1", GameBroadcaster.destination(ROOM_ID));
+        tracker.subscribed("s1", "sub-2", GameBroadcaster.binaryDestination(ROOM_ID));
+        ScoreDelta delta = ScoreDelta.score(7L, 2, 30);
+
+        broadcaster.sendDelta(ROOM_ID, delta);
+
+        assertEquals(1, sent.size());
+        Message<?> binary = sent.get(0);
+        assertEquals(GameBroadcaster.binaryDestination(ROOM_ID),
+                SimpMessageHeaderAccessor.getDestination(binary.getHeaders()));
+        assertArrayEquals(GameBinaryCodec.encodeDelta(delta), (byte[]) binary.getPayload());
+    }
+
+    @Test
+    void jsonDeltaIsKeptWhileJsonOnlyClientsRemain() {
+        tracker.subscribed("s1", "sub-1", GameBroadcaster.destination(ROOM_ID));
+        tracker.subscribed("s1", "sub-2", GameBroadcaster.binaryDestination(ROOM_ID));
+        tracker.subscribed("s2", "sub-1", GameBroadcaster.destination(ROOM_ID));
+
+        broadcaster.sendDelta(ROOM_ID, ScoreDelta.score(1L, 0, 1));
+        assertEquals(List.of(GameBroadcaster.destination(ROOM_ID), GameBroadcaster.binaryDestination(ROOM_ID)),
+                destinations());
+
+        // JSON 만 받던 세션이 나가면 바이너리로만 전송
+        tracker.unsubscribed("s2", "sub-1");
+        sent.clear();
+        broadcaster.sendDelta(ROOM_ID, ScoreDelta.score(2L, 0, 2));
+        assertEquals(List.of(GameBroadcaster.binaryDestination(ROOM_ID)), destinations());
+    }
+
+    @Test
+    void binaryDeltaIsSkippedWithoutSubscribers() {
+        broadcaster.sendDelta(ROOM_ID, ScoreDelta.score(1L, 0, 1));
+
+        assertEquals(1, sent.size());
+        assertEquals(GameBroadcaster.destination(ROOM_ID),
+                SimpMessageHeaderAccessor.getDestination(sent.get(0).getHeaders()));
+    }
+
+    @Test
+    void subscriptionCountFollowsUnsubscribe() {
+        tracker.subscribed("s1", "sub-1", GameBroadcaster.binaryDestination(ROOM_ID));
+        tracker.subscribed("s1", "sub-2", GameBroadcaster.destination(ROOM_ID));
+        assertFalse(tracker.hasJsonOnlySubscribers(ROOM_ID));
+
+        tracker.unsubscribed("s1", "sub-1");
+
+        assertFalse(tracker.hasSubscribers(ROOM_ID));
+        assertTrue(tracker.hasJsonOnlySubscribers(ROOM_ID));
+    }
+
+    private List<String> destinations() {
+        return sent.stream().map(message -> SimpMessageHeaderAccessor.getDestination(message.getHeaders())).toList();
+    }
+}
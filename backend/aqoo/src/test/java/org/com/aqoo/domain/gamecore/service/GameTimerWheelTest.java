@@ -0,0 +1,96 @@
+package org.com.aqoo.domain.gamecore.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GameTimerWheelTest {
+
+    private GameTimerWheel wheel;
+
+    @BeforeEach
+    void setUp() {
+        wheel = new GameTimerWheel();
+        ReflectionTestUtils.setField(wheel, "tickMillis", 10L);
+        // 작은 바퀴로 여러 바퀴를 도는 작업도 확인
+        ReflectionTestUtils.setField(wheel, "wheelSize", 8);
+        ReflectionTestUtils.setField(wheel, "endHintToleranceSeconds", 5L);
+        wheel.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        wheel.stop();
+    }
+
+    @Test
+    void tasksRunInDeadlineOrderNotBeforeDeadline() throws Exception {
+        List<Long> lateness = new CopyOnWriteArrayList<>();
+        List<Integer> order = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(3);
+        long[] delays = {250, 30, 120};
+        for (int i = 0; i < delays.length; i++) {
+            int index = i;
+            long deadline = System.currentTimeMillis() + delays[i];
+            wheel.schedule(() -> {
+                lateness.add(System.currentTimeMillis() - deadline);
+                order.add(index);
+                done.countDown();
+            }, delays[i]);
+        }
+
+        assertTrue(done.await(2, TimeUnit.SECONDS));
+        assertEquals(List.of(1, 2, 0), order);
+        for (long late : lateness) {
+            // 틱 경계에 맞추므로 마감보다 한 틱 이상 이르지 않음
+            assertTrue(late >= -10, "ran " + (-late) + "ms early");
+        }
+    }
+
+    @Test
+    void cancelledTaskDoesNotRun() throws Exception {
+        AtomicInteger runs = new AtomicInteger();
+        GameTimerWheel.Timeout cancelled = wheel.schedule(runs::incrementAndGet, 50);
+        CountDownLatch later = new CountDownLatch(1);
+        wheel.schedule(later::countDown, 150);
+
+        assertTrue(cancelled.cancel());
+        assertTrue(later.await(2, TimeUnit.SECONDS));
+        assertEquals(0, runs.get());
+        assertFalse(cancelled.cancel());
+    }
+
+    @Test
+    void failingTaskDoesNotStopTheWheel() throws Exception {
+        wheel.schedule(() -> {
+            throw new IllegalStateException("boom");
+        }, 20);
+        CountDownLatch next = new CountDownLatch(1);
+        wheel.schedule(next::countDown, 60);
+
+        assertTrue(next.await(2, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void endHintIsAcceptedOnlyNearDeadline() {
+        GameTimerWheel.Timeout soon = wheel.schedule(() -> { }, 1_000);
+        GameTimerWheel.Timeout far = wheel.schedule(() -> { }, 60_000);
+
+        assertTrue(wheel.acceptsEndHint(soon));
+        assertFalse(wheel.acceptsEndHint(far));
+        assertTrue(wheel.acceptsEndHint(null));
+        far.cancel();
+        soon.cancel();
+    }
+}
@@ -0,0 +1,78 @@
+package org.com.aqoo.domain.gamecore.service;
+
+import org.com.aqoo.domain.game.model.TapRoomState;
+import org.com.aqoo.domain.gamecore.engine.GameRoomRegistry;
+import org.com.aqoo.domain.gamecore.model.PlayerProfile;
+import org.com.aqoo.domain.gamecore.model.PlayerSession;
+import org.com.aqoo.domain.gamecore.model.RoomProfileSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class PlayerSessionRegistryTest {
+
+    private final GameRoomRegistry gameRoomRegistry = new GameRoomRegistry();
+    private PlayerSessionRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new PlayerSessionRegistry(gameRoomRegistry);
+        registry.registerListener();
+        registry.bind("s1", "alice");
+        registry.enterRoom("s1", "room-1");
+    }
+
+    @Test
+    void authenticatedSessionIsBoundToItsRoom() {
+        assertEquals("room-1", registry.resolveRoomId("s1", null));
+        assertEquals("room-1", registry.resolveRoomId("s1", "room-1"));
+        assertNull(registry.resolveRoomId("s1", "room-2"));
+        assertEquals("alice", registry.resolveUserName("s1", "mallory"));
+    }
+
+    @Test
+    void authenticatedSessionWithoutRoomIsRejected() {
+        registry.exitRoom("s1");
+
+        assertNull(registry.resolveRoomId("s1", "room-1"));
+    }
+
+    @Test
+    void unauthenticatedSessionUsesClaimOnlyWhenAuthIsOptional() {
+        assertEquals("room-9", registry.resolveRoomId("anonymous", "room-9"));
+
+        ReflectionTestUtils.setField(registry, "requireAuth", true);
+
+        assertNull(registry.resolveRoomId("anonymous", "room-9"));
+        assertNull(registry.resolveUserName("anonymous", "bob"));
+    }
+
+    @Test
+    void slotFollowsGameLifecycle() {
+        assertEquals(PlayerSession.NO_SLOT, registry.slotOf("s1"));
+
+        TapRoomState room = new TapRoomState("room-1", new RoomProfileSnapshot(List.of(
+                new PlayerProfile("bob", "bob", null, 1),
+                new PlayerProfile("alice", "alice", null, 1))));
+        gameRoomRegistry.register(room);
+        assertEquals(1, registry.slotOf("s1"));
+
+        gameRoomRegistry.remove(room);
+        assertEquals(PlayerSession.NO_SLOT, registry.slotOf("s1"));
+    }
+
+    @Test
+    void kickReleasesTargetSessions() {
+        registry.bind("s2", "bob");
+        registry.enterRoom("s2", "room-1");
+
+        assertEquals(List.of("s2"), registry.exitRoom("room-1", "bob"));
+        assertNull(registry.resolveRoomId("s2", "room-1"));
+        assertEquals("room-1", registry.resolveRoomId("s1", "room-1"));
+    }
+}
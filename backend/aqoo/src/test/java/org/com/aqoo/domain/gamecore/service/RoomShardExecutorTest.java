@@ -0,0 +1,80 @@
+package org.com.aqoo.domain.gamecore.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RoomShardExecutorTest {
+
+    private RoomShardExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = new RoomShardExecutor();
+        ReflectionTestUtils.setField(executor, "configuredShardCount", 4);
+        executor.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.stop();
+    }
+
+    @Test
+    void tasksOfOneRoomRunInSubmissionOrderOnOneThread() throws Exception {
+        int tasks = 1_000;
+        List<Integer> order = new ArrayList<>();
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        CountDownLatch done = new CountDownLatch(tasks);
+        for (int i = 0; i < tasks; i++) {
+            int index = i;
+            executor.execute("room-1", () -> {
+                // 같은 방의 작업은 한 스레드에서만 실행되므로 동기화 없이 기록
+                order.add(index);
+                threads.add(Thread.currentThread().getName());
+                done.countDown();
+            });
+        }
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < tasks; i++) {
+            assertEquals(i, order.get(i));
+        }
+        assertEquals(Set.of("game-shard-" + executor.shardOf("room-1")), threads);
+    }
+
+    @Test
+    void failingTaskDoesNotStopTheShard() throws Exception {
+        CountDownLatch next = new CountDownLatch(1);
+        executor.execute("room-1", () -> {
+            throw new IllegalStateException("boom");
+        });
+        executor.execute("room-1", next::countDown);
+
+        assertTrue(next.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void roomsSpreadAcrossShards() {
+        Set<Integer> used = ConcurrentHashMap.newKeySet();
+        for (int i = 0; i < 100; i++) {
+            int shard = executor.shardOf("room-" + i);
+            assertTrue(shard >= 0 && shard < executor.getShardCount());
+            used.add(shard);
+        }
+
+        assertEquals(executor.getShardCount(), used.size());
+        assertEquals(0, executor.shardOf(null));
+    }
+}
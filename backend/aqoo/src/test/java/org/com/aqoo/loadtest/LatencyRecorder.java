@@ -0,0 +1,49 @@
+package org.com.aqoo.loadtest;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 부하 테스트 지연 시간 기록기
+ * 미리 잡아둔 배열에 ns 값을 채우고, 끝난 뒤 정렬하여 백분위를 계산합니다 (용량을 넘는 샘플은 개수만 집계).
+ */
+class LatencyRecorder {
+
+    private final long[] samples;
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicLong dropped = new AtomicLong();
+
+    LatencyRecorder(int capacity) {
+        this.samples = new long[capacity];
+    }
+
+    void record(long nanos) {
+        int index = size.getAndIncrement();
+        if (index < samples.length) {
+            samples[index] = nanos;
+        } else {
+            dropped.incrementAndGet();
+        }
+    }
+
+    long count() {
+        return Math.min(size.get(), samples.length) + dropped.get();
+    }
+
+    /** 기록된 샘플의 백분위 (ms), 샘플이 없으면 0 */
+    double[] percentilesMillis(double... percentiles) {
+        int n = Math.min(size.get(), samples.length);
+        long[] sorted = Arrays.copyOf(samples, n);
+        Arrays.sort(sorted);
+        double[] result = new double[percentiles.length];
+        for (int i = 0; i < percentiles.length; i++) {
+            if (n == 0) {
+                continue;
+            }
+            int rank = (int) Math.min(n - 1, Math.ceil(percentiles[i] / 100.0 * n) - 1);
+            result[i] = sorted[Math.max(0, rank)] / 1_000_000.0;
+        }
+        return result;
+    }
+}
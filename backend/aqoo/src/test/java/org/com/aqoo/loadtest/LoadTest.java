@@ -0,0 +1,33 @@
+package org.com.aqoo.loadtest;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 부하 테스트 실행 진입점 (일반 테스트에서는 건너뜀)
+ * 실행 예: -Dloadtest=true -Dgame.a.sequence-length=100000 -Dgame.a.duration-seconds=3600
+ * (게임이 측정 도중 끝나지 않도록 시퀀스 길이와 게임 시간을 충분히 늘려서 실행)
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.DEFINED_PORT)
+@ActiveProfiles("loadtest")
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+class LoadTest {
+
+    @Autowired
+    private LoadTestRunner loadTestRunner;
+
+    @Test
+    void runStages() {
+        List<String> report = loadTestRunner.runAll();
+
+        // 머리글 외에 한 단계 이상 완료
+        assertTrue(report.size() > 1);
+    }
+}
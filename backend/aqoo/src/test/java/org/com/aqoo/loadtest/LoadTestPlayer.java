@@ -0,0 +1,185 @@
+package org.com.aqoo.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.com.aqoo.domain.gameA.model.DirectionSequence;
+import org.com.aqoo.domain.gamecore.dto.ScoreDelta;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 부하 테스트용 가상 플레이어 하나 (STOMP 세션 하나)
+ * 입력마다 "이 입력이 반영되면 내 점수가 몇 점이 되는지"를 키로 전송 시각을 기록해 두고,
+ * 방 토픽에서 내 점수가 그 값 이상이 된 첫 브로드캐스트(스냅샷 또는 delta)를 받으면 지연 시간으로 기록합니다.
+ * 같은 방의 입력은 한 샤드에서 순서대로 처리되므로 점수 s 가 보이면 기대 점수 s 이하의 입력은 모두 반영된 것이고,
+ * 틱 모드처럼 여러 입력이 한 브로드캐스트로 합쳐져도 함께 완료됩니다.
+ * 제한 시간 안에 반영되지 않은 입력은 pending 에서 빼고 유실로 집계합니다 (무시/거부된 입력이 남아 쌓이지 않도록).
+ */
+@Slf4j
+class LoadTestPlayer implements StompFrameHandler {
+
+    private final String roomId;
+    private final String userName;
+    private final String game;
+    private final LatencyRecorder latencyRecorder;
+    private final AtomicLong receivedMessages;
+    private final AtomicLong lostInputs;
+
+    /** 기대 점수 -> 입력 전송 시각 (ns) */
+    private final ConcurrentSkipListMap<Integer, Long> pending = new ConcurrentSkipListMap<>();
+    private final CountDownLatch started = new CountDownLatch(1);
+
+    private StompSession session;
+    private volatile int slot = -1;
+    private volatile DirectionSequence directionSequence;
+    private volatile boolean ended;
+    private int sent;
+
+    LoadTestPlayer(String roomId, String userName, String game,
+                   LatencyRecorder latencyRecorder, AtomicLong receivedMessages, AtomicLong lostInputs) {
+        this.roomId = roomId;
+        this.userName = userName;
+        this.game = game;
+        this.latencyRecorder = latencyRecorder;
+        this.receivedMessages = receivedMessages;
+        this.lostInputs = lostInputs;
+    }
+
+    void attach(StompSession session) {
+        this.session = session;
+        session.subscribe("/topic/room/" + roomId, this);
+    }
+
+    String getUserName() {
+        return userName;
+    }
+
+    CountDownLatch getStarted() {
+        return started;
+    }
+
+    boolean isEnded() {
+        return ended;
+    }
+
+    void joinAndReady() {
+        session.send("/app/chat.joinRoom", Map.of("roomId", roomId, "sender", userName, "type", "JOIN"));
+        session.send("/app/chat.ready", Map.of("roomId", roomId, "sender", userName, "type", "READY"));
+    }
+
+    void startGame() {
+        session.send("/app/" + game + ".start", Map.of("roomId", roomId));
+    }
+
+    /** 입력 하나 전송 (gameA 는 항상 정답 방향, gameB 는 FEED) */
+    void sendInput() {
+        if (ended || slot < 0) {
+            return;
+        }
+        int expectedScore = sent + 1;
+        if ("gameA".equals(game)) {
+            DirectionSequence sequence = directionSequence;
+            if (sequence == null || sent >= sequence.length()) {
+                return;
+            }
+            pending.put(expectedScore, System.nanoTime());
+            session.send("/app/gameA.press", Map.of("roomId", roomId, "userName", userName,
+                    "direction", sequence.directionAt(sent)));
+        } else {
+            pending.put(expectedScore, System.nanoTime());
+            session.send("/app/gameB.eat", Map.of("roomId", roomId, "userName", userName, "itemType", "FEED"));
+        }
+        sent = expectedScore;
+    }
+
+    /** timeoutNanos 보다 오래 반영되지 않은 입력을 유실로 집계 (0 이면 남은 입력 전부) */
+    void expirePending(long now, long timeoutNanos) {
+        for (Map.Entry<Integer, Long> entry : pending.entrySet()) {
+            if (now - entry.getValue() >= timeoutNanos && pending.remove(entry.getKey(), entry.getValue())) {
+                lostInputs.incrementAndGet();
+            }
+        }
+    }
+
+    void disconnect() {
+        if (session != null && session.isConnected()) {
+            session.disconnect();
+        }
+    }
+
+    @Override
+    public Type getPayloadType(StompHeaders headers) {
+        return Map.class;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void handleFrame(StompHeaders headers, Object payload) {
+        long now = System.nanoTime();
+        receivedMessages.incrementAndGet();
+        Map<String, Object> body = (Map<String, Object>) payload;
+        Object message = body.get("message");
+        if (message == null) {
+            return;
+        }
+        switch (message.toString()) {
+            case "GAME_A_STARTED", "GAME_B_STARTED" -> onStarted(body);
+            case "GAME_ENDED", "GAME_B_ENDED" -> ended = true;
+            case ScoreDelta.SCORE_CHANGED -> {
+                if (((Number) body.get("slot")).intValue() == slot) {
+                    complete(((Number) body.get("score")).intValue(), now);
+                }
+            }
+            case "PRESS_UPDATED", "SCORE_UPDATED" -> {
+                Object score = ownPlayer(body).get("gameA".equals(game) ? "totalPressCount" : "score");
+                if (score != null) {
+                    complete(((Number) score).intValue(), now);
+                }
+            }
+            default -> {
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void onStarted(Map<String, Object> body) {
+        List<Map<String, Object>> players = (List<Map<String, Object>>) body.get("players");
+        for (int i = 0; i < players.size(); i++) {
+            if (userName.equals(players.get(i).get("userName"))) {
+                slot = i;
+            }
+        }
+        Object seed = body.get("directionSeed");
+        Object length = body.get("directionLength");
+        if (seed != null && length != null) {
+            directionSequence = new DirectionSequence(Long.parseLong(seed.toString()), ((Number) length).intValue());
+        }
+        started.countDown();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> ownPlayer(Map<String, Object> body) {
+        List<Map<String, Object>> players = (List<Map<String, Object>>) body.get("players");
+        if (players != null && slot >= 0 && slot < players.size()) {
+            return players.get(slot);
+        }
+        return Map.of();
+    }
+
+    /** 기대 점수가 score 이하인 입력을 모두 완료 처리 */
+    private void complete(int score, long now) {
+        Map.Entry<Integer, Long> entry;
+        while ((entry = pending.firstEntry()) != null && entry.getKey() <= score) {
+            if (pending.remove(entry.getKey(), entry.getValue())) {
+                latencyRecorder.record(now - entry.getValue());
+            }
+        }
+    }
+}
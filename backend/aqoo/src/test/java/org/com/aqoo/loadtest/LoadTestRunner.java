@@ -0,0 +1,172 @@
+package org.com.aqoo.loadtest;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.com.aqoo.domain.chat.model.ChatRoom;
+import org.com.aqoo.domain.chat.service.ChatRoomService;
+import org.com.aqoo.domain.gamecore.service.RoomLifecycleManager;
+import org.com.aqoo.util.JwtUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 부하 테스트 (테스트 소스에만 있으며 loadtest 프로필에서만 빈으로 등록, LoadTest 가 실행)
+ * 같은 프로세스에서 STOMP 클라이언트로 로컬 엔드포인트에 접속하여
+ * 방 N개 × 플레이어 M명을 만들고 joinRoom → ready → start → 일정 간격 입력(gameA.press / gameB.eat)을 반복합니다.
+ * 방 수(loadtest.room-counts)마다 입력 → 본인 점수 브로드캐스트까지의 p50/p99/p999 지연, 초당 메시지 수,
+ * loadtest.loss-timeout-millis 안에 반영되지 않은 입력 수를 로그로 남깁니다.
+ */
+@Slf4j
+@Component
+@Profile("loadtest")
+@RequiredArgsConstructor
+public class LoadTestRunner {
+
+    private final ChatRoomService chatRoomService;
+    private final RoomLifecycleManager roomLifecycleManager;
+    private final JwtUtil jwtUtil;
+
+    @Value("${loadtest.endpoint:ws://localhost:8080/ws}")
+    private String endpoint;
+
+    /** 단계별 방 수 (쉼표 구분) */
+    @Value("${loadtest.room-counts:1,10,50}")
+    private List<Integer> roomCounts;
+
+    @Value("${loadtest.players-per-room:4}")
+    private int playersPerRoom;
+
+    /** gameA 또는 gameB */
+    @Value("${loadtest.game:gameA}")
+    private String game;
+
+    /** 플레이어 한 명의 입력 간격 */
+    @Value("${loadtest.input-interval-millis:50}")
+    private long inputIntervalMillis;
+
+    /** 단계별 측정 시간 */
+    @Value("${loadtest.duration-seconds:20}")
+    private long durationSeconds;
+
+    @Value("${loadtest.latency-sample-capacity:2000000}")
+    private int latencySampleCapacity;
+
+    /** 이 시간 안에 본인 점수 브로드캐스트로 확인되지 않은 입력은 유실로 집계 */
+    @Value("${loadtest.loss-timeout-millis:2000}")
+    private long lossTimeoutMillis;
+
+    /** 모든 단계를 순서대로 실행하고 결과 표(머리글 + 단계별 한 줄) 반환 */
+    List<String> runAll() {
+        List<String> report = new ArrayList<>();
+        report.add(String.format("%-8s %-8s %10s %10s %10s %12s %12s %10s",
+                "rooms", "players", "p50(ms)", "p99(ms)", "p999(ms)", "inputs/s", "messages/s", "lost"));
+        for (int rooms : roomCounts) {
+            try {
+                report.add(runStage(rooms));
+            } catch (Exception e) {
+                log.error("Load test stage with {} rooms failed", rooms, e);
+            }
+        }
+        log.info("Load test finished ({}, endpoint={}):\n{}", game, endpoint, String.join("\n", report));
+        return report;
+    }
+
+    private String runStage(int rooms) throws Exception {
+        WebSocketStompClient stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        stompClient.setMessageConverter(new MappingJackson2MessageConverter());
+        ThreadPoolTaskScheduler heartbeatScheduler = new ThreadPoolTaskScheduler();
+        heartbeatScheduler.initialize();
+        stompClient.setTaskScheduler(heartbeatScheduler);
+
+        LatencyRecorder latencyRecorder = new LatencyRecorder(latencySampleCapacity);
+        AtomicLong receivedMessages = new AtomicLong();
+        AtomicLong sentInputs = new AtomicLong();
+        AtomicLong lostInputs = new AtomicLong();
+        long lossTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(lossTimeoutMillis);
+        List<LoadTestPlayer> players = new ArrayList<>();
+        List<String> roomIds = new ArrayList<>();
+
+        // 1. 방 생성 및 접속/입장/준비
+        for (int r = 0; r < rooms; r++) {
+            String owner = "loadtest-" + r + "-0";
+            ChatRoom room = chatRoomService.createRoom(owner);
+            roomIds.add(room.getRoomId());
+            List<LoadTestPlayer> roomPlayers = new ArrayList<>();
+            for (int p = 0; p < playersPerRoom; p++) {
+                LoadTestPlayer player = new LoadTestPlayer(room.getRoomId(), "loadtest-" + r + "-" + p,
+                        game, latencyRecorder, receivedMessages, lostInputs);
+                StompHeaders connectHeaders = new StompHeaders();
+                connectHeaders.add("Authorization", "Bearer " + jwtUtil.generateToken(player.getUserName(), "ACCESS"));
+                StompSession session = stompClient.connectAsync(endpoint, new WebSocketHttpHeaders(), connectHeaders,
+                        new StompSessionHandlerAdapter() {
+                        }).get(10, TimeUnit.SECONDS);
+                player.attach(session);
+                player.joinAndReady();
+                roomPlayers.add(player);
+            }
+            players.addAll(roomPlayers);
+            roomPlayers.get(0).startGame();
+        }
+        for (LoadTestPlayer player : players) {
+            if (!player.getStarted().await(10, TimeUnit.SECONDS)) {
+                log.warn("Player {} did not receive game start", player.getUserName());
+            }
+        }
+
+        // 2. 일정 간격 입력 (플레이어마다 고정 주기, 시작 시점은 분산)
+        ScheduledExecutorService inputScheduler =
+                Executors.newScheduledThreadPool(Math.max(2, Runtime.getRuntime().availableProcessors() / 2));
+        List<ScheduledFuture<?>> tasks = new ArrayList<>();
+        for (int i = 0; i < players.size(); i++) {
+            LoadTestPlayer player = players.get(i);
+            long initialDelay = (inputIntervalMillis * i) / Math.max(1, players.size());
+            tasks.add(inputScheduler.scheduleAtFixedRate(() -> {
+                if (!player.isEnded()) {
+                    player.expirePending(System.nanoTime(), lossTimeoutNanos);
+                    player.sendInput();
+                    sentInputs.incrementAndGet();
+                }
+            }, initialDelay, inputIntervalMillis, TimeUnit.MILLISECONDS));
+        }
+
+        long startNanos = System.nanoTime();
+        long receivedAtStart = receivedMessages.get();
+        TimeUnit.SECONDS.sleep(durationSeconds);
+        double elapsedSeconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+        long received = receivedMessages.get() - receivedAtStart;
+
+        // 3. 정리 (마지막 입력이 반영될 시간을 준 뒤 남은 입력은 유실로 집계)
+        tasks.forEach(task -> task.cancel(false));
+        inputScheduler.shutdownNow();
+        TimeUnit.MILLISECONDS.sleep(lossTimeoutMillis);
+        players.forEach(player -> player.expirePending(System.nanoTime(), 0));
+        players.forEach(LoadTestPlayer::disconnect);
+        roomIds.forEach(roomLifecycleManager::evict);
+        stompClient.stop();
+        heartbeatScheduler.shutdown();
+
+        double[] p = latencyRecorder.percentilesMillis(50, 99, 99.9);
+        String line = String.format("%-8d %-8d %10.2f %10.2f %10.2f %12.0f %12.0f %10d",
+                rooms, players.size(), p[0], p[1], p[2], sentInputs.get() / elapsedSeconds, received / elapsedSeconds,
+                lostInputs.get());
+        log.info("Load test stage done: {} rooms, {} latency samples\n{}", rooms, latencyRecorder.count(), line);
+        return line;
+    }
+}